@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,18 @@
 package org.eclipse.jdt.internal.jarpackager;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -42,6 +46,8 @@ import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 
 public class JarPackagerUtilCore {
 
+	private static final int BUFFER_SIZE= 64 * 1024;
+
 	private JarPackagerUtilCore() {
 
 	}
@@ -84,15 +90,15 @@ public class JarPackagerUtilCore {
 		Enumeration<? extends ZipEntry> jarEntriesEnum= zipFile.entries();
 		File zipFile1= new File(zipFile.getName());
 		try {
-			String zipFileCanonical= zipFile1.getCanonicalPath();
+			// the entries do not exist in the file system, so they are checked lexically against
+			// the canonical archive path instead of canonicalizing each of them
+			Path zipFileCanonical= zipFile1.getCanonicalFile().toPath();
 
 			while (jarEntriesEnum.hasMoreElements()) {
 				ZipEntry zipEntry= jarEntriesEnum.nextElement();
 				if (!zipEntry.isDirectory()) {
 					String entryName= zipEntry.getName();
-					File zipEntryFile= new File(zipFile1, entryName);
-					String zipEntryCanonical= zipEntryFile.getCanonicalPath();
-					if (zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
+					if (isInside(zipFileCanonical, entryName)) {
 						addFile(entryName, zipEntry, zipFile, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories, status);
 					} else {
 						addWarning("Invalid path" + entryName, null, status); //$NON-NLS-1$
@@ -109,6 +115,30 @@ public class JarPackagerUtilCore {
 		}
 	}
 
+	/**
+	 * Tells whether the given archive entry resolves to a location inside the given directory. The
+	 * entry name is normalized lexically, so entries like <code>../a</code> are rejected without
+	 * accessing the file system.
+	 *
+	 * @param directory the canonical path of the directory
+	 * @param entryName the name of the archive entry
+	 * @return <code>true</code> if the entry is inside the directory
+	 *
+	 * @since 1.23
+	 */
+	public static boolean isInside(Path directory, String entryName) {
+		try {
+			// like new File(parent, child), treat absolute entry names as relative
+			int start= 0;
+			while (start < entryName.length() && entryName.charAt(start) == '/')
+				start++;
+			Path entryPath= directory.resolve(entryName.substring(start)).normalize();
+			return entryPath.startsWith(directory) && !entryPath.equals(directory);
+		} catch (InvalidPathException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Write the entry to the destinationPath of the given JarOutputStream. Extracted from
 	 * org.eclipse.jdt.internal.ui.jarpackagerfat.UnpackFatJarBuilder
@@ -149,6 +179,11 @@ public class JarPackagerUtilCore {
 	/**
 	 * Write the entry to the destinationPath of the given JarOutputStream. Extracted from
 	 * org.eclipse.jdt.internal.ui.jarpackagerfat.JarWriter4
+	 * <p>
+	 * Entries which are stored uncompressed in the source archive are also stored uncompressed in a
+	 * compressed jar, since they are typically already compressed content like images or archives.
+	 * Size and CRC of these entries are taken from the source archive.
+	 * </p>
 	 *
 	 * @param zipEntry the jar entry to write
 	 * @param zipFile the zipFile to extract
@@ -170,7 +205,8 @@ public class JarPackagerUtilCore {
 		}
 		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
 
-		if (isCompressed) {
+		boolean isStoredInSource= zipEntry.getMethod() == ZipEntry.STORED && zipEntry.getSize() >= 0 && zipEntry.getCrc() != -1;
+		if (isCompressed && !isStoredInSource) {
 			newEntry.setMethod(ZipEntry.DEFLATED);
 			// Entry is filled automatically.
 		} else {
@@ -189,6 +225,49 @@ public class JarPackagerUtilCore {
 		}
 	}
 
+	/**
+	 * Write the given file to the JarOutputStream. The file is streamed instead of being read into
+	 * memory; if the entry is stored uncompressed, its size and CRC are computed in a separate pass
+	 * over the file.
+	 *
+	 * @param entry the entry to write, its method, size and CRC are set by this method
+	 * @param file the file to write
+	 * @param isCompressed <code>true</code> to deflate the entry, <code>false</code> to store it
+	 * @param jarOutputStream the destination JarOutputStream
+	 *
+	 * @throws IOException If an I/O error occurred
+	 *
+	 * @since 1.23
+	 */
+	public static void addFileEntry(JarEntry entry, File file, boolean isCompressed, JarOutputStream jarOutputStream) throws IOException {
+		if (isCompressed) {
+			entry.setMethod(ZipEntry.DEFLATED);
+			// Entry is filled automatically.
+		} else {
+			entry.setMethod(ZipEntry.STORED);
+			setCrcAndSize(entry, file);
+		}
+		try (InputStream content= new FileInputStream(file)) {
+			jarOutputStream.putNextEntry(entry);
+			content.transferTo(jarOutputStream);
+		}
+	}
+
+	private static void setCrcAndSize(ZipEntry entry, File file) throws IOException {
+		CRC32 crc= new CRC32();
+		long size= 0;
+		byte[] buffer= new byte[BUFFER_SIZE];
+		try (InputStream content= new FileInputStream(file)) {
+			int read;
+			while ((read= content.read(buffer)) != -1) {
+				crc.update(buffer, 0, read);
+				size+= read;
+			}
+		}
+		entry.setSize(size);
+		entry.setCrc(crc.getValue());
+	}
+
 	/**
 	 * Creates the directory entries for the given path and writes it to the current archive.
 	 * Extracted from org.eclipse.jdt.ui.jarpackager.JarWriter3
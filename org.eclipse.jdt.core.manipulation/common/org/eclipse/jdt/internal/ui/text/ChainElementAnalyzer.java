@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,11 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.core.CompletionContext;
@@ -34,7 +34,7 @@ import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
+	private static final Map<String, IType> typeCache= new ConcurrentHashMap<>();
 
 	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
 		try {
@@ -81,20 +81,32 @@ public final class ChainElementAnalyzer {
 
     public static Collection<IJavaElement> findVisibleInstanceFieldsAndRelevantInstanceMethods(final ChainType type,
             final ChainType receiverType) {
-        return findFieldsAndMethods(type, receiverType, NON_STATIC_FIELDS_ONLY_FILTER,
-                RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, false);
     }
 
     public static Collection<IJavaElement> findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(
             final ChainType type, final ChainType receiverType) {
-        return findFieldsAndMethods(type, receiverType, STATIC_FIELDS_ONLY_FILTER,
-                STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER);
+        return findFieldsAndMethods(findAllSupertypesIncludingArgument(type), receiverType, true);
     }
 
-    private static Collection<IJavaElement> findFieldsAndMethods(final ChainType type, final ChainType receiverType,
+    /**
+     * @param supertypes the type and its supertypes, see {@link #findAllSupertypesIncludingArgument(ChainType)}
+     * @param receiverType the type in which the completion is invoked
+     * @param staticOnly <code>true</code> to find the static fields and methods,
+     *            <code>false</code> to find the instance fields and methods
+     * @return the fields and methods of the types which can be used in a chain
+     */
+    static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final ChainType receiverType,
+            final boolean staticOnly) {
+        return staticOnly
+                ? findFieldsAndMethods(supertypes, receiverType, STATIC_FIELDS_ONLY_FILTER, STATIC_NON_VOID_NON_PRIMITIVE_METHODS_ONLY_FILTER)
+                : findFieldsAndMethods(supertypes, receiverType, NON_STATIC_FIELDS_ONLY_FILTER, RELEVANT_NON_STATIC_METHODS_ONLY_FILTER);
+    }
+
+    private static Collection<IJavaElement> findFieldsAndMethods(final List<IType> supertypes, final ChainType receiverType,
             final Predicate<IField> fieldFilter, final Predicate<IMethod> methodFilter) {
         final Map<String, IJavaElement> tmp = new LinkedHashMap<>();
-        for (final IType cur : findAllSupertypesIncludingArgument(type)) {
+        for (final IType cur : supertypes) {
             try {
 				for (final IMethod method : cur.getMethods()) {
 				    if (!methodFilter.test(method) || !methodCanBeSeenBy(method, receiverType.getType())) {
@@ -125,7 +137,7 @@ public final class ChainElementAnalyzer {
         return tmp.values();
     }
 
-    private static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
+    static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
@@ -293,7 +305,7 @@ public final class ChainElementAnalyzer {
 			if (resType != null) {
 				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
 				res= proj.findType(fqExpectedType);
-				if (isResolved) {
+				if (isResolved && res != null) {
 					typeCache.put(typeSig, res);
 				}
 				return res;
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,32 +11,80 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
+/**
+ * Searches call chains of fields and methods leading to the expected types, breadth first.
+ * <p>
+ * The chains of one depth are extended in parallel. Chains share their prefixes, so extending a
+ * chain does not copy it. The chains found are reported in the same order as by a sequential
+ * breadth first search.
+ * </p>
+ */
 public class ChainFinder {
 
+	private static final int MAX_INCOMPLETE_CHAINS= 50000;
+
+	/**
+	 * An incomplete chain, sharing its prefix with the other chains extending the same prefix.
+	 */
+	private record PartialChain(PartialChain prefix, ChainElement first, ChainElement last, int size) {
+
+		PartialChain(ChainElement entrypoint) {
+			this(null, entrypoint, entrypoint, 1);
+		}
+
+		PartialChain append(ChainElement edge) {
+			return new PartialChain(this, first, edge, size + 1);
+		}
+
+		boolean contains(ChainElement edge) {
+			for (PartialChain chain= this; chain != null; chain= chain.prefix) {
+				if (chain.last.equals(edge)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		List<ChainElement> toList() {
+			ChainElement[] elements= new ChainElement[size];
+			for (PartialChain chain= this; chain != null; chain= chain.prefix) {
+				elements[chain.size - 1]= chain.last;
+			}
+			return Arrays.asList(elements);
+		}
+	}
+
+	private record MembersKey(IType type, String primitiveType, boolean staticOnly) {
+	}
+
+	private record AssignableKey(IJavaElement edge, IType expectedType, int expectedDimension) {
+	}
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
 
 	private final IType receiverType;
 
-	private final List<Chain> chains= new LinkedList<>();
+	private final List<Chain> chains= new CopyOnWriteArrayList<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
+	private final Map<IJavaElement, ChainElement> edgeCache= new ConcurrentHashMap<>();
 
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
+	private final Map<MembersKey, List<IJavaElement>> fieldsAndMethodsCache= new ConcurrentHashMap<>();
 
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	private final Map<AssignableKey, Boolean> assignableCache= new ConcurrentHashMap<>();
 
 	private volatile boolean isCanceled;
 
@@ -76,30 +124,39 @@ public class ChainFinder {
 
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		List<PartialChain> incompleteChains= prepareQueue(entrypoints);
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
-			final ChainElement edge= chain.getLast();
-			final ChainElement start= chain.getFirst();
-			if (isValidEndOfChain(edge, start, expectedType, expectedDimensions)) {
-				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+			// null for the chains ending with the expected type, the extended chains otherwise
+			final List<List<PartialChain>> extendedChains= incompleteChains.parallelStream()
+					.map(chain -> isValidEndOfChain(chain.last(), chain.first(), expectedType, expectedDimensions)
+							? null
+							: chain.size() < maxDepth ? searchDeeper(chain) : List.<PartialChain> of())
+					.toList();
+
+			final List<PartialChain> nextChains= new ArrayList<>();
+			for (int i= 0; i < incompleteChains.size() && !isCanceled; i++) {
+				final PartialChain chain= incompleteChains.get(i);
+				final List<PartialChain> extended= extendedChains.get(i);
+				if (extended == null) {
+					if (chain.size() >= minDepth) {
+						chains.add(new Chain(chain.toList(), expectedDimensions));
+						if (chains.size() == maxChains) {
+							return;
+						}
 					}
+				} else if (nextChains.size() <= MAX_INCOMPLETE_CHAINS) {
+					nextChains.addAll(extended);
 				}
-				continue;
-			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
-				searchDeeper(chain, incompleteChains, edge.getReturnType());
 			}
+			incompleteChains= nextChains;
 		}
 	}
 
 	/**
 	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * happened. The contents of this list are mutable and may change as the search makes progress,
+	 * it can be iterated while the search is running.
 	 *
 	 * @return The list of call chains
 	 */
@@ -107,12 +164,10 @@ public class ChainFinder {
 		return chains;
 	}
 
-	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= new LinkedList<>();
+	private static List<PartialChain> prepareQueue(final List<ChainElement> entrypoints) {
+		final List<PartialChain> incompleteChains= new ArrayList<>(entrypoints.size());
 		for (final ChainElement entrypoint : entrypoints) {
-			final LinkedList<ChainElement> chain= new LinkedList<>();
-			chain.add(entrypoint);
-			incompleteChains.add(chain);
+			incompleteChains.add(new PartialChain(entrypoint));
 		}
 		return incompleteChains;
 	}
@@ -147,42 +202,42 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
+		final AssignableKey key= new AssignableKey(edge.getElement(), expectedType.getType(), expectedDimension);
+		Boolean isAssignable= assignableCache.get(key);
 		if (isAssignable == null) {
 			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
+			assignableCache.put(key, isAssignable);
 		}
 		return isAssignable;
 	}
 
-	private void searchDeeper(final LinkedList<ChainElement> chain,
-			final List<LinkedList<ChainElement>> incompleteChains, final ChainType currentlyVisitedType) {
-		boolean staticOnly= false;
-		if (chain.getLast().getElementType() == ElementType.TYPE) {
-			staticOnly= true;
+	private List<PartialChain> searchDeeper(final PartialChain chain) {
+		if (isCanceled) {
+			return List.of();
 		}
+		final boolean staticOnly= chain.last().getElementType() == ElementType.TYPE;
 
-		for (final IJavaElement element : findAllFieldsAndMethods(currentlyVisitedType, staticOnly)) {
+		final List<PartialChain> extendedChains= new ArrayList<>();
+		for (final IJavaElement element : findAllFieldsAndMethods(chain.last().getReturnType(), staticOnly)) {
 			final ChainElement newEdge= createEdge(element);
 			if (newEdge.getElementType() != null && !chain.contains(newEdge)) {
-				incompleteChains.add(cloneChainAndAppendEdge(chain, newEdge));
+				extendedChains.add(chain.append(newEdge));
 			}
 		}
+		return extendedChains;
 	}
 
 	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
+		final MembersKey key= new MembersKey(chainElementType.getType(), chainElementType.getPrimitiveType(), staticOnly);
+		List<IJavaElement> cached= fieldsAndMethodsCache.get(key);
 		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
+			cached= new ArrayList<>();
+			for (final IJavaElement e : ChainMemberCache.getDefault().getFieldsAndMethods(chainElementType, receiverType, staticOnly)) {
 				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
 					cached.add(e);
 				}
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
+			fieldsAndMethodsCache.put(key, cached);
 		}
 		return cached;
 	}
@@ -191,16 +246,11 @@ public class ChainFinder {
 		ChainElement cached= edgeCache.get(member);
 		if (cached == null) {
 			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
+			final ChainElement previous= edgeCache.putIfAbsent(member, cached);
+			if (previous != null) {
+				cached= previous;
+			}
 		}
 		return cached;
 	}
-
-	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
-			final ChainElement newEdge) {
-		@SuppressWarnings("unchecked")
-		final LinkedList<ChainElement> chainCopy= (LinkedList<ChainElement>) chain.clone();
-		chainCopy.add(newEdge);
-		return chainCopy;
-	}
 }
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.internal.corext.util.CompilationUnitDeltas;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+/**
+ * Caches the fields and methods found by {@link ChainElementAnalyzer} across chain completion
+ * invocations.
+ * <p>
+ * The members of a type are discarded when the declaration of the type, of one of its supertypes
+ * or of the receiver type changes structurally, e.g. when members are added or removed or their
+ * signatures, modifiers or supertypes change. Changes of method bodies keep the cache. The cache
+ * is cleared on changes above compilation units, like classpath changes or changed libraries.
+ * </p>
+ *
+ * @since 1.23
+ */
+final class ChainMemberCache implements IElementChangedListener {
+
+	private static final int MAX_SIZE= 2000;
+
+	private record Key(IType type, IType receiverType, boolean staticOnly) {
+	}
+
+	/**
+	 * The members of a type.
+	 *
+	 * @param members the unmodifiable list of fields and methods
+	 * @param units the primary compilation units declaring the type, its supertypes and the
+	 *            receiver type
+	 */
+	private record Entry(List<IJavaElement> members, Set<ICompilationUnit> units) {
+	}
+
+	private static ChainMemberCache fgInstance;
+
+	private final Map<Key, Entry> fCache= new LRUMap<>(MAX_SIZE);
+
+	private ChainMemberCache() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static synchronized ChainMemberCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new ChainMemberCache();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Returns the fields and methods of the given type which can be used in a chain.
+	 *
+	 * @param type the type to get the members for
+	 * @param receiverType the type in which the completion is invoked, can be <code>null</code>
+	 * @param staticOnly <code>true</code> to get the static fields and methods,
+	 *            <code>false</code> to get the instance fields and methods
+	 * @return the unmodifiable list of fields and methods
+	 */
+	List<IJavaElement> getFieldsAndMethods(ChainType type, IType receiverType, boolean staticOnly) {
+		if (type.getType() == null || receiverType == null) {
+			List<IType> supertypes= ChainElementAnalyzer.findAllSupertypesIncludingArgument(type);
+			return List.copyOf(ChainElementAnalyzer.findFieldsAndMethods(supertypes, new ChainType(receiverType), staticOnly));
+		}
+		Key key= new Key(type.getType(), receiverType, staticOnly);
+		synchronized (this) {
+			Entry entry= fCache.get(key);
+			if (entry != null) {
+				return entry.members();
+			}
+		}
+		// computed outside of the lock, the same members may be computed concurrently
+		List<IType> supertypes= ChainElementAnalyzer.findAllSupertypesIncludingArgument(type);
+		List<IJavaElement> members= List.copyOf(ChainElementAnalyzer.findFieldsAndMethods(supertypes, new ChainType(receiverType), staticOnly));
+		Set<ICompilationUnit> units= new HashSet<>();
+		addCompilationUnit(receiverType, units);
+		for (IType supertype : supertypes) {
+			addCompilationUnit(supertype, units);
+		}
+		synchronized (this) {
+			fCache.put(key, new Entry(members, units));
+		}
+		return members;
+	}
+
+	private static void addCompilationUnit(IType type, Set<ICompilationUnit> units) {
+		ICompilationUnit unit= type.getCompilationUnit();
+		if (unit != null) {
+			units.add(unit.getPrimary());
+		}
+	}
+
+	synchronized void clear() {
+		fCache.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<ICompilationUnit> changedUnits= new HashSet<>();
+		boolean limited= CompilationUnitDeltas.visit(event.getDelta(), delta -> {
+			if (!(delta.getElement() instanceof ICompilationUnit unit))
+				return false;
+			if (CompilationUnitDeltas.isStructuralChange(delta)) {
+				changedUnits.add(unit.getPrimary());
+			}
+			return true;
+		});
+		if (!limited) {
+			clear();
+			return;
+		}
+		if (changedUnits.isEmpty()) {
+			return;
+		}
+		synchronized (this) {
+			for (Iterator<Entry> iterator= fCache.values().iterator(); iterator.hasNext();) {
+				Set<ICompilationUnit> units= iterator.next().units();
+				for (ICompilationUnit unit : changedUnits) {
+					if (units.contains(unit)) {
+						iterator.remove();
+						break;
+					}
+				}
+			}
+		}
+	}
+}
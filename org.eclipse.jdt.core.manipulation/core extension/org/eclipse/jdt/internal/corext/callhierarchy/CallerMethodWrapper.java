@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,27 +17,36 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
@@ -147,14 +156,21 @@ public class CallerMethodWrapper extends MethodWrapper {
 				return new HashMap<>(0);
 			}
 
+			IJavaSearchScope defaultSearchScope= getSearchScope();
+			CallerSearchCache cache= CallerSearchCache.getDefault();
+			Map<String, MethodCall> cachedCallers= cache.get(getCacheKey(), defaultSearchScope);
+			if (cachedCallers != null)
+				return cachedCallers;
+
 			SearchEngine searchEngine= new SearchEngine();
 			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
 			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
 			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
 			searchEngine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, searchScope, searchRequestor,
 					monitor);
-			return searchRequestor.getCallers();
+			Map<String, MethodCall> callers= searchRequestor.getCallers();
+			cache.put(getCacheKey(), member, type != null ? type.getElementName() : member.getElementName(), defaultSearchScope, callers);
+			return callers;
 
 		} catch (CoreException e) {
 			JavaManipulationPlugin.log(e);
@@ -162,6 +178,147 @@ public class CallerMethodWrapper extends MethodWrapper {
 		}
 	}
 
+	/**
+	 * Searches the callers of several members with a single search and adds them to the search
+	 * cache shared by all call hierarchies, so that the callers of the members are not searched one
+	 * by one when they are expanded.
+	 * <p>
+	 * The search engine does not report which of the combined patterns a match belongs to, so the
+	 * callers are attributed to the members by the name found in the matched source range. Members
+	 * sharing their name with another member, constructors, types, private members and fields
+	 * searched for other accesses than references are left to the search of the individual member.
+	 * If a match cannot be attributed, no callers are cached.
+	 * </p>
+	 *
+	 * @param wrappers the caller wrappers, e.g. the children of an expanded caller
+	 * @param progressMonitor the progress monitor
+	 * @since 1.23
+	 */
+	public static void searchCallers(List<CallerMethodWrapper> wrappers, IProgressMonitor progressMonitor) {
+		IJavaSearchScope scope= CallHierarchyCore.getDefault().getSearchScope();
+		CallerSearchCache cache= CallerSearchCache.getDefault();
+		Map<String, List<CallerMethodWrapper>> wrappersByName= new LinkedHashMap<>();
+		try {
+			for (CallerMethodWrapper wrapper : wrappers) {
+				IMember member= wrapper.getMember();
+				boolean canBatch= member instanceof IMethod method
+						? !method.isConstructor()
+						: member instanceof IField && wrapper.getFieldSearchMode() == IJavaSearchConstants.REFERENCES;
+				if (canBatch && !JdtFlags.isPrivate(member) && !cache.contains(wrapper.getCacheKey(), scope)) {
+					wrappersByName.computeIfAbsent(member.getElementName(), name -> new ArrayList<>()).add(wrapper);
+				}
+			}
+			Map<String, CallerMethodWrapper> batched= new HashMap<>();
+			SearchPattern pattern= null;
+			for (Map.Entry<String, List<CallerMethodWrapper>> entry : wrappersByName.entrySet()) {
+				if (entry.getValue().size() == 1) {
+					CallerMethodWrapper wrapper= entry.getValue().get(0);
+					SearchPattern memberPattern= SearchPattern.createPattern(wrapper.getMember(), IJavaSearchConstants.REFERENCES, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+					if (memberPattern != null) {
+						batched.put(entry.getKey(), wrapper);
+						pattern= pattern == null ? memberPattern : SearchPattern.createOrPattern(pattern, memberPattern);
+					}
+				}
+			}
+			if (batched.size() < 2)
+				return;
+
+			Map<String, CallSearchResultCollector> collectors= new HashMap<>();
+			for (String name : batched.keySet()) {
+				collectors.put(name, new CallSearchResultCollector());
+			}
+			boolean[] unattributed= new boolean[1];
+			new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+				@Override
+				public void acceptSearchMatch(SearchMatch match) throws CoreException {
+					if (match.getAccuracy() != SearchMatch.A_ACCURATE || match.isInsideDocComment())
+						return;
+					if (!(match.getElement() instanceof IMember caller))
+						return;
+					switch (caller.getElementType()) {
+						case IJavaElement.METHOD:
+						case IJavaElement.TYPE:
+						case IJavaElement.FIELD:
+						case IJavaElement.INITIALIZER:
+							Set<String> names= getMatchedNames(caller, match, batched.keySet());
+							if (names.size() == 1) {
+								collectors.get(names.iterator().next()).addMember(caller, caller, match.getOffset(), match.getOffset() + match.getLength());
+							} else {
+								unattributed[0]= true;
+							}
+							break;
+						default:
+							break;
+					}
+				}
+			}, progressMonitor);
+			if (unattributed[0] || progressMonitor != null && progressMonitor.isCanceled())
+				return;
+			for (Map.Entry<String, CallerMethodWrapper> entry : batched.entrySet()) {
+				CallerMethodWrapper wrapper= entry.getValue();
+				cache.put(wrapper.getCacheKey(), wrapper.getMember(), entry.getKey(), scope, collectors.get(entry.getKey()).getCallers());
+			}
+		} catch (CoreException e) {
+			// the callers are searched individually
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the given names occurring as identifiers in the source range of the given match.
+	 *
+	 * @param caller the element enclosing the match
+	 * @param match the search match
+	 * @param names the names to look for
+	 * @return the names found in the matched range, empty if the source is not available
+	 * @throws JavaModelException if the buffer cannot be accessed
+	 */
+	private static Set<String> getMatchedNames(IMember caller, SearchMatch match, Set<String> names) throws JavaModelException {
+		Set<String> found= new HashSet<>();
+		IOpenable openable= caller.getOpenable();
+		IBuffer buffer= openable != null ? openable.getBuffer() : null;
+		int offset= match.getOffset();
+		int length= match.getLength();
+		if (buffer == null || offset < 0 || length <= 0 || offset + length > buffer.getLength())
+			return found;
+		String text= buffer.getText(offset, length);
+		int i= 0;
+		while (i < length) {
+			if (Character.isJavaIdentifierStart(text.charAt(i))) {
+				int start= i++;
+				while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+					i++;
+				}
+				String identifier= text.substring(start, i);
+				if (names.contains(identifier)) {
+					found.add(identifier);
+				}
+			} else {
+				i++;
+			}
+		}
+		return found;
+	}
+
+	private String getCacheKey() {
+		return getMember().getHandleIdentifier() + '#' + getFieldSearchMode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The callers are also removed from the cache shared by all call hierarchies, so that they are
+	 * searched again.
+	 * </p>
+	 *
+	 * @since 1.23
+	 */
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		CallerSearchCache.getDefault().remove(getCacheKey());
+	}
+
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
 		if (!JdtFlags.isPrivate(member) || isRecordComponent(member))
 			return defaultSearchScope;
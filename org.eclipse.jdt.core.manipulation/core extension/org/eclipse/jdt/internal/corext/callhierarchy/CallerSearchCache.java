@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.corext.util.CompilationUnitDeltas;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+import org.eclipse.jdt.internal.ui.util.StringMatcher;
+
+/**
+ * Caches the callers found by {@link CallerMethodWrapper} across call hierarchy roots and
+ * refreshes of the view, so that expanding the same member again does not search the workspace
+ * again.
+ * <p>
+ * Changes of compilation units, including reconciled changes in working copies, are taken from the
+ * Java element deltas:
+ * </p>
+ * <ul>
+ * <li>the callers found in a changed or removed unit are discarded.</li>
+ * <li>the callers of the types and members changed in the unit are discarded. Without details,
+ * e.g. for removed units, the callers of all members declared in the unit are discarded.</li>
+ * <li>added units and changed method bodies can contain new calls of any member. The units are
+ * remembered and only scanned for the names of the cached members when callers are requested
+ * next.</li>
+ * </ul>
+ * <p>
+ * The cache is cleared on structural changes above compilation units, like added or removed
+ * package fragment roots or classpath changes, and whenever the search scope or the filter
+ * settings change.
+ * </p>
+ *
+ * @since 1.23
+ */
+final class CallerSearchCache implements IElementChangedListener {
+
+	private static final int MAX_SIZE= 1000;
+
+	/**
+	 * The settings which influence the search results. The ignore filters are compared by identity,
+	 * they are parsed again whenever the filters change.
+	 */
+	private record Settings(IJavaSearchScope scope, boolean showAll, boolean hideTestCode, boolean showTestCodeOnly, StringMatcher[] ignoreFilters) {
+	}
+
+	/**
+	 * The callers of a member.
+	 *
+	 * @param unit the compilation unit declaring the searched member, <code>null</code> if binary
+	 * @param name the simple name under which the member is referenced
+	 * @param callers a map from handle identifier to {@link MethodCall}
+	 */
+	private record Entry(ICompilationUnit unit, String name, Map<String, MethodCall> callers) {
+	}
+
+	private static CallerSearchCache fgInstance;
+
+	private final Map<String, Entry> fCallers= new LRUMap<>(MAX_SIZE);
+
+	private Settings fSettings;
+
+	/**
+	 * The primary compilation units which may contain new calls since they were last scanned.
+	 */
+	private final Set<ICompilationUnit> fChangedUnits= new LinkedHashSet<>();
+
+	private CallerSearchCache() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static synchronized CallerSearchCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new CallerSearchCache();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Returns the cached callers.
+	 *
+	 * @param key the key of the searched member
+	 * @param scope the search scope
+	 * @return a map from handle identifier to {@link MethodCall}, or <code>null</code> if not cached
+	 */
+	synchronized Map<String, MethodCall> get(String key, IJavaSearchScope scope) {
+		validate(scope);
+		scanChangedUnits();
+		Entry entry= fCallers.get(key);
+		return entry == null ? null : new HashMap<>(entry.callers());
+	}
+
+	/**
+	 * @param key the key of the searched member
+	 * @param scope the search scope
+	 * @return <code>true</code> if the callers are cached
+	 */
+	synchronized boolean contains(String key, IJavaSearchScope scope) {
+		validate(scope);
+		scanChangedUnits();
+		return fCallers.containsKey(key);
+	}
+
+	/**
+	 * Caches the callers found by a completed search.
+	 *
+	 * @param key the key of the searched member
+	 * @param member the searched member
+	 * @param name the simple name under which the member is referenced
+	 * @param scope the search scope
+	 * @param callers a map from handle identifier to {@link MethodCall}
+	 */
+	synchronized void put(String key, IMember member, String name, IJavaSearchScope scope, Map<String, MethodCall> callers) {
+		validate(scope);
+		ICompilationUnit unit= member.getCompilationUnit();
+		fCallers.put(key, new Entry(unit == null ? null : unit.getPrimary(), name, new HashMap<>(callers)));
+	}
+
+	synchronized void remove(String key) {
+		fCallers.remove(key);
+	}
+
+	synchronized void clear() {
+		fCallers.clear();
+		fChangedUnits.clear();
+	}
+
+	private void validate(IJavaSearchScope scope) {
+		CallHierarchyCore core= CallHierarchyCore.getDefault();
+		Settings settings= new Settings(scope, core.isShowAll(), core.isHideTestCode(), core.isShowTestCode(), core.getIgnoreFilters());
+		if (!settings.equals(fSettings)) {
+			clear();
+			fSettings= settings;
+		}
+	}
+
+	/**
+	 * Discards the callers of the members whose names occur in the compilation units changed since
+	 * the last scan.
+	 */
+	private void scanChangedUnits() {
+		for (ICompilationUnit unit : fChangedUnits) {
+			if (fCallers.isEmpty())
+				break;
+			String source;
+			try {
+				source= unit.exists() ? unit.getSource() : null;
+			} catch (JavaModelException e) {
+				source= null;
+			}
+			if (source == null)
+				continue;
+			Set<String> identifiers= getIdentifiers(source);
+			fCallers.values().removeIf(entry -> identifiers.contains(entry.name()));
+		}
+		fChangedUnits.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fCallers.isEmpty())
+				return;
+		}
+		Map<ICompilationUnit, Set<String>> changedUnits= new HashMap<>();
+		Set<ICompilationUnit> newCalls= new HashSet<>();
+		if (!collectChangedUnits(event.getDelta(), changedUnits, newCalls)) {
+			clear();
+			return;
+		}
+		synchronized (this) {
+			for (Map.Entry<ICompilationUnit, Set<String>> changedUnit : changedUnits.entrySet()) {
+				invalidate(changedUnit.getKey(), changedUnit.getValue());
+			}
+			fChangedUnits.addAll(newCalls);
+			if (fChangedUnits.size() > MAX_SIZE) {
+				clear();
+			}
+		}
+	}
+
+	/**
+	 * Discards the callers affected by a change of the given compilation unit.
+	 *
+	 * @param unit the changed primary compilation unit
+	 * @param names the names of the changed types and members, or <code>null</code> if all members
+	 *            declared in the unit may have changed
+	 */
+	private void invalidate(ICompilationUnit unit, Set<String> names) {
+		for (Iterator<Entry> iterator= fCallers.values().iterator(); iterator.hasNext();) {
+			Entry entry= iterator.next();
+			boolean changed= names == null ? unit.equals(entry.unit()) : names.contains(entry.name());
+			if (changed || containsCaller(entry, unit)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static boolean containsCaller(Entry entry, ICompilationUnit unit) {
+		for (MethodCall call : entry.callers().values()) {
+			ICompilationUnit callerUnit= call.getMember().getCompilationUnit();
+			if (callerUnit != null && unit.equals(callerUnit.getPrimary()))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the compilation units affected by the given delta.
+	 *
+	 * @param delta the Java element delta
+	 * @param changedUnits the map to add the changed primary compilation units to, with the names of
+	 *            the changed types and members, or <code>null</code> if the delta has no details
+	 * @param newCalls the set to add the primary compilation units to which may contain new calls
+	 * @return <code>false</code> if the whole cache is affected
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, Map<ICompilationUnit, Set<String>> changedUnits, Set<ICompilationUnit> newCalls) {
+		return CompilationUnitDeltas.visit(delta, unitDelta -> {
+			if (!(unitDelta.getElement() instanceof ICompilationUnit unit))
+				return false;
+			ICompilationUnit primary= unit.getPrimary();
+			int flags= unitDelta.getFlags();
+			if (unitDelta.getKind() == IJavaElementDelta.REMOVED) {
+				changedUnits.put(primary, null);
+			} else if (unitDelta.getKind() == IJavaElementDelta.ADDED) {
+				changedUnits.put(primary, null);
+				newCalls.add(primary);
+			} else if ((flags & IJavaElementDelta.F_FINE_GRAINED) != 0) {
+				Set<String> names= new HashSet<>();
+				collectChangedNames(unitDelta, names);
+				if (!changedUnits.containsKey(primary)) {
+					changedUnits.put(primary, names);
+				} else if (changedUnits.get(primary) != null) {
+					changedUnits.get(primary).addAll(names);
+				}
+				newCalls.add(primary);
+			} else if ((flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY)) != 0) {
+				changedUnits.put(primary, null);
+				newCalls.add(primary);
+			}
+			return true;
+		});
+	}
+
+	private static void collectChangedNames(IJavaElementDelta delta, Set<String> names) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			IJavaElement element= child.getElement();
+			if (element instanceof IMember) {
+				names.add(element.getElementName());
+			}
+			collectChangedNames(child, names);
+		}
+	}
+
+	private static Set<String> getIdentifiers(String source) {
+		Set<String> identifiers= new HashSet<>();
+		if (source == null)
+			return identifiers;
+		int length= source.length();
+		for (int i= 0; i < length; i++) {
+			if (Character.isJavaIdentifierStart(source.charAt(i))) {
+				int start= i;
+				while (i + 1 < length && Character.isJavaIdentifierPart(source.charAt(i + 1))) {
+					i++;
+				}
+				identifiers.add(source.substring(start, i + 1));
+			}
+		}
+		return identifiers;
+	}
+}
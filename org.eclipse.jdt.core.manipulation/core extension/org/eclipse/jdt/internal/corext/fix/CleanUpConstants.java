@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2291,6 +2291,20 @@ public class CleanUpConstants {
 	 */
 	public static final String SHOW_CLEAN_UP_WIZARD= "cleanup.showwizard"; //$NON-NLS-1$
 
+	/**
+	 * Number of compilation units which are parsed and cleaned up concurrently when executing the
+	 * Clean Up Action. The number is bounded by the available processors and heap. Values smaller
+	 * than 2 clean up one compilation unit at a time, which is required if a contributed clean up
+	 * is not thread-safe.<br>
+	 * <br>
+	 * Possible values: {@code int} <br>
+	 * Default value: {@code 1}<br>
+	 * <br>
+	 *
+	 * @since 1.23
+	 */
+	public static final String CLEAN_UP_PARALLELISM= "cleanup.parallelism"; //$NON-NLS-1$
+
 	/**
 	 * A key to a serialized string in the {@code InstanceScope} containing all the profiles.<br>
 	 * Following code snippet can load the profiles:
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -154,31 +154,38 @@ public class RefactoringSearchEngine {
 	}
 
 	/**
+	 * Groups the matches in a single pass over the collected matches. The groups are not built
+	 * while the search reports matches, since the clients only process the groups after the
+	 * search has finished.
+	 *
 	 * @param matchList a List of SearchMatch
 	 * @param status the status to report errors.
 	 * @return a SearchResultGroup[], grouped by SearchMatch#getResource()
 	 */
 	public static SearchResultGroup[] groupByCu(List<SearchMatch> matchList, RefactoringStatus status) {
 		Map<IResource, List<SearchMatch>> grouped= new HashMap<>();
+		Set<IResource> nonCuResources= new HashSet<>();
 		boolean hasPotentialMatches= false;
-		boolean hasNonCuMatches= false;
 
+		// resolves each resource once, not once per match
 		for (SearchMatch searchMatch : matchList) {
 			if (searchMatch.getAccuracy() == SearchMatch.A_INACCURATE)
 				hasPotentialMatches= true;
-			if (! grouped.containsKey(searchMatch.getResource()))
-				grouped.put(searchMatch.getResource(), new ArrayList<>(1));
-			grouped.get(searchMatch.getResource()).add(searchMatch);
-		}
-
-		for (Iterator<IResource> iter= grouped.keySet().iterator(); iter.hasNext();) {
-			IResource resource= iter.next();
-			IJavaElement element= JavaCore.create(resource);
-			if (! (element instanceof ICompilationUnit)) {
-				iter.remove();
-				hasNonCuMatches= true;
+			IResource resource= searchMatch.getResource();
+			List<SearchMatch> searchMatches= grouped.get(resource);
+			if (searchMatches == null) {
+				if (nonCuResources.contains(resource))
+					continue;
+				if (!(JavaCore.create(resource) instanceof ICompilationUnit)) {
+					nonCuResources.add(resource);
+					continue;
+				}
+				searchMatches= new ArrayList<>(1);
+				grouped.put(resource, searchMatches);
 			}
+			searchMatches.add(searchMatch);
 		}
+		boolean hasNonCuMatches= !nonCuResources.isEmpty();
 
 		SearchResultGroup[] result= new SearchResultGroup[grouped.size()];
 		int i= 0;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,13 +19,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.core.resources.IResource;
 
@@ -74,8 +83,6 @@ import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
-import org.eclipse.jdt.internal.ui.util.Progress;
-
 public class RenameAnalyzeUtil {
 
 	private static class ProblemNodeFinder {
@@ -183,23 +190,129 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * The maximum number of threads working on the compilation units of a rename.
+	 */
+	private static final int PARALLELISM= Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Creates a bounded executor for the compilation units of a rename. Tasks which cannot be
+	 * queued run in the calling thread, closing the executor waits for the running tasks.
+	 *
+	 * @return the executor
+	 */
+	static ExecutorService createExecutor() {
+		return new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 5, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(PARALLELISM), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Waits for the result of a task, checking the progress monitor while waiting.
+	 *
+	 * @param future the task
+	 * @param pm the progress monitor
+	 * @return the result of the task
+	 * @throws CoreException if the task failed with a core exception
+	 * @throws OperationCanceledException if the monitor is canceled or the thread is interrupted
+	 */
+	static <T> T waitFor(Future<T> future, IProgressMonitor pm) throws CoreException {
+		while (true) {
+			if (pm.isCanceled())
+				throw new OperationCanceledException();
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check the monitor again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof CoreException coreException)
+					throw coreException;
+				if (cause instanceof RuntimeException runtimeException)
+					throw runtimeException;
+				if (cause instanceof Error error)
+					throw error;
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Creates working copies with the contents of the changed compilation units. The working
+	 * copies are created and reconciled in parallel on a bounded executor, the progress is reported
+	 * per compilation unit. If creating a working copy fails or the monitor is canceled, the
+	 * pending creations are canceled and the working copies created so far are discarded.
+	 *
+	 * @param compilationUnitsToModify the compilation units
+	 * @param manager the text change manager with the changes of the compilation units
+	 * @param owner the owner of the new working copies
+	 * @param pm the progress monitor
+	 * @return the new working copies, in the order of the compilation units
+	 * @throws CoreException if creating a working copy fails
+	 */
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
+		List<Future<ICompilationUnit>> creations= new ArrayList<>(compilationUnitsToModify.length);
 		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
-		for (int i= 0; i < compilationUnitsToModify.length; i++) {
-			ICompilationUnit cu= compilationUnitsToModify[i];
-			newWorkingCopies[i]= createNewWorkingCopy(cu, manager, owner, Progress.subMonitor(pm, 1));
+		boolean completed= false;
+		try {
+			try (ExecutorService executor= createExecutor()) {
+				try {
+					for (ICompilationUnit cu : compilationUnitsToModify) {
+						if (pm.isCanceled())
+							throw new OperationCanceledException();
+						// the text change manager is not thread safe
+						TextChange change= manager.get(cu);
+						creations.add(executor.submit(() -> {
+							if (pm.isCanceled())
+								throw new OperationCanceledException();
+							return createNewWorkingCopy(cu, change, owner, new NullProgressMonitor());
+						}));
+					}
+					for (int i= 0; i < newWorkingCopies.length; i++) {
+						newWorkingCopies[i]= waitFor(creations.get(i), pm);
+						pm.worked(1);
+					}
+					completed= true;
+				} finally {
+					if (!completed) {
+						for (Future<ICompilationUnit> creation : creations) {
+							creation.cancel(false);
+						}
+					}
+				}
+			}
+			return newWorkingCopies;
+		} finally {
+			if (!completed) {
+				// the executor has been closed, all creations are done or canceled
+				for (Future<ICompilationUnit> creation : creations) {
+					if (creation.state() == Future.State.SUCCESS)
+						creation.resultNow().discardWorkingCopy();
+				}
+			}
+			pm.done();
 		}
-		pm.done();
-		return newWorkingCopies;
 	}
 
 	public static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChangeManager manager,
 			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		return createNewWorkingCopy(cu, manager.get(cu), owner, pm);
+	}
+
+	private static ICompilationUnit createNewWorkingCopy(ICompilationUnit cu, TextChange change,
+			WorkingCopyOwner owner, IProgressMonitor pm) throws CoreException {
+		String previewContent= change.getPreviewContent(new NullProgressMonitor());
 		ICompilationUnit newWc= cu.getWorkingCopy(owner, null);
-		String previewContent= manager.get(cu).getPreviewContent(new NullProgressMonitor());
-		newWc.getBuffer().setContents(previewContent);
-		newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
+		try {
+			newWc.getBuffer().setContents(previewContent);
+			newWc.reconcile(ICompilationUnit.NO_AST, false, owner, pm);
+		} catch (CoreException | RuntimeException e) {
+			newWc.discardWorkingCopy();
+			throw e;
+		}
 		return newWc;
 	}
 
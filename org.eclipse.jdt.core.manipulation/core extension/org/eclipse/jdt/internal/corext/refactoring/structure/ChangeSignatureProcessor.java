@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.corext.refactoring.structure;
 
 import java.lang.ref.Cleaner;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -23,6 +24,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -207,6 +210,12 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 	private static final String CONST_ASSIGN = " i=";		//$NON-NLS-1$
 	private static final String CONST_CLOSE = ";}";			//$NON-NLS-1$
 
+	/**
+	 * The number of compilation units parsed ahead while the changes are created. Each of them
+	 * holds an AST with bindings, so only a few are kept independent of the number of processors.
+	 */
+	private static final int PARSE_AHEAD= 4;
+
 	private StubTypeContext fContextCuStartEnd;
 	private int fOldVarargIndex; // initialized in checkVarargs()
 
@@ -1664,51 +1673,84 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 		}else{
 			pm.worked(1);
 		}
+		List<SearchResultGroup> groups= new ArrayList<>(fOccurrences.length);
 		for (SearchResultGroup occurrence : fOccurrences) {
-			if (pm.isCanceled())
-				throw new OperationCanceledException();
-			SearchResultGroup group= occurrence;
-			ICompilationUnit cu= group.getCompilationUnit();
-			if (cu == null)
-				continue;
-			CompilationUnitRewrite cuRewrite;
-			if (cu.equals(getCu())) {
-				cuRewrite= fBaseCuRewrite;
-			} else {
-				cuRewrite= new CompilationUnitRewrite(cu);
-				cuRewrite.getASTRewrite().setTargetSourceRangeComputer(new TightSourceRangeComputer());
-			}
-			//IntroduceParameterObjectRefactoring needs to update declarations first:
-			List<OccurrenceUpdate<? extends ASTNode>> deferredUpdates= new ArrayList<>();
-			for (ASTNode node : ASTNodeSearchUtil.findNodes(group.getSearchResults(), cuRewrite.getRoot())) {
-				OccurrenceUpdate<? extends ASTNode> update= createOccurrenceUpdate(node, cuRewrite, result);
-				if (update instanceof DeclarationUpdate) {
-					update.updateNode();
-				} else {
-					deferredUpdates.add(update);
+			if (occurrence.getCompilationUnit() != null)
+				groups.add(occurrence);
+		}
+		// the ASTs of the next compilation units are parsed in the background while the occurrences
+		// are updated. The updates are not distributed to worker threads: they share the state of
+		// this processor, like the base rewrite and the status, and are done one unit at a time
+		ArrayDeque<CompletableFuture<CompilationUnitRewrite>> parsed= new ArrayDeque<>();
+		int next= 0;
+		try {
+			for (SearchResultGroup group : groups) {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				while (next < groups.size() && parsed.size() < PARSE_AHEAD) {
+					parsed.add(parse(groups.get(next++).getCompilationUnit()));
+				}
+				ICompilationUnit cu= group.getCompilationUnit();
+				CompilationUnitRewrite cuRewrite= join(parsed.remove());
+				//IntroduceParameterObjectRefactoring needs to update declarations first:
+				List<OccurrenceUpdate<? extends ASTNode>> deferredUpdates= new ArrayList<>();
+				for (ASTNode node : ASTNodeSearchUtil.findNodes(group.getSearchResults(), cuRewrite.getRoot())) {
+					OccurrenceUpdate<? extends ASTNode> update= createOccurrenceUpdate(node, cuRewrite, result);
+					if (update instanceof DeclarationUpdate) {
+						update.updateNode();
+					} else {
+						deferredUpdates.add(update);
+					}
+				}
+				for (OccurrenceUpdate<? extends ASTNode> occurrenceUpdate : deferredUpdates) {
+					occurrenceUpdate.updateNode();
 				}
-			}
-			for (OccurrenceUpdate<? extends ASTNode> occurrenceUpdate : deferredUpdates) {
-				occurrenceUpdate.updateNode();
-			}
 
-			if (namedSubclassMapping != null && namedSubclassMapping.containsKey(cu)) {
-				//only non-anonymous subclasses may have noArgConstructors to modify - see bug 43444
-				for (IType subtype : namedSubclassMapping.get(cu)) {
-					AbstractTypeDeclaration subtypeNode= ASTNodeSearchUtil.getAbstractTypeDeclarationNode(subtype, cuRewrite.getRoot());
-					if (subtypeNode != null)
-						modifyImplicitCallsToNoArgConstructor(subtypeNode, cuRewrite);
+				if (namedSubclassMapping != null && namedSubclassMapping.containsKey(cu)) {
+					//only non-anonymous subclasses may have noArgConstructors to modify - see bug 43444
+					for (IType subtype : namedSubclassMapping.get(cu)) {
+						AbstractTypeDeclaration subtypeNode= ASTNodeSearchUtil.getAbstractTypeDeclarationNode(subtype, cuRewrite.getRoot());
+						if (subtypeNode != null)
+							modifyImplicitCallsToNoArgConstructor(subtypeNode, cuRewrite);
+					}
 				}
+				TextChange change= cuRewrite.createChange(true);
+				if (change != null)
+					fChangeManager.manage(cu, change);
+			}
+		} finally {
+			for (CompletableFuture<CompilationUnitRewrite> future : parsed) {
+				future.cancel(false);
 			}
-			TextChange change= cuRewrite.createChange(true);
-			if (change != null)
-				fChangeManager.manage(cu, change);
 		}
 
 		pm.done();
 		return fChangeManager;
 	}
 
+	private CompletableFuture<CompilationUnitRewrite> parse(ICompilationUnit cu) {
+		if (cu.equals(getCu()))
+			return CompletableFuture.completedFuture(fBaseCuRewrite);
+		return CompletableFuture.supplyAsync(() -> {
+			CompilationUnitRewrite cuRewrite= new CompilationUnitRewrite(cu);
+			cuRewrite.getASTRewrite().setTargetSourceRangeComputer(new TightSourceRangeComputer());
+			cuRewrite.getRoot();
+			return cuRewrite;
+		});
+	}
+
+	private static CompilationUnitRewrite join(CompletableFuture<CompilationUnitRewrite> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException)
+				throw runtimeException;
+			if (e.getCause() instanceof Error error)
+				throw error;
+			throw e;
+		}
+	}
+
 	private Map<ICompilationUnit, Set<IType>> createNamedSubclassMapping(IProgressMonitor pm) throws JavaModelException{
 		Map<ICompilationUnit, Set<IType>> result= new HashMap<>();
 		for (IType subclass : getCachedTypeHierarchy(Progress.subMonitor(pm, 1)).getSubclasses(fMethod.getDeclaringType())) {
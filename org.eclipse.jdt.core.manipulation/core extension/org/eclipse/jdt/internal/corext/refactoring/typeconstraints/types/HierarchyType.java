@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
-import java.util.Map;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -26,6 +28,19 @@ public abstract class HierarchyType extends TType {
 	private HierarchyType[] fInterfaces;
 	private IType fJavaElementType;
 
+	/**
+	 * All direct and indirect supertypes of this type, or <code>null</code> if not computed yet.
+	 * Computed on demand, since only a fraction of the types of an environment take part in
+	 * subtype checks.
+	 */
+	private volatile Set<HierarchyType> fAllSupertypes;
+
+	/**
+	 * The erasures of all generic, raw and parameterized supertypes, or <code>null</code> if not
+	 * computed yet.
+	 */
+	private volatile Set<TType> fAllSupertypeErasures;
+
 	protected HierarchyType(TypeEnvironment environment) {
 		super(environment);
 	}
@@ -61,29 +76,56 @@ public abstract class HierarchyType extends TType {
 	}
 
 	public boolean isSubType(HierarchyType other) {
-		if (getEnvironment() == other.getEnvironment()) {
-			Map<TypeTuple, Boolean> cache= getEnvironment().getSubTypeCache();
-			TypeTuple key= new TypeTuple(this, other);
-			Boolean value= cache.get(key);
-			if (value != null)
-				return value;
-			boolean isSub= doIsSubType(other);
-			value= isSub;
-			cache.put(key, value);
-			return isSub;
+		Set<HierarchyType> supertypes= getAllSupertypes();
+		if (supertypes.contains(other))
+			return true;
+		if (other.getKind() == STANDARD_TYPE)
+			return false;
+		// generic, raw and parameterized types are also equivalent to types with the same erasure
+		if (!fAllSupertypeErasures.contains(other.getErasure()))
+			return false;
+		for (HierarchyType supertype : supertypes) {
+			if (other.isTypeEquivalentTo(supertype))
+				return true;
 		}
-		return doIsSubType(other);
+		return false;
 	}
 
-	private boolean doIsSubType(HierarchyType other) {
-		if (fSuperclass != null && (other.isTypeEquivalentTo(fSuperclass) || fSuperclass.doIsSubType(other)))
-			return true;
-		for (HierarchyType intf : fInterfaces) {
-			if (other.isTypeEquivalentTo(intf) || intf.doIsSubType(other)) {
-				return true;
+	private Set<HierarchyType> getAllSupertypes() {
+		Set<HierarchyType> result= fAllSupertypes;
+		if (result != null)
+			return result;
+		// the sets only depend on the immutable hierarchy, so concurrent computations are harmless
+		result= new LinkedHashSet<>();
+		Set<TType> erasures= new HashSet<>();
+		addSupertypes(this, result, erasures);
+		fAllSupertypeErasures= erasures;
+		fAllSupertypes= result;
+		return result;
+	}
+
+	private static void addSupertypes(HierarchyType type, Set<HierarchyType> result, Set<TType> erasures) {
+		if (type.fSuperclass != null)
+			addSupertype(type.fSuperclass, result, erasures);
+		if (type.fInterfaces != null) {
+			for (HierarchyType intf : type.fInterfaces) {
+				addSupertype(intf, result, erasures);
 			}
 		}
-		return false;
+	}
+
+	private static void addSupertype(HierarchyType supertype, Set<HierarchyType> result, Set<TType> erasures) {
+		if (!result.add(supertype))
+			return;
+		if (supertype.getKind() != STANDARD_TYPE)
+			erasures.add(supertype.getErasure());
+		Set<HierarchyType> known= supertype.fAllSupertypes;
+		if (known != null) {
+			result.addAll(known);
+			erasures.addAll(supertype.fAllSupertypeErasures);
+		} else {
+			addSupertypes(supertype, result, erasures);
+		}
 	}
 
 	protected boolean canAssignToStandardType(StandardType target) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -517,7 +516,7 @@ public abstract class TType {
 	 * 		was not created with rememberSubtypes == true
 	 */
 	public TType[] getSubTypes() throws IllegalStateException {
-		Map<TType, ArrayList<TType>> subTypes= fEnvironment.getSubTypes();
+		Map<TType, List<TType>> subTypes= fEnvironment.getSubTypes();
 		if (subTypes == null)
 			throw new IllegalStateException("This TypeEnvironment does not remember subtypes"); //$NON-NLS-1$
 		List<TType> subtypes= subTypes.get(this);
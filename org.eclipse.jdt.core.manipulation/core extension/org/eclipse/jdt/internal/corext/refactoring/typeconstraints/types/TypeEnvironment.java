@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,9 +16,10 @@ package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -40,6 +41,10 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
  * A type environment comprises a set of {@link TType}s that stand for Java {@link ITypeBinding}s.
  * In contrast to type bindings, TTypes of the same type environment also work across project boundaries and
  * across compiler environments, i.e. a type environment can handle bindings from multiple {@link ASTParser} sessions.
+ * <p>
+ * Type environments are thread-safe: TTypes are created and interned under the lock of the environment,
+ * subtype checks on the created types do not need a lock.
+ * </p>
  *
  * @see TType
  */
@@ -104,7 +109,7 @@ public class TypeEnvironment {
 		"java.lang.Double",  //$NON-NLS-1$
 		"java.lang.Byte"};  //$NON-NLS-1$
 
-	private TType OBJECT_TYPE= null;
+	private volatile TType OBJECT_TYPE= null;
 
 	private List<Map<TType, ArrayType>>      fArrayTypes= new ArrayList<>();
 	private Map<IJavaElement, StandardType>  fStandardTypes= new HashMap<>();
@@ -117,20 +122,11 @@ public class TypeEnvironment {
 	private Map<TType, SuperWildcardType>    fSuperWildcardTypes= new HashMap<>();
 	private UnboundWildcardType fUnboundWildcardType= null;
 
-	private static final int MAX_ENTRIES= 1024;
-	private Map<TypeTuple, Boolean> fSubTypeCache= new LinkedHashMap<>(50, 0.75f, true) {
-		private static final long serialVersionUID= 1L;
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
-			return size() > MAX_ENTRIES;
-		}
-	};
-
 	/**
 	 * Map from TType to its known subtypes, or <code>null</code> iff subtype
 	 * information was not requested in the constructor.
 	 */
-	private Map<TType, ArrayList<TType>> fSubTypes;
+	private Map<TType, List<TType>> fSubTypes;
 	/**
 	 * If <code>true</code>, replace all capture types by their wildcard type.
 	 * @since 3.7
@@ -177,16 +173,12 @@ public class TypeEnvironment {
 
 	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures) {
 		if (rememberSubtypes) {
-			fSubTypes= new HashMap<>();
+			fSubTypes= new ConcurrentHashMap<>();
 		}
 		fRemoveCapures= removeCapures;
 	}
 
-	Map<TypeTuple, Boolean> getSubTypeCache() {
-		return fSubTypeCache;
-	}
-
-	public TType create(ITypeBinding binding) {
+	public synchronized TType create(ITypeBinding binding) {
 		if (binding.isPrimitive()) {
 			return createPrimitiveType(binding);
 		} else if (binding.isArray()) {
@@ -249,7 +241,7 @@ public class TypeEnvironment {
 		Assert.isTrue(objectType.isJavaLangObject());
 	}
 
-	void initializeJavaLangObject(ITypeBinding object) {
+	synchronized void initializeJavaLangObject(ITypeBinding object) {
 		if (OBJECT_TYPE != null)
 			return;
 
@@ -274,20 +266,25 @@ public class TypeEnvironment {
 	private StandardType createStandardType(String fullyQualifiedName, IJavaProject focus) {
 		try {
 			IType javaElementType= focus.findType(fullyQualifiedName);
-			StandardType result= fStandardTypes.get(javaElementType);
-			if (result != null)
-				return result;
+			synchronized (this) {
+				StandardType result= fStandardTypes.get(javaElementType);
+				if (result != null)
+					return result;
+			}
+			// create the binding without holding the lock
 			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
 			parser.setProject(focus);
 			IBinding[] bindings= parser.createBindings(new IJavaElement[] {javaElementType} , null);
-			return createStandardType((ITypeBinding)bindings[0]);
+			synchronized (this) {
+				return createStandardType((ITypeBinding)bindings[0]);
+			}
 		} catch (JavaModelException e) {
 			// fall through
 		}
 		return null;
 	}
 
-	Map<TType, ArrayList<TType>> getSubTypes() {
+	Map<TType, List<TType>> getSubTypes() {
 		return fSubTypes;
 	}
 
@@ -297,9 +294,10 @@ public class TypeEnvironment {
 		if (supertype == null)
 			supertype= OBJECT_TYPE;
 
-		ArrayList<TType> subtypes= fSubTypes.get(supertype);
+		List<TType> subtypes= fSubTypes.get(supertype);
 		if (subtypes == null) {
-			subtypes= new ArrayList<>(5);
+			// read without lock by TType#getSubTypes()
+			subtypes= new CopyOnWriteArrayList<>();
 			fSubTypes.put(supertype, subtypes);
 		} else {
 			Assert.isTrue(! subtypes.contains(result));
@@ -338,7 +336,7 @@ public class TypeEnvironment {
 		return result;
 	}
 
-	public ArrayType createArrayType(TType elementType, int dimensions) {
+	public synchronized ArrayType createArrayType(TType elementType, int dimensions) {
 		Assert.isTrue(! elementType.isArrayType());
 		Assert.isTrue(! elementType.isAnonymous());
 		Assert.isTrue(dimensions > 0);
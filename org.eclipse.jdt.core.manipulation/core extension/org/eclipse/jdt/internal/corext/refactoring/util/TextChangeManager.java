@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.ltk.core.refactoring.TextChange;
 
@@ -28,10 +29,15 @@ import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 /**
  * A <code>TextChangeManager</code> manages associations between <code>ICompilationUnit</code>
  * or <code>IFile</code> and <code>TextChange</code> objects.
+ * <p>
+ * Associations can be added and looked up concurrently, so that the changes of different
+ * compilation units can be computed in parallel. A single <code>TextChange</code> is not thread
+ * safe and must only be modified by one thread at a time.
+ * </p>
  */
 public class TextChangeManager {
 
-	private Map<ICompilationUnit, TextChange> fMap= new HashMap<>(10);
+	private final Map<ICompilationUnit, TextChange> fMap= Collections.synchronizedMap(new HashMap<>(10));
 
 	private final boolean fKeepExecutedTextEdits;
 
@@ -62,13 +68,11 @@ public class TextChangeManager {
 	 * @return the text change associated with the given compilation unit.
 	 */
 	public TextChange get(ICompilationUnit cu) {
-		TextChange result= fMap.get(cu);
-		if (result == null) {
-			result= new CompilationUnitChange(cu.getElementName(), cu);
+		return fMap.computeIfAbsent(cu, unit -> {
+			TextChange result= new CompilationUnitChange(unit.getElementName(), unit);
 			result.setKeepPreviewEdits(fKeepExecutedTextEdits);
-			fMap.put(cu, result);
-		}
-		return result;
+			return result;
+		});
 	}
 
 	/**
@@ -88,18 +92,20 @@ public class TextChangeManager {
 	 * @return all text changes managed by this instance
 	 */
 	public TextChange[] getAllChanges(){
-		Set<ICompilationUnit> cuSet= fMap.keySet();
-		ICompilationUnit[] cus= cuSet.toArray(new ICompilationUnit[cuSet.size()]);
+		List<Map.Entry<ICompilationUnit, TextChange>> entries;
+		synchronized (fMap) {
+			entries= new ArrayList<>(fMap.entrySet());
+		}
 		// sort by cu name:
-		Arrays.sort(cus, (o1, o2) -> {
-			String name1= o1.getElementName();
-			String name2= o2.getElementName();
+		entries.sort((o1, o2) -> {
+			String name1= o1.getKey().getElementName();
+			String name2= o2.getKey().getElementName();
 			return name1.compareTo(name2);
 		});
 
-		TextChange[] textChanges= new TextChange[cus.length];
-		for (int i= 0; i < cus.length; i++) {
-			textChanges[i]= fMap.get(cus[i]);
+		TextChange[] textChanges= new TextChange[entries.size()];
+		for (int i= 0; i < textChanges.length; i++) {
+			textChanges[i]= entries.get(i).getValue();
 		}
 		return textChanges;
 	}
@@ -110,7 +116,9 @@ public class TextChangeManager {
 	 * @return all compilation units managed by this instance
 	 */
 	public ICompilationUnit[] getAllCompilationUnits(){
-		return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
+		synchronized (fMap) {
+			return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
+		}
 	}
 
 	/**
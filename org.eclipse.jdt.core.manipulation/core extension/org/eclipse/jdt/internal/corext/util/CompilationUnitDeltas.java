@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Walks Java element deltas for caches of information computed from compilation units, which
+ * update the affected entries instead of being cleared on every change.
+ *
+ * @since 1.23
+ */
+public final class CompilationUnitDeltas {
+
+	private static final int CONTAINER_CHILDREN_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+
+	private CompilationUnitDeltas() {
+	}
+
+	/**
+	 * Passes the deltas of the changed compilation units in the given delta to the visitor. Added
+	 * and removed packages in source folders are passed to the visitor as well, their compilation
+	 * units are not reported separately.
+	 *
+	 * @param delta the Java element delta
+	 * @param visitor receives the deltas of the compilation units and of the added or removed
+	 *            packages, returns <code>false</code> to stop
+	 * @return <code>false</code> if the visitor stopped or the delta contains changes which are not
+	 *         limited to compilation units, like classpath changes, added or removed projects and
+	 *         package fragment roots, or changed archives and class files
+	 */
+	public static boolean visit(IJavaElementDelta delta, Predicate<IJavaElementDelta> visitor) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~CONTAINER_CHILDREN_FLAGS) != 0)
+					return false;
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					try {
+						// packages of class folders contain class files
+						if (((IPackageFragmentRoot) element.getParent()).getKind() != IPackageFragmentRoot.K_SOURCE)
+							return false;
+					} catch (JavaModelException e) {
+						return false;
+					}
+					return visitor.test(delta);
+				}
+				if ((delta.getFlags() & ~CONTAINER_CHILDREN_FLAGS) != 0)
+					return false;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				return visitor.test(delta);
+			default:
+				// class files
+				return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!visit(child, visitor))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the types of a compilation unit changed structurally.
+	 *
+	 * @param delta the delta of a compilation unit
+	 * @return <code>true</code> if the compilation unit was added or removed, or types or members
+	 *         were added, removed or changed, <code>false</code> if only method bodies or nothing
+	 *         in the source changed
+	 */
+	public static boolean isStructuralChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		int flags= delta.getFlags();
+		if ((flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+			// discarding a primary working copy reverts its content without further details
+			return (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY)) != 0;
+		// a fine grained delta reports changes of the signatures, modifiers and supertypes of
+		// types and members as affected children, but no children for changed method bodies
+		return delta.getAffectedChildren().length > 0;
+	}
+}
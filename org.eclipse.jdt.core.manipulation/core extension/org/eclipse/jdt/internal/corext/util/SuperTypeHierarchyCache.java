@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,17 +30,26 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * The cache is bounded by the total number of types contained in the cached hierarchies, see
+ * {@link #getMaxCachedTypes()}. Every type of a cached hierarchy is indexed, so lookups do not
+ * depend on the number of cached hierarchies and do not take a lock. Hierarchies are removed when
+ * they change (which includes class path changes of the projects they were computed for) and the
+ * least recently used hierarchies are evicted when the cache grows too large.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private volatile ITypeHierarchy fTypeHierarchy;
+		private final IType[] fTypes;
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			fTypes= hierarchy.getAllTypes();
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
@@ -50,8 +63,15 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		/**
+		 * @return all types of the hierarchy, the weight of this entry is the number of types
+		 */
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= fgAccessCounter.incrementAndGet();
 		}
 
 		public long getLastAccess() {
@@ -59,27 +79,55 @@ public class SuperTypeHierarchyCache {
 		}
 
 		public void dispose() {
-			if (fTypeHierarchy != null) {
-				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			if (hierarchy != null) {
+				hierarchy.removeTypeHierarchyChangedListener(this);
 				fTypeHierarchy= null;
 			}
 		}
 
 		@Override
 		public String toString() {
-			return "Super hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+			ITypeHierarchy hierarchy= fTypeHierarchy;
+			return "Super hierarchy of: " + (hierarchy != null ? hierarchy.getType().getElementName() : "<disposed>"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * Minimal number of hierarchies kept in the cache, independent of their size.
+	 */
+	private static final int MIN_CACHED_HIERARCHIES= 8;
+
+	/**
+	 * Maximal total number of types in all cached hierarchies.
+	 */
+	private static final int MAX_CACHED_TYPES= 4000;
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static final int METHOD_OVERRIDE_TESTER_CACHE_SIZE= 64;
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	/**
+	 * All cached hierarchies. Modifications are guarded by the list itself.
+	 */
+	private static final List<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>();
+
+	/**
+	 * Maps every type contained in a cached hierarchy to all cached hierarchies containing it, the
+	 * most recently added last. The arrays are replaced, not modified, while holding the lock of
+	 * {@link #fgHierarchyCache}.
+	 */
+	private static final Map<IType, HierarchyCacheEntry[]> fgTypeIndex= new ConcurrentHashMap<>();
+
+	private static final Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(METHOD_OVERRIDE_TESTER_CACHE_SIZE);
+
+	private static final AtomicLong fgAccessCounter= new AtomicLong();
+
+	private static int fgCachedTypes= 0;
+
+	private static final AtomicLong fgCacheHits= new AtomicLong();
+	private static final AtomicLong fgCacheMisses= new AtomicLong();
+	private static final AtomicLong fgCacheEvictions= new AtomicLong();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -140,42 +188,46 @@ public class SuperTypeHierarchyCache {
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
 		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
 		if (hierarchy == null) {
-			fgCacheMisses++;
+			fgCacheMisses.incrementAndGet();
 			hierarchy= type.newSupertypeHierarchy(progressMonitor);
 			addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
+			fgCacheHits.incrementAndGet();
 		}
 		return hierarchy;
 	}
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
 		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
+			// hierarchies of super types of the new focus type are contained in the new hierarchy
+			ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>();
+			for (HierarchyCacheEntry entry : fgHierarchyCache) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (curr == null || !curr.exists() || hierarchy.contains(curr.getType())) {
+					obsoleteHierarchies.add(entry);
+				}
+			}
+			for (HierarchyCacheEntry obsoleteHierarchy : obsoleteHierarchies) {
+				removeHierarchyEntryFromCache(obsoleteHierarchy);
+			}
+
+			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+			int weight= newEntry.getTypes().length;
+			while (fgCachedTypes + weight > MAX_CACHED_TYPES && fgHierarchyCache.size() >= MIN_CACHED_HIERARCHIES) {
 				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
 				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
+					if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
+						oldest= entry;
 					}
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
-				}
+				removeHierarchyEntryFromCache(oldest);
+				fgCacheEvictions.incrementAndGet();
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
 			fgHierarchyCache.add(newEntry);
+			fgCachedTypes+= weight;
+			for (IType type : newEntry.getTypes()) {
+				fgTypeIndex.merge(type, new HierarchyCacheEntry[] { newEntry }, SuperTypeHierarchyCache::concat);
+			}
 		}
 	}
 
@@ -191,46 +243,105 @@ public class SuperTypeHierarchyCache {
 
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+		HierarchyCacheEntry[] entries= fgTypeIndex.get(type);
+		if (entries == null) {
+			return null;
+		}
+		for (int i= entries.length - 1; i >= 0; i--) {
+			HierarchyCacheEntry entry= entries[i];
+			ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+			if (hierarchy == null) {
+				continue; // removed concurrently
 			}
+			if (!hierarchy.exists()) {
+				removeHierarchyEntryFromCache(entry);
+				continue;
+			}
+			entry.markAsAccessed();
+			return hierarchy;
 		}
 		return null;
 	}
 
+	private static HierarchyCacheEntry[] concat(HierarchyCacheEntry[] entries, HierarchyCacheEntry[] added) {
+		HierarchyCacheEntry[] result= Arrays.copyOf(entries, entries.length + added.length);
+		System.arraycopy(added, 0, result, entries.length, added.length);
+		return result;
+	}
+
+	private static HierarchyCacheEntry[] remove(HierarchyCacheEntry[] entries, HierarchyCacheEntry removed) {
+		int index= Arrays.asList(entries).indexOf(removed);
+		if (index == -1) {
+			return entries;
+		}
+		if (entries.length == 1) {
+			return null;
+		}
+		HierarchyCacheEntry[] result= new HierarchyCacheEntry[entries.length - 1];
+		System.arraycopy(entries, 0, result, 0, index);
+		System.arraycopy(entries, index + 1, result, index, result.length - index);
+		return result;
+	}
+
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
 		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+			if (!fgHierarchyCache.remove(entry)) {
+				return;
+			}
+			fgCachedTypes-= entry.getTypes().length;
+			for (IType type : entry.getTypes()) {
+				// other cached hierarchies may still contain the type
+				fgTypeIndex.computeIfPresent(type, (t, entries) -> remove(entries, entry));
+			}
+			ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+			if (hierarchy != null) {
+				removeMethodOverrideTester(hierarchy);
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
 
 	/**
-	 * Gets the number of times the hierarchy could be taken from the hierarchy.
-	 * @return Returns a int
+	 * Gets the number of times the hierarchy could be taken from the cache.
+	 * @return the number of cache hits
+	 */
+	public static long getCacheHits() {
+		return fgCacheHits.get();
+	}
+
+	/**
+	 * Gets the number of times the hierarchy was built. Used for testing.
+	 * @return the number of cache misses
+	 */
+	public static long getCacheMisses() {
+		return fgCacheMisses.get();
+	}
+
+	/**
+	 * Gets the number of hierarchies that were evicted because the cache was full.
+	 * @return the number of evictions
 	 */
-	public static int getCacheHits() {
-		return fgCacheHits;
+	public static long getCacheEvictions() {
+		return fgCacheEvictions.get();
+	}
+
+	/**
+	 * Gets the total number of types in all cached hierarchies.
+	 * @return the current weight of the cache
+	 */
+	public static int getCachedTypes() {
+		synchronized (fgHierarchyCache) {
+			return fgCachedTypes;
+		}
 	}
 
 	/**
-	 * Gets the number of times the hierarchy was build. Used for testing.
-	 * @return Returns a int
+	 * Gets the maximal total number of types in all cached hierarchies.
+	 * @return the maximal weight of the cache
 	 */
-	public static int getCacheMisses() {
-		return fgCacheMisses;
+	public static int getMaxCachedTypes() {
+		return MAX_CACHED_TYPES;
 	}
 
 	private SuperTypeHierarchyCache() {
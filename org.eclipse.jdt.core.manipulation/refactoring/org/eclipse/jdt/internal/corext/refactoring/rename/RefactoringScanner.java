@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,16 +13,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.IScanner;
 import org.eclipse.jdt.core.compiler.ITerminalSymbols;
 import org.eclipse.jdt.core.compiler.InvalidInputException;
@@ -71,8 +78,10 @@ public class RefactoringScanner {
 	}
 
 	public void scan(ICompilationUnit cu)	throws JavaModelException {
-		char[] chars= cu.getBuffer().getCharacters();
+		char[] chars= getCharacters(cu);
 		fMatches= new HashSet<>();
+		if (CharOperation.indexOf(fName.toCharArray(), chars, true) == -1)
+			return; // no need to tokenize
 		IJavaProject javaProject= cu.getJavaProject();
         if (javaProject != null) {
             String sourceLevel = javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
@@ -93,6 +102,30 @@ public class RefactoringScanner {
 		fScanner= null;
 	}
 
+	/**
+	 * Returns the contents of the compilation unit. Compilation units which are not open are read
+	 * from their file, since opening them would build their structure.
+	 *
+	 * @param cu the compilation unit
+	 * @return the contents
+	 * @throws JavaModelException if the contents cannot be read
+	 */
+	private static char[] getCharacters(ICompilationUnit cu) throws JavaModelException {
+		if (!cu.isOpen() && !cu.isWorkingCopy() && cu.getResource() instanceof IFile file) {
+			try (InputStream contents= file.getContents()) {
+				char[] chars= new String(contents.readAllBytes(), file.getCharset()).toCharArray();
+				if (chars.length > 0 && chars[0] == '\uFEFF') // the buffer does not contain the byte order mark
+					return CharOperation.subarray(chars, 1, chars.length);
+				return chars;
+			} catch (CoreException e) {
+				throw new JavaModelException(e);
+			} catch (IOException e) {
+				throw new JavaModelException(e, IJavaModelStatusConstants.IO_EXCEPTION);
+			}
+		}
+		return cu.getBuffer().getCharacters();
+	}
+
 	/**
 	 * Scan the given text.
 	 * <p>
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,13 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -53,6 +57,13 @@ import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
+/**
+ * Updates the textual matches of a renamed element in comments and strings.
+ * <p>
+ * The compilation units in the scope are scanned in parallel on a bounded executor, the text edits
+ * are added to the {@link TextChangeManager} afterwards, in the order of the compilation units.
+ * </p>
+ */
 public class TextMatchUpdater {
 
 	private static final String TEXT_EDIT_LABEL= RefactoringCoreMessages.TextMatchUpdater_update;
@@ -67,7 +78,8 @@ public class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
@@ -75,14 +87,17 @@ public class TextMatchUpdater {
 		Assert.isNotNull(manager);
 		Assert.isNotNull(scope);
 		Assert.isNotNull(references);
+		Assert.isNotNull(currentName);
+		Assert.isNotNull(currentQualifier);
 		fManager= manager;
 		fScope= scope;
 		fReferences= references;
 		fOnlyQualified= onlyQualified;
 
 		fNewName= newName;
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
 
 	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
@@ -97,12 +112,14 @@ public class TextMatchUpdater {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", 2 * projectsInScope.length); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				collectCompilationUnits(project, cus, Progress.subMonitor(pm, 1));
 			}
+			addTextMatches(cus, Progress.subMonitor(pm, projectsInScope.length));
 		} finally{
 			pm.done();
 		}
@@ -121,7 +138,7 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -133,7 +150,7 @@ public class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -142,7 +159,7 @@ public class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, Progress.subMonitor(pm, 1));
+					collectCompilationUnits(member, cus, Progress.subMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -154,35 +171,78 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
-		if (matches.isEmpty())
-			return;
+	/**
+	 * Scans the compilation units in parallel and adds the text edits in the order of the
+	 * compilation units. The pending scans are canceled if the monitor is canceled or a scan fails.
+	 *
+	 * @param cus the compilation units to scan
+	 * @param pm the progress monitor, reports the progress per compilation unit
+	 * @throws JavaModelException if a compilation unit cannot be read
+	 */
+	private void addTextMatches(List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException {
+		pm.beginTask("", cus.size()); //$NON-NLS-1$
+		Map<ICompilationUnit, List<SearchResultGroup>> references= getReferencesByCompilationUnit();
+		List<Future<Set<TextMatch>>> scans= new ArrayList<>(cus.size());
+		try (ExecutorService executor= RenameAnalyzeUtil.createExecutor()) {
+			try {
+				for (ICompilationUnit cu : cus) {
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+					scans.add(executor.submit(() -> scan(cu, pm)));
+				}
+				for (int i= 0; i < cus.size(); i++) {
+					ICompilationUnit cu= cus.get(i);
+					Set<TextMatch> matches= RenameAnalyzeUtil.waitFor(scans.get(i), pm);
+					if (!matches.isEmpty()) {
+						List<SearchResultGroup> groups= references.get(cu);
+						if (groups != null)
+							removeReferences(matches, groups);
+						if (!matches.isEmpty())
+							addTextUpdates(cu, matches);
+					}
+					pm.worked(1);
+				}
+			} catch (JavaModelException e) {
+				throw e;
+			} catch (CoreException e) {
+				throw new JavaModelException(e);
+			} finally {
+				for (Future<Set<TextMatch>> scan : scans) {
+					scan.cancel(false);
+				}
+			}
+		} finally {
+			pm.done();
+		}
+	}
 
-		removeReferences(cu, matches);
-		if (!matches.isEmpty())
-			addTextUpdates(cu, matches);
+	private Set<TextMatch> scan(ICompilationUnit cu, IProgressMonitor pm) throws JavaModelException {
+		if (pm.isCanceled())
+			throw new OperationCanceledException();
+		RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+		scanner.scan(cu);
+		return scanner.getMatches();
 	}
 
-	private void removeReferences(ICompilationUnit cu, Set<TextMatch> matches) {
+	private Map<ICompilationUnit, List<SearchResultGroup>> getReferencesByCompilationUnit() {
+		Map<ICompilationUnit, List<SearchResultGroup>> references= new HashMap<>();
 		for (SearchResultGroup group : fReferences) {
-			if (cu.equals(group.getCompilationUnit())) {
-				removeReferences(matches, group);
-			}
+			ICompilationUnit cu= group.getCompilationUnit();
+			if (cu != null)
+				references.computeIfAbsent(cu, k -> new ArrayList<>(1)).add(group);
 		}
+		return references;
 	}
 
-	private void removeReferences(Set<TextMatch> matches, SearchResultGroup group) {
-		for (SearchMatch searchResult : group.getSearchResults()) {
-			//int start= searchResults[r].getStart(); // doesn't work for pack.ReferencedType
-			int unqualifiedStart= searchResult.getOffset() + searchResult.getLength() - fCurrentNameLength;
-			for (Iterator<TextMatch> iter= matches.iterator(); iter.hasNext();) {
-				TextMatch element= iter.next();
-				if (element.getStartPosition() == unqualifiedStart)
-					iter.remove();
+	private void removeReferences(Set<TextMatch> matches, List<SearchResultGroup> groups) {
+		Set<Integer> unqualifiedStarts= new HashSet<>();
+		for (SearchResultGroup group : groups) {
+			for (SearchMatch searchResult : group.getSearchResults()) {
+				//int start= searchResults[r].getStart(); // doesn't work for pack.ReferencedType
+				unqualifiedStarts.add(searchResult.getOffset() + searchResult.getLength() - fCurrentNameLength);
 			}
 		}
+		matches.removeIf(match -> unqualifiedStarts.contains(match.getStartPosition()));
 	}
 
 	private void addTextUpdates(ICompilationUnit cu, Set<TextMatch> matches) {
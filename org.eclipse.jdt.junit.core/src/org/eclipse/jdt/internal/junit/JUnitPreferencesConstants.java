@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,12 @@ public class JUnitPreferencesConstants {
 	 */
 	public static final String MAX_TEST_RUNS= JUnitCorePlugin.PLUGIN_ID + ".max_test_runs"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference: whether test runners report their results using the binary, batched
+	 * protocol instead of the line-oriented text protocol.
+	 */
+	public static final String BINARY_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".binary_protocol"; //$NON-NLS-1$
+
 	/**
 	 * Javadoc location for JUnit 3
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
@@ -123,6 +124,10 @@ public class JUnit4TestFinder implements ITestFinder {
 			}
 		}
 
+		TestFinderCache.getDefault().findTestsInContainer(TestKindRegistry.JUNIT4_TEST_KIND_ID, element, result, this::findTestsInRegion, pm);
+	}
+
+	private void findTestsInRegion(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		SubMonitor subMon= SubMonitor.convert(pm, JUnitMessages.JUnit4TestFinder_searching_description, 4);
 		try {
 
@@ -210,6 +215,10 @@ public class JUnit4TestFinder implements ITestFinder {
 	}
 
 	private boolean internalIsTest(IType type, IProgressMonitor monitor) throws JavaModelException {
+		return TestFinderCache.getDefault().isTest(TestKindRegistry.JUNIT4_TEST_KIND_ID, type, this::computeIsTest, monitor);
+	}
+
+	private boolean computeIsTest(IType type, Set<ICompilationUnit> dependencies, IProgressMonitor monitor) throws JavaModelException {
 		if (CoreTestSearchEngine.isAccessibleClass(type)) {
 			if (CoreTestSearchEngine.hasSuiteMethod(type)) { // since JUnit 4.3.1
 				return true;
@@ -230,7 +239,7 @@ public class JUnit4TestFinder implements ITestFinder {
 				IBinding[] bindings= parser.createBindings(new IJavaElement[] { type }, monitor);
 				if (bindings.length == 1 && bindings[0] instanceof ITypeBinding) {
 					ITypeBinding binding= (ITypeBinding) bindings[0];
-					return isTest(binding);
+					return isTest(binding, dependencies);
 				}
 				return false;
 			} else {
@@ -243,7 +252,7 @@ public class JUnit4TestFinder implements ITestFinder {
 			if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
 				ITypeBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
 				if (binding != null) {
-					return isTest(binding);
+					return isTest(binding, dependencies);
 				}
 			}
 		}
@@ -256,6 +265,11 @@ public class JUnit4TestFinder implements ITestFinder {
 	}
 
 
+	private boolean isTest(ITypeBinding binding, Set<ICompilationUnit> dependencies) {
+		TestFinderCache.addDependencies(binding, dependencies);
+		return isTest(binding);
+	}
+
 	private boolean isTest(ITypeBinding binding) {
 		if (Modifier.isAbstract(binding.getModifiers()))
 			return false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.ISourceRange;
@@ -210,6 +211,10 @@ public class JUnit5TestFinder implements ITestFinder {
 			}
 		}
 
+		TestFinderCache.getDefault().findTestsInContainer(TestKindRegistry.JUNIT5_TEST_KIND_ID, element, result, this::findTestsInRegion, pm);
+	}
+
+	private void findTestsInRegion(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
 		var subMonitor = SubMonitor.convert(pm, JUnitMessages.JUnit5TestFinder_searching_description, 4);
 
 		IRegion region= CoreTestSearchEngine.getRegion(element);
@@ -248,6 +253,10 @@ public class JUnit5TestFinder implements ITestFinder {
 	}
 
 	private boolean internalIsTest(IType type, IProgressMonitor monitor) throws JavaModelException {
+		return TestFinderCache.getDefault().isTest(TestKindRegistry.JUNIT5_TEST_KIND_ID, type, this::computeIsTest, monitor);
+	}
+
+	private boolean computeIsTest(IType type, Set<ICompilationUnit> dependencies, IProgressMonitor monitor) throws JavaModelException {
 		if (CoreTestSearchEngine.isAccessibleClass(type, TestKindRegistry.JUNIT5_TEST_KIND_ID)) {
 			if (CoreTestSearchEngine.hasSuiteMethod(type)) { // since JUnit 4.3.1
 				return true;
@@ -260,7 +269,7 @@ public class JUnit5TestFinder implements ITestFinder {
 				IBinding[] bindings= parser.createBindings(new IJavaElement[] { type }, monitor);
 				if (bindings.length == 1 && bindings[0] instanceof ITypeBinding) {
 					ITypeBinding binding= (ITypeBinding) bindings[0];
-					return isTest(binding);
+					return isTest(binding, dependencies);
 				}
 				return false;
 			} else {
@@ -273,7 +282,7 @@ public class JUnit5TestFinder implements ITestFinder {
 			if (node instanceof TypeDeclaration || node instanceof RecordDeclaration) {
 				ITypeBinding binding= ((AbstractTypeDeclaration) node).resolveBinding();
 				if (binding != null) {
-					return isTest(binding);
+					return isTest(binding, dependencies);
 				}
 			}
 		}
@@ -286,6 +295,11 @@ public class JUnit5TestFinder implements ITestFinder {
 	}
 
 
+	private boolean isTest(ITypeBinding binding, Set<ICompilationUnit> dependencies) {
+		TestFinderCache.addDependencies(binding, dependencies);
+		return isTest(binding);
+	}
+
 	private boolean isTest(ITypeBinding binding) {
 		if (Modifier.isAbstract(binding.getModifiers()))
 			return false;
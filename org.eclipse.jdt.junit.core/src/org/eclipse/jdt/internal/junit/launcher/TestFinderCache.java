@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.IAnnotationBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+/**
+ * Caches the results of the test finders across launches, so that running the tests of the same
+ * project, package or type again does not search and parse the whole container again.
+ * <p>
+ * Two kinds of results are cached:
+ * </p>
+ * <ul>
+ * <li>whether a type is a test. The result of a source type is discarded when the types in the
+ * compilation unit of the type, of one of its super types, of its member types or of an annotation
+ * used by them change. All results are discarded when types are added or removed, or when a
+ * classpath or an archive changes.</li>
+ * <li>the tests found in a container. They are discarded when types change in the project of the
+ * container or in a project required by it.</li>
+ * </ul>
+ * <p>
+ * Changes are tracked with Java element deltas, including reconciled changes in working copies.
+ * Changes of method bodies keep all results, since they do not make types tests or no tests.
+ * </p>
+ *
+ * @since 3.13
+ */
+final class TestFinderCache implements IElementChangedListener {
+
+	private static final int MAX_TYPES= 100000;
+
+	private static final int MAX_CONTAINERS= 100;
+
+	/**
+	 * Decides whether a type is a test.
+	 */
+	interface TypeTester {
+		/**
+		 * @param type the type to check
+		 * @param dependencies the compilation units on which the result depends, to be completed
+		 *            with the compilation units of the bindings the decision is based on
+		 * @param monitor the progress monitor, can be <code>null</code>
+		 * @return <code>true</code> if the type is a test
+		 * @throws JavaModelException if the type cannot be accessed
+		 */
+		boolean isTest(IType type, Set<ICompilationUnit> dependencies, IProgressMonitor monitor) throws JavaModelException;
+	}
+
+	/**
+	 * Finds the tests in a container.
+	 */
+	interface ContainerSearch {
+		/**
+		 * @param container the container to search
+		 * @param result the set to add the found tests to
+		 * @param monitor the progress monitor, can be <code>null</code>
+		 * @throws CoreException if the search fails
+		 */
+		void findTests(IJavaElement container, Set<IType> result, IProgressMonitor monitor) throws CoreException;
+	}
+
+	private record Key(String testKindId, IJavaElement element) {
+	}
+
+	private record Verdict(boolean isTest, ICompilationUnit[] dependencies) {
+		boolean dependsOnAny(Set<ICompilationUnit> units) {
+			for (ICompilationUnit dependency : dependencies) {
+				if (units.contains(dependency)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static TestFinderCache fgInstance;
+
+	private final Map<Key, Verdict> fVerdicts= new LinkedHashMap<>(1024, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Verdict> eldest) {
+			return size() > MAX_TYPES;
+		}
+	};
+
+	private final Map<Key, Set<IType>> fTests= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Set<IType>> eldest) {
+			return size() > MAX_CONTAINERS;
+		}
+	};
+
+	/**
+	 * Increased on every change, results computed while a change happens are not cached.
+	 */
+	private long fGeneration;
+
+	private TestFinderCache() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	static synchronized TestFinderCache getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new TestFinderCache();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Returns whether the given type is a test.
+	 *
+	 * @param testKindId the id of the test kind
+	 * @param type the type to check
+	 * @param tester computes the result if not cached
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return <code>true</code> if the type is a test
+	 * @throws JavaModelException if the type cannot be accessed
+	 */
+	boolean isTest(String testKindId, IType type, TypeTester tester, IProgressMonitor monitor) throws JavaModelException {
+		Key key= new Key(testKindId, type);
+		long generation;
+		synchronized (this) {
+			Verdict verdict= fVerdicts.get(key);
+			if (verdict != null) {
+				return verdict.isTest();
+			}
+			generation= fGeneration;
+		}
+		Set<ICompilationUnit> dependencies= new HashSet<>();
+		ICompilationUnit cu= type.getCompilationUnit();
+		if (cu != null) {
+			dependencies.add(cu.getPrimary());
+		}
+		boolean isTest= tester.isTest(type, dependencies, monitor);
+		if (monitor == null || !monitor.isCanceled()) {
+			synchronized (this) {
+				if (generation == fGeneration) {
+					fVerdicts.put(key, new Verdict(isTest, dependencies.toArray(new ICompilationUnit[dependencies.size()])));
+				}
+			}
+		}
+		return isTest;
+	}
+
+	/**
+	 * Finds the tests in the given container.
+	 *
+	 * @param testKindId the id of the test kind
+	 * @param container the container to search
+	 * @param result the set to add the found tests to
+	 * @param search finds the tests if not cached
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws CoreException if the search fails
+	 */
+	void findTestsInContainer(String testKindId, IJavaElement container, Set<IType> result, ContainerSearch search, IProgressMonitor monitor) throws CoreException {
+		Key key= new Key(testKindId, container);
+		long generation;
+		synchronized (this) {
+			Set<IType> tests= fTests.get(key);
+			if (tests != null) {
+				result.addAll(tests);
+				return;
+			}
+			generation= fGeneration;
+		}
+		Set<IType> tests= new HashSet<>();
+		search.findTests(container, tests, monitor);
+		result.addAll(tests);
+		if (monitor == null || !monitor.isCanceled()) {
+			synchronized (this) {
+				if (generation == fGeneration) {
+					fTests.put(key, Set.copyOf(tests));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the compilation units of the given type, its super types, its member types and the
+	 * annotations used by them to the given set. Binary types are not followed, they only change
+	 * together with their archive or class folder.
+	 *
+	 * @param binding the type binding
+	 * @param dependencies the set to add the compilation units to
+	 */
+	static void addDependencies(ITypeBinding binding, Set<ICompilationUnit> dependencies) {
+		addDependencies(binding, dependencies, new HashSet<>());
+	}
+
+	private static void addDependencies(ITypeBinding binding, Set<ICompilationUnit> dependencies, Set<String> visited) {
+		if (binding == null) {
+			return;
+		}
+		ITypeBinding type= binding.getTypeDeclaration();
+		if (!type.isFromSource() || !visited.add(type.getKey())) {
+			return;
+		}
+		if (type.getJavaElement() instanceof IType element && element.getCompilationUnit() != null) {
+			dependencies.add(element.getCompilationUnit().getPrimary());
+		}
+		addDependencies(type.getSuperclass(), dependencies, visited);
+		for (ITypeBinding intf : type.getInterfaces()) {
+			addDependencies(intf, dependencies, visited);
+		}
+		for (ITypeBinding declaredType : type.getDeclaredTypes()) {
+			addDependencies(declaredType, dependencies, visited);
+		}
+		addDependencies(type.getAnnotations(), dependencies, visited);
+		for (IMethodBinding method : type.getDeclaredMethods()) {
+			addDependencies(method.getAnnotations(), dependencies, visited);
+		}
+	}
+
+	private static void addDependencies(IAnnotationBinding[] annotations, Set<ICompilationUnit> dependencies, Set<String> visited) {
+		for (IAnnotationBinding annotation : annotations) {
+			if (annotation != null) {
+				addDependencies(annotation.getAnnotationType(), dependencies, visited);
+			}
+		}
+	}
+
+	synchronized void clear() {
+		fGeneration++;
+		fVerdicts.clear();
+		fTests.clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Changes changes= new Changes();
+		changes.collect(event.getDelta());
+		if (changes.fAll) {
+			clear();
+			return;
+		}
+		if (changes.fProjects.isEmpty()) {
+			return;
+		}
+		synchronized (this) {
+			fGeneration++;
+			if (changes.fTypesChanged) {
+				fVerdicts.clear();
+			} else if (!changes.fUnits.isEmpty()) {
+				fVerdicts.values().removeIf(verdict -> verdict.dependsOnAny(changes.fUnits));
+			}
+			fTests.keySet().removeIf(key -> requiresAny(key.element().getJavaProject(), changes.fProjects, new HashSet<>()));
+		}
+	}
+
+	/**
+	 * @param project the project
+	 * @param changedProjects the changed projects
+	 * @param visited the names of the projects visited so far
+	 * @return <code>true</code> if the project is one of the changed projects or requires one of
+	 *         them directly or indirectly
+	 */
+	private static boolean requiresAny(IJavaProject project, Set<IJavaProject> changedProjects, Set<String> visited) {
+		if (changedProjects.contains(project)) {
+			return true;
+		}
+		if (!visited.add(project.getElementName())) {
+			return false;
+		}
+		String[] requiredProjectNames;
+		try {
+			requiredProjectNames= project.getRequiredProjectNames();
+		} catch (JavaModelException e) {
+			// closing or deleting the project itself is reported by a delta on the project
+			return false;
+		}
+		for (String name : requiredProjectNames) {
+			if (requiresAny(project.getJavaModel().getJavaProject(name), changedProjects, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The changes described by a Java element delta.
+	 */
+	private static class Changes {
+
+		private static final int CONTAINER_CHILDREN_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+
+		/** The whole Java model changed */
+		boolean fAll;
+
+		/** Types were added or removed, or a classpath or a binary changed */
+		boolean fTypesChanged;
+
+		final Set<IJavaProject> fProjects= new HashSet<>();
+
+		/** The primary compilation units in which types changed */
+		final Set<ICompilationUnit> fUnits= new HashSet<>();
+
+		void collect(IJavaElementDelta delta) {
+			IJavaElement element= delta.getElement();
+			switch (element.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					if (delta.getKind() != IJavaElementDelta.CHANGED) {
+						fAll= true;
+						return;
+					}
+					break;
+				case IJavaElement.JAVA_PROJECT:
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				case IJavaElement.PACKAGE_FRAGMENT:
+					fProjects.add(element.getJavaProject());
+					if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~CONTAINER_CHILDREN_FLAGS) != 0) {
+						fTypesChanged= true;
+					}
+					break;
+				case IJavaElement.COMPILATION_UNIT:
+					if (!isStructuralChange(delta)) {
+						// changed method bodies do not make types tests or no tests
+						return;
+					}
+					fProjects.add(element.getJavaProject());
+					fUnits.add(((ICompilationUnit) element).getPrimary());
+					if (delta.getKind() != IJavaElementDelta.CHANGED
+							|| (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED)) == IJavaElementDelta.F_CONTENT) {
+						// added, removed or changed without details
+						fTypesChanged= true;
+					} else {
+						collectTypeChanges(delta);
+					}
+					return;
+				default:
+					// class files
+					fProjects.add(element.getJavaProject());
+					fTypesChanged= true;
+					return;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				collect(child);
+			}
+		}
+
+		/**
+		 * @param delta the delta of a compilation unit
+		 * @return <code>true</code> if the compilation unit was added or removed, or types or
+		 *         members were added, removed or changed
+		 */
+		private static boolean isStructuralChange(IJavaElementDelta delta) {
+			if (delta.getKind() != IJavaElementDelta.CHANGED)
+				return true;
+			int flags= delta.getFlags();
+			if ((flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+				// discarding a primary working copy reverts its content without further details
+				return (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY)) != 0;
+			// a fine grained delta reports changes of the signatures, modifiers, annotations and
+			// supertypes of types and members as affected children, but no children for changed
+			// method bodies
+			return delta.getAffectedChildren().length > 0;
+		}
+
+		private void collectTypeChanges(IJavaElementDelta delta) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (child.getElement().getElementType() == IJavaElement.TYPE) {
+					if (child.getKind() != IJavaElementDelta.CHANGED) {
+						fTypesChanged= true;
+						return;
+					}
+					collectTypeChanges(child);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
+/**
+ * Compact representation of potentially long texts of test elements, such as failure traces and
+ * compared values. Texts are stored as UTF-8, texts longer than {@link #COMPRESSION_THRESHOLD}
+ * characters are additionally deflated. Stack traces are highly redundant, so large test runs with
+ * many failures need a fraction of the memory of plain strings.
+ */
+final class CompactText {
+
+	/**
+	 * Texts with at least this number of characters are compressed.
+	 */
+	static final int COMPRESSION_THRESHOLD= 256;
+
+	private static final byte PLAIN= 0;
+
+	private static final byte DEFLATED= 1;
+
+	private CompactText() {
+	}
+
+	/**
+	 * @param text the text, can be <code>null</code>
+	 * @return the compact form of the text, or <code>null</code> if the text is <code>null</code>
+	 */
+	static byte[] compact(String text) {
+		if (text == null)
+			return null;
+		byte[] bytes= text.getBytes(StandardCharsets.UTF_8);
+		if (text.length() >= COMPRESSION_THRESHOLD) {
+			Deflater deflater= new Deflater(Deflater.BEST_SPEED);
+			try {
+				deflater.setInput(bytes);
+				deflater.finish();
+				ByteArrayOutputStream out= new ByteArrayOutputStream(bytes.length / 4 + 16);
+				out.write(DEFLATED);
+				byte[] buffer= new byte[4096];
+				while (!deflater.finished()) {
+					int count= deflater.deflate(buffer);
+					out.write(buffer, 0, count);
+				}
+				if (out.size() < bytes.length + 1)
+					return out.toByteArray();
+			} finally {
+				deflater.end();
+			}
+		}
+		byte[] result= new byte[bytes.length + 1];
+		result[0]= PLAIN;
+		System.arraycopy(bytes, 0, result, 1, bytes.length);
+		return result;
+	}
+
+	/**
+	 * @param compact the compact form as returned by {@link #compact(String)}, can be
+	 *            <code>null</code>
+	 * @return the text, or <code>null</code> if <code>compact</code> is <code>null</code>
+	 */
+	static String expand(byte[] compact) {
+		if (compact == null)
+			return null;
+		if (compact[0] == PLAIN)
+			return new String(compact, 1, compact.length - 1, StandardCharsets.UTF_8);
+
+		Inflater inflater= new Inflater();
+		try {
+			inflater.setInput(compact, 1, compact.length - 1);
+			ByteArrayOutputStream out= new ByteArrayOutputStream(compact.length * 4);
+			byte[] buffer= new byte[4096];
+			while (!inflater.finished()) {
+				int count= inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					break;
+				out.write(buffer, 0, count);
+			}
+			return out.toString(StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			JUnitCorePlugin.log(e);
+			return null;
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -528,14 +528,14 @@ public final class JUnitModel {
 		transformer.transform(source, result);
 	}
 
-	private static void throwExportError(File file, Exception e) throws CoreException {
+	static void throwExportError(File file, Exception e) throws CoreException {
 		throw new CoreException(new org.eclipse.core.runtime.Status(IStatus.ERROR,
 				JUnitCorePlugin.getPluginId(),
 				Messages.format(ModelMessages.JUnitModel_could_not_write, BasicElementLabels.getPathLabel(file)),
 				e));
 	}
 
-	private static void throwImportError(File file, Exception e) throws CoreException {
+	static void throwImportError(File file, Exception e) throws CoreException {
 		throw new CoreException(new org.eclipse.core.runtime.Status(IStatus.ERROR,
 				JUnitCorePlugin.getPluginId(),
 				Messages.format(ModelMessages.JUnitModel_could_not_read, BasicElementLabels.getPathLabel(file)),
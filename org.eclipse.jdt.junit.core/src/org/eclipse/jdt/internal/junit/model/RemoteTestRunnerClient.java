@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -30,6 +31,7 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageReader;
 import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 
@@ -237,6 +239,10 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * Input of the binary protocol, <code>null</code> if the line-oriented protocol is used
+	 */
+	private BinaryMessageReader fBinaryInput;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -275,11 +281,21 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				BufferedInputStream in= new BufferedInputStream(fSocket.getInputStream());
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				if (BinaryMessageReader.readProtocolHeader(in)) {
+					fBinaryInput= new BinaryMessageReader(in);
+					// multi-line messages are sent without their last line delimiter
+					fLastLineDelimiter= System.lineSeparator();
+					while (fBinaryInput != null && fBinaryInput.readBatch(RemoteTestRunnerClient.this::receiveMessage)) {
+						// messages are processed while reading the batch
+					}
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -335,6 +351,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fBinaryInput != null) {
+				fBinaryInput.close();
+				fBinaryInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
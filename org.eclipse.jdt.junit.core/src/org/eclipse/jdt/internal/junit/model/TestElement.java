@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -190,9 +190,14 @@ public abstract class TestElement implements ITestElement {
 	private String fUniqueId;
 
 	private Status fStatus;
-	private String fTrace;
-	private String fExpected;
-	private String fActual;
+
+	/**
+	 * The failure trace, expected and actual values in the form of {@link CompactText}, or
+	 * <code>null</code>.
+	 */
+	private byte[] fTrace;
+	private byte[] fExpected;
+	private byte[] fActual;
 
 	private boolean fAssumptionFailed;
 
@@ -263,7 +268,7 @@ public abstract class TestElement implements ITestElement {
 		Result testResult= getTestResult(false);
 		if (testResult == Result.ERROR || testResult == Result.FAILURE
 				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+			return new FailureTrace(getTrace(), getExpected(), getActual());
 		}
 		return null;
 	}
@@ -306,11 +311,11 @@ public abstract class TestElement implements ITestElement {
 	public void setStatus(Status status, String trace, String expected, String actual) {
 		if (trace != null && fTrace != null) {
 			//don't overwrite first trace if same test run logs multiple errors
-			fTrace= fTrace + trace;
+			fTrace= CompactText.compact(CompactText.expand(fTrace) + trace);
 		} else {
-			fTrace= trace;
-			fExpected= expected;
-			fActual= actual;
+			fTrace= CompactText.compact(trace);
+			fExpected= CompactText.compact(expected);
+			fActual= CompactText.compact(actual);
 		}
 		setStatus(status);
 	}
@@ -320,17 +325,47 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getTrace() {
-		return fTrace;
+		return CompactText.expand(fTrace);
 	}
 
 	public String getExpected() {
-		return fExpected;
+		return CompactText.expand(fExpected);
 	}
 
 	public String getActual() {
+		return CompactText.expand(fActual);
+	}
+
+	/**
+	 * @return the failure trace of this element in the form of {@link CompactText}, or
+	 *         <code>null</code>
+	 */
+	byte[] getCompactTrace() {
+		return fTrace;
+	}
+
+	byte[] getCompactExpected() {
+		return fExpected;
+	}
+
+	byte[] getCompactActual() {
 		return fActual;
 	}
 
+	/**
+	 * Sets the failure trace, expected and actual values in the form of {@link CompactText} without
+	 * changing the status.
+	 *
+	 * @param trace the trace, can be <code>null</code>
+	 * @param expected the expected value, can be <code>null</code>
+	 * @param actual the actual value, can be <code>null</code>
+	 */
+	void setCompactFailure(byte[] trace, byte[] expected, byte[] actual) {
+		fTrace= trace;
+		fExpected= expected;
+		fActual= actual;
+	}
+
 	public boolean isComparisonFailure() {
 		return fExpected != null && fActual != null;
 	}
@@ -388,6 +423,14 @@ public abstract class TestElement implements ITestElement {
 		return fAssumptionFailed;
 	}
 
+	/**
+	 * @return whether the assumption of this element itself failed, regardless of overrides in
+	 *         subclasses
+	 */
+	final boolean isOwnAssumptionFailure() {
+		return fAssumptionFailed;
+	}
+
 	@Override
 	public String toString() {
 		return getProgressState() + " - " + getTestResult(true); //$NON-NLS-1$
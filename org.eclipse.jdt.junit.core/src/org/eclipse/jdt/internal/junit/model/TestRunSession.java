@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
@@ -88,6 +90,18 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private HashMap<String, TestElement> fIdToTest;
 
+	/**
+	 * Maximal number of names in the {@link #fNamePool}.
+	 */
+	private static final int NAME_POOL_SIZE= 1000;
+
+	/**
+	 * Pool of names shared by the test elements of this session, such as display names and
+	 * parameter types, which are repeated for many tests. Only the most recently used names are
+	 * kept, so that names which are not repeated do not accumulate during a run.
+	 */
+	private Map<String, String> fNamePool;
+
 	/**
 	 * The TestSuites for which additional children are expected.
 	 */
@@ -168,6 +182,7 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
+		fNamePool= createNamePool();
 
 		fTestRunnerClient= null;
 
@@ -192,6 +207,7 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fIdToTest= new HashMap<>();
+		fNamePool= createNamePool();
 
 		fTestRunnerClient= new RemoteTestRunnerClient();
 		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
@@ -239,6 +255,7 @@ public class TestRunSession implements ITestRunSession {
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
 		fIdToTest= new HashMap<>();
+		fNamePool= createNamePool();
 	}
 
 	@Override
@@ -370,11 +387,12 @@ public class TestRunSession implements ITestRunSession {
 		try {
 			File swapFile= getSwapFile();
 
-			JUnitModel.exportTestRunSession(this, swapFile);
+			TestRunSessionStore.write(this, swapFile);
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
 			fIdToTest= new HashMap<>();
+			fNamePool= createNamePool();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
@@ -398,7 +416,7 @@ public class TestRunSession implements ITestRunSession {
 	private File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".session"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -408,7 +426,7 @@ public class TestRunSession implements ITestRunSession {
 			return;
 
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
+			TestRunSessionStore.read(getSwapFile(), this);
 		} catch (IllegalStateException | CoreException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
@@ -565,9 +583,10 @@ public class TestRunSession implements ITestRunSession {
 
 	public TestElement createTestElement(TestSuiteElement parent, String id, String testName, boolean isSuite, int testCount, boolean isDynamicTest, String displayName, String[] parameterTypes, String uniqueId) {
 		TestElement testElement;
-		if (parameterTypes != null && parameterTypes.length > 1) {
-			parameterTypes= Arrays.stream(parameterTypes).map(String::trim).toArray(String[]::new);
+		if (parameterTypes != null) {
+			parameterTypes= Arrays.stream(parameterTypes).map(t -> internName(t.trim())).toArray(String[]::new);
 		}
+		displayName= internName(displayName);
 		if (isSuite) {
 			TestSuiteElement testSuiteElement= new TestSuiteElement(parent, id, testName, testCount, displayName, parameterTypes, uniqueId);
 			testElement= testSuiteElement;
@@ -583,6 +602,33 @@ public class TestRunSession implements ITestRunSession {
 		return testElement;
 	}
 
+	private static Map<String, String> createNamePool() {
+		return new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > NAME_POOL_SIZE;
+			}
+		};
+	}
+
+	/**
+	 * Returns the pooled instance of the given name, so that equal names of different test
+	 * elements share the same string.
+	 *
+	 * @param name the name, can be <code>null</code>
+	 * @return the pooled name, or <code>null</code> if <code>name</code> is <code>null</code>
+	 */
+	private String internName(String name) {
+		if (name == null)
+			return null;
+		synchronized (fNamePool) {
+			String pooled= fNamePool.putIfAbsent(name, name);
+			return pooled != null ? pooled : name;
+		}
+	}
+
 	/**
 	 * Append the test name from <code>s</code> to <code>testName</code>.
 	 *
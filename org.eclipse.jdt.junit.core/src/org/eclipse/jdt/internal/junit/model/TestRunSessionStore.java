@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Stores test run sessions that are swapped out of memory in a binary format.
+ * <p>
+ * In contrast to the XML format used for import and export, the store keeps the complete state of
+ * the test elements: names are not split into class and method, failure traces stay in the form of
+ * {@link CompactText} and are neither expanded nor escaped, and the session counters are stored
+ * instead of being recomputed.
+ * </p>
+ */
+final class TestRunSessionStore {
+
+	private static final int MAGIC= 0x4A555453; // "JUTS"
+
+	/**
+	 * Version of the format, to be increased on incompatible changes.
+	 */
+	private static final int VERSION= 1;
+
+	private static final byte KIND_SUITE= 1;
+
+	private static final byte KIND_CASE= 2;
+
+	private static final Status[] STATUS_BY_CODE= new Status[7];
+	static {
+		for (Status status : new Status[] { Status.OK, Status.ERROR, Status.FAILURE, Status.RUNNING, Status.NOT_RUN, Status.RUNNING_ERROR, Status.RUNNING_FAILURE }) {
+			STATUS_BY_CODE[status.getOldCode()]= status;
+		}
+	}
+
+	private TestRunSessionStore() {
+	}
+
+	/**
+	 * Writes the given test run session.
+	 *
+	 * @param session the test run session
+	 * @param file the destination
+	 * @throws CoreException if writing failed
+	 */
+	static void write(TestRunSession session, File file) throws CoreException {
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(session.fStartedCount);
+			out.writeInt(session.fIgnoredCount);
+			out.writeInt(session.fAssumptionFailureCount);
+			out.writeInt(session.fErrorCount);
+			out.writeInt(session.fFailureCount);
+			out.writeInt(session.fTotalCount);
+			writeChildren(out, session.getTestRoot());
+		} catch (IOException e) {
+			JUnitModel.throwExportError(file, e);
+		}
+	}
+
+	/**
+	 * Reads the test elements of the given session from a file written by
+	 * {@link #write(TestRunSession, File)}.
+	 *
+	 * @param file the file to read
+	 * @param session the test run session, will be reset
+	 * @throws CoreException if reading failed
+	 */
+	static void read(File file, TestRunSession session) throws CoreException {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				throw new IOException("Unsupported test run session format"); //$NON-NLS-1$
+			int startedCount= in.readInt();
+			int ignoredCount= in.readInt();
+			int assumptionFailureCount= in.readInt();
+			int errorCount= in.readInt();
+			int failureCount= in.readInt();
+			int totalCount= in.readInt();
+
+			session.reset();
+			readChildren(in, session, session.getTestRoot(), new int[1]);
+
+			session.fStartedCount= startedCount;
+			session.fIgnoredCount= ignoredCount;
+			session.fAssumptionFailureCount= assumptionFailureCount;
+			session.fErrorCount= errorCount;
+			session.fFailureCount= failureCount;
+			session.fTotalCount= totalCount;
+		} catch (IOException | RuntimeException e) {
+			JUnitModel.throwImportError(file, e);
+		}
+	}
+
+	private static void writeChildren(DataOutputStream out, TestSuiteElement suite) throws IOException {
+		TestElement[] children= suite.getChildElements();
+		out.writeInt(children.length);
+		for (TestElement child : children) {
+			writeElement(out, child);
+		}
+	}
+
+	private static void writeElement(DataOutputStream out, TestElement element) throws IOException {
+		boolean isSuite= element instanceof TestSuiteElement;
+		out.writeByte(isSuite ? KIND_SUITE : KIND_CASE);
+		writeString(out, element.getTestName());
+		writeString(out, element.getDisplayName());
+		String[] parameterTypes= element.getParameterTypes();
+		if (parameterTypes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(parameterTypes.length);
+			for (String parameterType : parameterTypes) {
+				writeString(out, parameterType);
+			}
+		}
+		writeString(out, element.getUniqueId());
+
+		Status status= isSuite ? ((TestSuiteElement) element).getSuiteStatus() : element.getStatus();
+		out.writeByte(status.getOldCode());
+		out.writeBoolean(element.isOwnAssumptionFailure());
+		writeBytes(out, element.getCompactTrace());
+		writeBytes(out, element.getCompactExpected());
+		writeBytes(out, element.getCompactActual());
+
+		if (isSuite) {
+			writeChildren(out, (TestSuiteElement) element);
+		} else {
+			TestCaseElement testCase= (TestCaseElement) element;
+			out.writeBoolean(testCase.isDynamicTest());
+			out.writeBoolean(testCase.isIgnored());
+		}
+		// written last, since status changes of the children update the time of the suite
+		out.writeDouble(element.fTime);
+	}
+
+	private static void readChildren(DataInputStream in, TestRunSession session, TestSuiteElement suite, int[] nextId) throws IOException {
+		int count= in.readInt();
+		for (int i= 0; i < count; i++) {
+			readElement(in, session, suite, nextId);
+		}
+	}
+
+	private static void readElement(DataInputStream in, TestRunSession session, TestSuiteElement parent, int[] nextId) throws IOException {
+		boolean isSuite= in.readByte() == KIND_SUITE;
+		String testName= readString(in);
+		String displayName= readString(in);
+		String[] parameterTypes= null;
+		int parameterCount= in.readInt();
+		if (parameterCount >= 0) {
+			parameterTypes= new String[parameterCount];
+			for (int i= 0; i < parameterCount; i++) {
+				parameterTypes[i]= readString(in);
+			}
+		}
+		String uniqueId= readString(in);
+
+		Status status= STATUS_BY_CODE[in.readByte()];
+		boolean assumptionFailed= in.readBoolean();
+		byte[] trace= readBytes(in);
+		byte[] expected= readBytes(in);
+		byte[] actual= readBytes(in);
+
+		String id= Integer.toString(nextId[0]++);
+		TestElement element;
+		if (isSuite) {
+			element= session.createTestElement(parent, id, testName, true, 0, false, displayName, parameterTypes, uniqueId);
+			restoreStatus(element, status, assumptionFailed, trace, expected, actual);
+			readChildren(in, session, (TestSuiteElement) element, nextId);
+		} else {
+			boolean isDynamicTest= in.readBoolean();
+			element= session.createTestElement(parent, id, testName, false, 0, isDynamicTest, displayName, parameterTypes, uniqueId);
+			((TestCaseElement) element).setIgnored(in.readBoolean());
+			restoreStatus(element, status, assumptionFailed, trace, expected, actual);
+		}
+		element.setElapsedTimeInSeconds(in.readDouble());
+	}
+
+	private static void restoreStatus(TestElement element, Status status, boolean assumptionFailed, byte[] trace, byte[] expected, byte[] actual) {
+		element.setCompactFailure(trace, expected, actual);
+		element.setAssumptionFailed(assumptionFailed);
+		if (status != Status.NOT_RUN)
+			element.setStatus(status);
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		writeBytes(out, string == null ? null : string.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes= readBytes(in);
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		int length= in.readInt();
+		if (length < 0)
+			return null;
+		byte[] bytes= new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,14 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		return new ITestElement[0];
 	}
 
+	/**
+	 * @return all children, including a single dynamic test that is hidden by
+	 *         {@link #getChildren()}
+	 */
+	TestElement[] getChildElements() {
+		return fChildren.toArray(new TestElement[fChildren.size()]);
+	}
+
 	public void addChild(TestElement child) {
 		fChildren.add(child);
 	}
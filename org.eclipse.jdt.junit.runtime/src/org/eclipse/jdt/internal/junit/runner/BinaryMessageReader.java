@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Reads messages written by a {@link BinaryMessageWriter}, see {@link MessageIds#BINARY_PROTOCOL}.
+ * <p>
+ * The messages of a frame are only passed on once the complete frame has been read, so a frame cut
+ * off by the end of the stream is dropped as a whole.
+ * </p>
+ */
+public class BinaryMessageReader {
+
+	private final DataInputStream fIn;
+
+	/**
+	 * Creates a reader for the frames following the protocol header.
+	 *
+	 * @param in the stream to read from, positioned after the protocol header
+	 * @see #readProtocolHeader(BufferedInputStream)
+	 */
+	public BinaryMessageReader(InputStream in) {
+		fIn= new DataInputStream(in);
+	}
+
+	/**
+	 * Checks whether the stream starts with the announcement of the binary protocol. Consumes the
+	 * header if it is present, otherwise leaves the stream unchanged.
+	 *
+	 * @param in the stream to read from
+	 * @return <code>true</code> if the binary protocol is used
+	 * @throws IOException if reading fails
+	 */
+	public static boolean readProtocolHeader(BufferedInputStream in) throws IOException {
+		byte[] header= (MessageIds.BINARY_PROTOCOL + '\n').getBytes(StandardCharsets.UTF_8);
+		in.mark(header.length);
+		byte[] read= in.readNBytes(header.length);
+		if (Arrays.equals(header, read))
+			return true;
+		in.reset();
+		return false;
+	}
+
+	/**
+	 * Reads one frame and passes its messages to the given handler.
+	 *
+	 * @param handler receives the messages of the frame in the order they were written
+	 * @return <code>false</code> if the end of the stream has been reached, including the end of a
+	 *         truncated frame
+	 * @throws IOException if reading fails or the frame is malformed
+	 */
+	public boolean readBatch(Consumer<String> handler) throws IOException {
+		int frameLength;
+		try {
+			frameLength= fIn.readInt();
+		} catch (EOFException e) {
+			return false;
+		}
+		if (frameLength < 4)
+			throw new IOException("Invalid frame length: " + frameLength); //$NON-NLS-1$
+		// grows with the bytes actually read, so a corrupt length does not allocate a huge buffer
+		byte[] frame= fIn.readNBytes(frameLength);
+		if (frame.length < frameLength)
+			return false;
+		ByteBuffer buffer= ByteBuffer.wrap(frame);
+		String[] messages;
+		try {
+			int count= buffer.getInt();
+			// every message is preceded by its length
+			if (count < 0 || count > buffer.remaining() / 4)
+				throw new IOException("Invalid message count: " + count); //$NON-NLS-1$
+			messages= new String[count];
+			for (int i= 0; i < messages.length; i++) {
+				int length= buffer.getInt();
+				if (length < 0 || length > buffer.remaining())
+					throw new IOException("Invalid message length: " + length); //$NON-NLS-1$
+				messages[i]= new String(frame, buffer.position(), length, StandardCharsets.UTF_8);
+				buffer.position(buffer.position() + length);
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Malformed frame", e); //$NON-NLS-1$
+		}
+		for (String message : messages) {
+			handler.accept(message);
+		}
+		return true;
+	}
+
+	/**
+	 * Closes the underlying stream.
+	 *
+	 * @throws IOException if closing fails
+	 */
+	public void close() throws IOException {
+		fIn.close();
+	}
+}
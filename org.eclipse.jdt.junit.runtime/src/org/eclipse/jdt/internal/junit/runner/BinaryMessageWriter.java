@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes messages using the binary protocol, see {@link MessageIds#BINARY_PROTOCOL}.
+ * <p>
+ * Messages are collected in a batch which is written as one frame when it exceeds
+ * {@link #MAX_BATCH_SIZE} bytes or when the writer is flushed. A frame consists of its length in
+ * bytes, the number of messages and, for each message, its length in bytes followed by the UTF-8
+ * encoded message. Messages may contain line delimiters, so multi-line messages such as traces are
+ * transmitted as a single message.
+ * </p>
+ */
+public class BinaryMessageWriter {
+
+	/**
+	 * Size of a batch in bytes after which the batch is written.
+	 */
+	public static final int MAX_BATCH_SIZE= 64 * 1024;
+
+	private final DataOutputStream fOut;
+
+	private final ByteArrayOutputStream fBatchBytes= new ByteArrayOutputStream(MAX_BATCH_SIZE + 1024);
+
+	private final DataOutputStream fBatch= new DataOutputStream(fBatchBytes);
+
+	private int fBatchCount;
+
+	private boolean fError;
+
+	/**
+	 * Creates a writer and announces the binary protocol on the given stream.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the protocol header cannot be written
+	 */
+	public BinaryMessageWriter(OutputStream out) throws IOException {
+		fOut= new DataOutputStream(new BufferedOutputStream(out, MAX_BATCH_SIZE + 1024));
+		fOut.write((MessageIds.BINARY_PROTOCOL + '\n').getBytes(StandardCharsets.UTF_8));
+		fOut.flush();
+	}
+
+	/**
+	 * Adds a message to the current batch.
+	 *
+	 * @param message the message
+	 */
+	public synchronized void write(String message) {
+		try {
+			byte[] bytes= message.getBytes(StandardCharsets.UTF_8);
+			fBatch.writeInt(bytes.length);
+			fBatch.write(bytes);
+			fBatchCount++;
+			if (fBatchBytes.size() >= MAX_BATCH_SIZE) {
+				writeBatch();
+			}
+		} catch (IOException e) {
+			fError= true;
+		}
+	}
+
+	/**
+	 * Writes the current batch and flushes the underlying stream.
+	 */
+	public synchronized void flush() {
+		try {
+			writeBatch();
+			fOut.flush();
+		} catch (IOException e) {
+			fError= true;
+		}
+	}
+
+	/**
+	 * Writes pending messages and closes the underlying stream.
+	 */
+	public synchronized void close() {
+		flush();
+		try {
+			fOut.close();
+		} catch (IOException e) {
+			fError= true;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if writing to the underlying stream failed, like
+	 *         {@link java.io.PrintWriter#checkError()}
+	 */
+	public synchronized boolean checkError() {
+		return fError;
+	}
+
+	private void writeBatch() throws IOException {
+		if (fBatchCount == 0)
+			return;
+		fOut.writeInt(fBatchBytes.size() + 4);
+		fOut.writeInt(fBatchCount);
+		fBatchBytes.writeTo(fOut);
+		fBatchBytes.reset();
+		fBatchCount= 0;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
+import java.util.List;
+
 public class FailedComparison {
 
 	private final String fExpected;
@@ -34,14 +36,14 @@ public class FailedComparison {
 		return fExpected;
 	}
 
-	void sendMessages(MessageSender sender) {
-		sender.sendMessage(MessageIds.EXPECTED_START);
-		sender.sendMessage(getExpected());
-		sender.sendMessage(MessageIds.EXPECTED_END);
+	void addMessages(List<String> messages) {
+		messages.add(MessageIds.EXPECTED_START);
+		messages.add(getExpected());
+		messages.add(MessageIds.EXPECTED_END);
 
-		sender.sendMessage(MessageIds.ACTUAL_START);
-		sender.sendMessage(getActual());
-		sender.sendMessage(MessageIds.ACTUAL_END);
+		messages.add(MessageIds.ACTUAL_START);
+		messages.add(getActual());
+		messages.add(MessageIds.ACTUAL_END);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,9 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class FirstRunExecutionListener implements IListensToTestExecutions {
 	protected MessageSender fSender;
 
@@ -35,10 +38,12 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 	}
 
 	@Override
-	public synchronized void notifyTestFailed(TestReferenceFailure failure) {
-		sendMessage(failure.getTest(), failure.getStatus());
-		sendFailure(failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
-		// fSender.flush(); // flush is implicitly done by sendFailure()
+	public void notifyTestFailed(TestReferenceFailure failure) {
+		List<String> messages= new ArrayList<>();
+		messages.add(getMessage(failure.getTest(), failure.getStatus()));
+		addFailureMessages(messages, failure, MessageIds.TRACE_START, MessageIds.TRACE_END);
+		fSender.sendMessages(messages.toArray(new String[messages.size()]));
+		fSender.flush();
 	}
 
 	@Override
@@ -53,18 +58,28 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 
 	protected void sendFailure(TestReferenceFailure failure, String startTrace,
 			String endTrace) {
+		List<String> messages= new ArrayList<>();
+		addFailureMessages(messages, failure, startTrace, endTrace);
+		fSender.sendMessages(messages.toArray(new String[messages.size()]));
+		fSender.flush();
+	}
+
+	private void addFailureMessages(List<String> messages, TestReferenceFailure failure, String startTrace, String endTrace) {
 		FailedComparison comparison = failure.getComparison();
 		if (comparison != null)
-			comparison.sendMessages(fSender);
+			comparison.addMessages(messages);
 
-		fSender.sendMessage(startTrace);
-		fSender.sendMessage(failure.getTrace());
-		fSender.sendMessage(endTrace);
-		fSender.flush();
+		messages.add(startTrace);
+		messages.add(failure.getTrace());
+		messages.add(endTrace);
 	}
 
 	private void sendMessage(ITestIdentifier test, String status) {
-		fSender.sendMessage(status + getTestId(test) + ',' + RemoteTestRunner.escapeText(test.getName()));
+		fSender.sendMessage(getMessage(test, status));
+	}
+
+	private String getMessage(ITestIdentifier test, String status) {
+		return status + getTestId(test) + ',' + RemoteTestRunner.escapeText(test.getName());
 	}
 
 }
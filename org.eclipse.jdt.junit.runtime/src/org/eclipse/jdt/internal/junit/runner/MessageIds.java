@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -123,6 +123,20 @@ public class MessageIds {
 	 * See: ITestRunListener2#testTreeEntry
 	 */
 	public static final String TEST_TREE= "%TSTTREE"; //$NON-NLS-1$
+	/**
+	 * Notification that all following messages are sent using the binary protocol. Only sent
+	 * as the first line if the runner was started with the <code>-binaryprotocol</code> argument.
+	 * <p>
+	 * After this line, the stream consists of frames: the frame length in bytes and the number
+	 * of messages as big-endian ints, followed by each message as an int byte length and the UTF-8
+	 * encoded message. Messages are the same as in the line-oriented protocol, except that
+	 * multi-line content like traces is sent as one message.
+	 * </p>
+	 *
+	 * @see BinaryMessageWriter
+	 */
+	public static final String BINARY_PROTOCOL= "%BINARY "; //$NON-NLS-1$
+
 	/**
 	 * Request to stop the current test run.
 	 */
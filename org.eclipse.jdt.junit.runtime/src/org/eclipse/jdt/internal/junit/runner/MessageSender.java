@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,28 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
+/**
+ * Sends messages to the client. Tests may be executed in parallel, so implementations must be
+ * thread-safe.
+ */
 public interface MessageSender {
 
 	void sendMessage(String msg);
 
+	/**
+	 * Sends the given messages without interleaving them with messages sent concurrently by other
+	 * threads.
+	 *
+	 * @param msgs the messages to send
+	 */
+	default void sendMessages(String... msgs) {
+		synchronized (this) {
+			for (String msg : msgs) {
+				sendMessage(msg);
+			}
+		}
+	}
+
 	void flush();
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,16 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages with the binary protocol, <code>null</code> if the
+	 * line-oriented protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+	/**
+	 * Lock for sending messages, since tests may be executed in parallel. Not the runner itself,
+	 * which is held while waiting for rerun requests.
+	 */
+	private final Object fSendLock= new Object();
 	/**
 	 * Reader for incoming messages
 	 */
@@ -137,6 +147,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private boolean fConsoleMode = false;
 
+	/**
+	 * Use the binary protocol to send messages (argument -binaryprotocol)
+	 */
+	private boolean fBinaryProtocol= false;
+
 	/**
 	 * Reader thread that processes messages from the client.
 	 */
@@ -301,6 +316,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-binaryprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fBinaryProtocol= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -639,11 +657,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
+				if (fBinaryProtocol) {
+					fBinaryWriter= new BinaryMessageWriter(fClientSocket.getOutputStream());
+				} else {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
@@ -668,9 +690,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
-		if (fWriter != null) {
-			fWriter.close();
-			fWriter= null;
+		synchronized (fSendLock) {
+			if (fWriter != null) {
+				fWriter.close();
+				fWriter= null;
+			}
+			if (fBinaryWriter != null) {
+				fBinaryWriter.close();
+				fBinaryWriter= null;
+			}
 		}
 		try {
 			if (fReaderThread != null)   {
@@ -701,11 +729,26 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
-		if(fWriter == null)
-			return;
-		fWriter.println(msg);
-//		if (!fConsoleMode)
-//			System.out.println(msg);
+		synchronized (fSendLock) {
+			if (fBinaryWriter != null) {
+				fBinaryWriter.write(msg);
+				return;
+			}
+			if(fWriter == null)
+				return;
+			fWriter.println(msg);
+//			if (!fConsoleMode)
+//				System.out.println(msg);
+		}
+	}
+
+	@Override
+	public void sendMessages(String... msgs) {
+		synchronized (fSendLock) {
+			for (String msg : msgs) {
+				sendMessage(msg);
+			}
+		}
 	}
 
 	protected void notifyTestRunStarted(int testCount) {
@@ -741,7 +784,12 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
-	    fWriter.flush();
+		synchronized (fSendLock) {
+			if (fBinaryWriter != null)
+				fBinaryWriter.flush();
+			else
+				fWriter.flush();
+		}
 	}
 
 	private void runTests(TestExecution execution) {
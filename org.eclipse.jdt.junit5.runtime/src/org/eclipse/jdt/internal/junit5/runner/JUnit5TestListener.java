@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,9 +40,14 @@ public class JUnit5TestListener implements TestExecutionListener {
 
 	private final IListensToTestExecutions fNotified;
 
-	private RemoteTestRunner fRemoteTestRunner;
+	private final RemoteTestRunner fRemoteTestRunner;
 
-	private TestPlan fTestPlan;
+	/**
+	 * The test plan being executed. Events may be reported concurrently when tests are executed in
+	 * parallel, so all state used by the listener is either immutable or thread-safe, and messages
+	 * that belong together are sent with {@link org.eclipse.jdt.internal.junit.runner.MessageSender#sendMessages(String...)}.
+	 */
+	private volatile TestPlan fTestPlan;
 
 	public JUnit5TestListener(IListensToTestExecutions notified, RemoteTestRunner remoteTestRunner) {
 		fNotified= notified;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -134,6 +134,26 @@ public class AbstractSemanticHighlightingTest {
 		return new Position(document.getLineOffset(line) + column, length);
 	}
 
+	protected Position createLinePosition(int line) throws BadLocationException {
+		IDocument document= fSourceViewer.getDocument();
+		return new Position(document.getLineOffset(line), document.getLineLength(line));
+	}
+
+	/**
+	 * Replaces the given range of the document and waits until the semantic highlighting has been
+	 * reconciled.
+	 *
+	 * @param position the range to replace
+	 * @param text the replacement text
+	 * @throws BadLocationException if the range is not in the document
+	 */
+	protected void replace(Position position, String text) throws BadLocationException {
+		fSourceViewer.getDocument().replace(position.getOffset(), position.getLength(), text);
+		EditorTestHelper.forceReconcile(fSourceViewer);
+		assertTrue(EditorTestHelper.joinReconciler(fSourceViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
 	String toString(Position[] positions) throws BadLocationException {
 		StringBuilder buf= new StringBuilder();
 		IDocument document= fSourceViewer.getDocument();
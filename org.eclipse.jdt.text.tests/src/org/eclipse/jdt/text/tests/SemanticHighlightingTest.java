@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,61 @@ public class SemanticHighlightingTest extends AbstractSemanticHighlightingTest {
 		assertEqualPositions(expected, actual);
 	}
 
+	@Test
+	public void fieldHighlightingAfterEdits() throws Exception {
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+
+		replace(createPosition(7, 0, 0), "\tint copy= field + staticField;\n");
+		Position[] expected= new Position[] {
+				createPosition( 3,  5,  5),
+				createPosition( 4, 12, 11),
+				createPosition( 5, 11, 10),
+				createPosition( 6, 18, 16),
+				createPosition( 7,  5,  4),
+				createPosition( 7, 11,  5),
+				createPosition( 7, 19, 11),
+				createPosition(23,  5, 15),
+				createPosition(26,  2, 15),
+				createPosition(32,  9,  6),
+				createPosition(33,  6, 11),
+				createPosition(33, 31,  5),
+				createPosition(34,  6, 17),
+				createPosition(34, 32, 11),
+				createPosition(35,  6, 16),
+				createPosition(35, 36, 10),
+				createPosition(36,  6, 22),
+				createPosition(36, 37, 16),
+				createPosition(49,  6, 14),
+				createPosition(49, 22,  5),
+		};
+		Position[] actual= getSemanticHighlightingPositions();
+		assertEqualPositions(expected, actual);
+
+		replace(createLinePosition(34), "");
+		expected= new Position[] {
+				createPosition( 3,  5,  5),
+				createPosition( 4, 12, 11),
+				createPosition( 5, 11, 10),
+				createPosition( 6, 18, 16),
+				createPosition( 7,  5,  4),
+				createPosition( 7, 11,  5),
+				createPosition( 7, 19, 11),
+				createPosition(23,  5, 15),
+				createPosition(26,  2, 15),
+				createPosition(32,  9,  6),
+				createPosition(33,  6, 11),
+				createPosition(33, 31,  5),
+				createPosition(34,  6, 16),
+				createPosition(34, 36, 10),
+				createPosition(35,  6, 22),
+				createPosition(35, 37, 16),
+				createPosition(48,  6, 14),
+				createPosition(48, 22,  5),
+		};
+		actual= getSemanticHighlightingPositions();
+		assertEqualPositions(expected, actual);
+	}
+
 	@Test
 	public void inheritedFieldHighlighting() throws Exception {
 		setUpSemanticHighlighting(SemanticHighlightings.INHERITED_FIELD);
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.codemining;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.javaeditor.codemining.JavaCodeMiningCountCache;
+
+public class JavaCodeMiningCountCacheTest {
+
+	private IJavaProject fJavaProject;
+
+	private ICompilationUnit fA;
+
+	private ICompilationUnit fB;
+
+	private IMethod fFoo;
+
+	private IMethod fBar;
+
+	@BeforeEach
+	public void setUp() throws CoreException {
+		fJavaProject= JavaProjectHelper.createJavaProject(getClass().getName(), "bin");
+		JavaProjectHelper.addRTJar(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= root.createPackageFragment("p", true, null);
+		fA= pack.createCompilationUnit("A.java", """
+			package p;
+			public class A {
+				public void foo() {
+				}
+				public void bar() {
+				}
+			}
+			""", true, null);
+		fB= pack.createCompilationUnit("B.java", """
+			package p;
+			class B {
+				void m(A a) {
+					a.foo();
+				}
+			}
+			""", true, null);
+		fFoo= fA.getType("A").getMethod("foo", new String[0]);
+		fBar= fA.getType("A").getMethod("bar", new String[0]);
+		JavaCodeMiningCountCache.getDefault().flush();
+	}
+
+	@AfterEach
+	public void tearDown() throws CoreException {
+		if (fA.isWorkingCopy())
+			fA.discardWorkingCopy();
+		if (fB.isWorkingCopy())
+			fB.discardWorkingCopy();
+		JavaProjectHelper.delete(fJavaProject);
+	}
+
+	private static long getReferenceCount(IJavaElement element) throws CoreException {
+		return JavaCodeMiningCountCache.getDefault().createBatch(List.of(element)).getReferenceCount(element, new NullProgressMonitor());
+	}
+
+	/**
+	 * Returns whether the reference count of the given element is cached: the count is only
+	 * searched if it is not cached, which fails with a cancelled monitor.
+	 */
+	private static boolean isCached(IJavaElement element) throws CoreException {
+		NullProgressMonitor cancelled= new NullProgressMonitor();
+		cancelled.setCanceled(true);
+		try {
+			JavaCodeMiningCountCache.getDefault().createBatch(List.of(element)).getReferenceCount(element, cancelled);
+			return true;
+		} catch (OperationCanceledException e) {
+			return false;
+		}
+	}
+
+	private static void reconcile(ICompilationUnit cu, String contents) throws CoreException {
+		if (!cu.isWorkingCopy())
+			cu.becomeWorkingCopy(null);
+		cu.getBuffer().setContents(contents);
+		cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	}
+
+	@Test
+	public void testBodyChangeKeepsCountsOfOtherNames() throws Exception {
+		reconcile(fB, """
+			package p;
+			class B {
+				void m(A a) {
+					int i= 0;
+					a.foo();
+				}
+			}
+			""");
+		assertEquals(1, getReferenceCount(fFoo));
+		assertEquals(0, getReferenceCount(fBar));
+		assertTrue(isCached(fFoo));
+		assertTrue(isCached(fBar));
+
+		reconcile(fB, """
+			package p;
+			class B {
+				void m(A a) {
+					int i= 0;
+					a.foo();
+					a.bar();
+				}
+			}
+			""");
+		assertTrue(isCached(fFoo));
+		assertFalse(isCached(fBar));
+		assertEquals(1, getReferenceCount(fFoo));
+		assertEquals(1, getReferenceCount(fBar));
+
+		// removed references are found as well
+		reconcile(fB, """
+			package p;
+			class B {
+				void m(A a) {
+					int i= 0;
+					a.bar();
+				}
+			}
+			""");
+		assertFalse(isCached(fFoo));
+		assertTrue(isCached(fBar));
+		assertEquals(0, getReferenceCount(fFoo));
+	}
+
+	@Test
+	public void testSignatureChangeDiscardsCountOfChangedMember() throws Exception {
+		reconcile(fA, """
+			package p;
+			public class A {
+				public void foo() {
+					int i= 0;
+				}
+				public void bar() {
+				}
+			}
+			""");
+		assertEquals(1, getReferenceCount(fFoo));
+		assertEquals(0, getReferenceCount(fBar));
+
+		reconcile(fA, """
+			package p;
+			public class A {
+				public void foo() {
+					int i= 0;
+				}
+				void bar() {
+				}
+			}
+			""");
+		assertTrue(isCached(fFoo));
+		assertFalse(isCached(fBar));
+	}
+
+	@Test
+	public void testRemovedUnitDiscardsCounts() throws Exception {
+		assertEquals(1, getReferenceCount(fFoo));
+		assertTrue(isCached(fFoo));
+
+		fB.delete(true, null);
+		assertFalse(isCached(fFoo));
+		assertEquals(0, getReferenceCount(fFoo));
+	}
+}
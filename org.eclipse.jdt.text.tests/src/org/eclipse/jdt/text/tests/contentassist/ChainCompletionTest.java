@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.After;
@@ -718,6 +720,66 @@ public class ChainCompletionTest {
 		assertEquals(expectedContent,doc.get());
 	}
 
+	@Test
+	public void testParallelSearchOrderAndMaxChainLength() throws Exception {
+		IEclipsePreferences node= new ProjectScope(fJProject.getProject()).getNode(JavaManipulation.getPreferenceNodeId());
+		node.put(PreferenceConstants.PREF_MAX_CHAINS, "100");
+		node.put(PreferenceConstants.PREF_MIN_CHAIN_LENGTH, "2");
+		node.put(PreferenceConstants.PREF_MAX_CHAIN_LENGTH, "3");
+
+		StringBuffer buf= new StringBuffer();
+		buf.append("""
+			package test;
+			
+			class Target {
+			}
+			
+			class A {
+			  public Target target;
+			  public B b;
+			}
+			
+			class B {
+			  public Target target;
+			  public C c;
+			}
+			
+			class C {
+			  public Target target;
+			}
+			
+			public class ParallelChains {
+			  public void method() {
+			    A a1 = new A(), a2 = new A(), a3 = new A(), a4 = new A();
+			    A a5 = new A(), a6 = new A(), a7 = new A(), a8 = new A();
+			    Target t = $
+			  }
+			}""");
+
+		int completionIndex= getCompletionIndex(buf);
+		ICompilationUnit cu= getCompilationUnit(pkg, buf, "ParallelChains.java");
+
+		List<String> displayStrings= getDisplayStrings(computeCompletionProposals(cu, completionIndex));
+
+		// breadth first: all chains of two elements before the chains of three elements,
+		// the chains of four elements exceed the maximum length
+		assertEquals(displayStrings.toString(), 16, displayStrings.size());
+		List<String> prefixes= new ArrayList<>();
+		for (int i= 0; i < 8; i++) {
+			String prefix= displayStrings.get(i).substring(0, 2);
+			assertEquals(prefix + ".target - 2 elements", displayStrings.get(i));
+			prefixes.add(prefix);
+		}
+		assertEquals(8, new HashSet<>(prefixes).size());
+		// the longer chains extend the shorter ones in the same order
+		for (int i= 0; i < 8; i++) {
+			assertEquals(prefixes.get(i) + ".b.target - 3 elements", displayStrings.get(8 + i));
+		}
+
+		// the members cached by the first search give the same result
+		assertEquals(displayStrings, getDisplayStrings(computeCompletionProposals(cu, completionIndex)));
+	}
+
 	private ICompilationUnit getCompilationUnit(IPackageFragment pack, StringBuffer buf, String name) throws JavaModelException {
 		return pack.createCompilationUnit(name, buf.toString().replace("$", ""), false, null);
 	}
@@ -746,6 +808,14 @@ public class ChainCompletionTest {
 		}
 	}
 
+	private static List<String> getDisplayStrings(List<ICompletionProposal> proposals) {
+		List<String> displayStrings= new ArrayList<>();
+		for (ICompletionProposal proposal : proposals) {
+			displayStrings.add(proposal.getDisplayString());
+		}
+		return displayStrings;
+	}
+
 	private void assertProposalsExist(List<String> expected, List<ICompletionProposal> proposals) {
 		for (String propDisplay : expected) {
 			assertTrue(proposals.stream().anyMatch(p -> propDisplay.equals(p.getDisplayString())));
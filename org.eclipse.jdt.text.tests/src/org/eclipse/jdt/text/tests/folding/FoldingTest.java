@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2025 Vector Informatik GmbH and others.
+ * Copyright (c) 2025, 2026 Vector Informatik GmbH and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.text.tests.folding;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.After;
@@ -27,12 +30,17 @@ import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
 
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
+import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
 
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
@@ -42,6 +50,8 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 
 @RunWith(Parameterized.class)
 public class FoldingTest {
@@ -665,4 +675,44 @@ public class FoldingTest {
 		FoldingTestUtils.assertContainsRegionUsingStartAndEndLine(regions, str, 5, 6); // case
 		FoldingTestUtils.assertContainsRegionUsingStartAndEndLine(regions, str, 12, 13); // default
 	}
+
+	@Test
+	public void testFoldingUpdatedAfterReconcile() throws Exception {
+		assumeTrue("Only the new folding uses the AST of the reconciler", newFoldingActive);
+		String str= """
+				package org.example.test;
+				class Reconciled {
+					void a() {						//here should be an annotation
+						int b = 0;
+					}
+				}
+				""";
+		FoldingTestUtils.assertCodeHasRegions(packageFragment, "TestFolding.java", str, 1);
+
+		JavaEditor editor= (JavaEditor) EditorUtility.openInEditor(packageFragment.getCompilationUnit("TestFolding.java"));
+		try {
+			IDocument document= editor.getViewer().getDocument();
+			document.replace(str.lastIndexOf('}'), 0, "\tvoid c() {\n\t\tint d = 0;\n\t}\n");
+			ProjectionAnnotationModel model= editor.getAdapter(ProjectionAnnotationModel.class);
+			// the folding structure is computed again from the reconciled AST
+			assertTrue(new DisplayHelper() {
+				@Override
+				protected boolean condition() {
+					return countProjectionAnnotations(model) == 2;
+				}
+			}.waitForCondition(editor.getSite().getShell().getDisplay(), 10000));
+			assertEquals(2, countProjectionAnnotations(model));
+		} finally {
+			editor.close(false);
+		}
+	}
+
+	private static int countProjectionAnnotations(ProjectionAnnotationModel model) {
+		int count= 0;
+		for (Iterator<Annotation> it= model.getAnnotationIterator(); it.hasNext();) {
+			if (it.next() instanceof ProjectionAnnotation)
+				count++;
+		}
+		return count;
+	}
 }
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jdt.core.JavaCore;
+
+
+/**
+ * Measures the time to spell check the comments and strings of a large compilation unit with the
+ * Java spelling engine.
+ *
+ * @since 3.35
+ */
+public class JavaSpellCheckingTest extends SpellCheckingTest {
+
+	private static final Class<JavaSpellCheckingTest> THIS= JavaSpellCheckingTest.class;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected String getContentTypeId() {
+		return JavaCore.JAVA_SOURCE_CONTENT_TYPE;
+	}
+
+	@Override
+	protected String getScenarioName() {
+		return "Java Editor: Spell checking Java comments and strings";
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,7 @@ public class PerformanceTestSuite extends TestSuite {
 		addTest(SynchronizedLineDifferInitializationTest.suite());
 		addTest(DocumentLineDifferModificationTest.suite());
 		addTest(SpellCheckingTest.suite());
+		addTest(JavaSpellCheckingTest.suite());
 
 
 		/* !!! IMPORTANT NOTE: The following test must be the last one !!! */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,7 +77,7 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 		EditorsUI.getPreferenceStore().putValue(SpellingService.PREFERENCE_SPELLING_ENABLED, IPreferenceStore.TRUE);
 
 		fSpellingContext= new SpellingContext();
-		fSpellingContext.setContentType(Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT));
+		fSpellingContext.setContentType(Platform.getContentTypeManager().getContentType(getContentTypeId()));
 
 		IFile file= ResourceTestHelper.findFile(FILE);
 		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
@@ -101,12 +101,32 @@ public class SpellCheckingTest extends TextPerformanceTestCase {
 
 	public void test() throws Exception {
 		measure(getNullPerformanceMeter(), getWarmUpRuns(), true);
-		PerformanceMeter performanceMeter= createPerformanceMeter("Java Editor: Spell checking");
+		PerformanceMeter performanceMeter= createPerformanceMeter(getScenarioName());
 		measure(performanceMeter, getMeasuredRuns(), false);
 		commitAllMeasurements();
 		assertAllPerformance();
 	}
 
+	/**
+	 * Returns the content type with which the compilation unit is checked.
+	 *
+	 * @return the content type identifier
+	 * @since 3.35
+	 */
+	protected String getContentTypeId() {
+		return IContentTypeManager.CT_TEXT;
+	}
+
+	/**
+	 * Returns the name of the measured scenario.
+	 *
+	 * @return the scenario name
+	 * @since 3.35
+	 */
+	protected String getScenarioName() {
+		return "Java Editor: Spell checking";
+	}
+
 	private void measure(PerformanceMeter performanceMeter, int runs, boolean printDebugInfo) {
 		SpellingService spellingService= EditorsUI.getSpellingService();
 		for (int i= 0; i < runs; i++) {
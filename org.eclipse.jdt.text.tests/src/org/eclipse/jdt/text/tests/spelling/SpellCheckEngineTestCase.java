@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,16 +18,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
@@ -57,6 +63,33 @@ public class SpellCheckEngineTestCase {
 		}
 	}
 
+	protected static class CompiledTestDictionary extends AbstractSpellDictionary {
+
+		private final Path fWordList;
+
+		private final File fCompiledFile;
+
+		public CompiledTestDictionary(Path wordList, File compiledFile) {
+			fWordList= wordList;
+			fCompiledFile= compiledFile;
+		}
+
+		@Override
+		protected URL getURL() throws MalformedURLException {
+			return fWordList.toUri().toURL();
+		}
+
+		@Override
+		protected File getCompiledDictionaryFile() {
+			return fCompiledFile;
+		}
+
+		@Override
+		protected String getEncoding() {
+			return "UTF-8"; //$NON-NLS-1$
+		}
+	}
+
 	public static final String GLOBAL= "Global"; //$NON-NLS-1$
 	public static final String LASTWAGEN= "Lastwagen"; //$NON-NLS-1$
 	public static final String LORRY= "Lorry"; //$NON-NLS-1$
@@ -260,4 +293,32 @@ public class SpellCheckEngineTestCase {
 		assertTrue(proposals.size() >= 1);
 		assertEquals(- DefaultPhoneticDistanceAlgorithm.COST_CASE, proposals.iterator().next().getRank());
 	}
+
+	@Test
+	public void testCompiledDictionary(@TempDir Path directory) throws Exception {
+		Path wordList= directory.resolve("words.dictionary"); //$NON-NLS-1$
+		Files.write(wordList, List.of(TRUCK, LORRY, "lorries", "\u00fcber"), StandardCharsets.UTF_8); //$NON-NLS-1$ //$NON-NLS-2$
+		File compiledFile= directory.resolve("words.cdictionary").toFile(); //$NON-NLS-1$
+
+		CompiledTestDictionary dictionary= new CompiledTestDictionary(wordList, compiledFile);
+		assertTrue(dictionary.isCorrect(TRUCK));
+		assertTrue(compiledFile.isFile());
+		Set<RankedWordProposal> proposals= dictionary.getProposals("Lory", false); //$NON-NLS-1$
+
+		// loaded from the compiled file
+		dictionary= new CompiledTestDictionary(wordList, compiledFile);
+		assertTrue(dictionary.isCorrect(TRUCK));
+		assertTrue(dictionary.isCorrect(LORRY));
+		assertTrue(dictionary.isCorrect("\u00fcber")); //$NON-NLS-1$
+		assertFalse(dictionary.isCorrect("Trucks")); //$NON-NLS-1$
+		assertTrue(contains(dictionary.getProposals("Lory", false), LORRY)); //$NON-NLS-1$
+		assertEquals(proposals, dictionary.getProposals("Lory", false)); //$NON-NLS-1$
+
+		// a changed word list is compiled again
+		Files.write(wordList, List.of(TRUCK, LASTWAGEN), StandardCharsets.UTF_8);
+		wordList.toFile().setLastModified(wordList.toFile().lastModified() + 2000);
+		dictionary= new CompiledTestDictionary(wordList, compiledFile);
+		assertTrue(dictionary.isCorrect(LASTWAGEN));
+		assertFalse(dictionary.isCorrect(LORRY));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -115,7 +115,9 @@ import org.junit.platform.suite.api.Suite;
 
 	//--helpers
 	RenamingNameSuggestorTests.class,
-	DelegateCreatorTests.class
+	DelegateCreatorTests.class,
+	RefactoringSearchEngineTests.class,
+	RenameAnalyzeUtilTests.class
 })
 public class AllRefactoringTests {
 }
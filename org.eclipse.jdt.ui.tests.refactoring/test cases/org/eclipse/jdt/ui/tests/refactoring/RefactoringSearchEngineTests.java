@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextChange;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RefactoringSearchEngineTests extends GenericRefactoringTest {
+
+	private static final int THREADS= 4;
+
+	public RefactoringSearchEngineTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private static SearchMatch createMatch(ICompilationUnit cu, int offset, int accuracy) {
+		return new SearchMatch(cu, accuracy, offset, 1, SearchEngine.getDefaultSearchParticipant(), cu.getResource());
+	}
+
+	private ICompilationUnit[] createCUs(int count) throws Exception {
+		IPackageFragment pack= getPackageP();
+		ICompilationUnit[] cus= new ICompilationUnit[count];
+		for (int i= 0; i < count; i++) {
+			cus[i]= createCU(pack, "C" + i + ".java", "package p;\nclass C" + i + " {\n}\n");
+		}
+		return cus;
+	}
+
+	@Test
+	public void groupByCu() throws Exception {
+		ICompilationUnit[] cus= createCUs(2);
+		SearchMatch a0= createMatch(cus[0], 0, SearchMatch.A_ACCURATE);
+		SearchMatch b0= createMatch(cus[1], 0, SearchMatch.A_ACCURATE);
+		SearchMatch a1= createMatch(cus[0], 1, SearchMatch.A_ACCURATE);
+
+		RefactoringStatus status= new RefactoringStatus();
+		SearchResultGroup[] groups= RefactoringSearchEngine.groupByCu(new SearchMatch[] { a0, b0, a1 }, status);
+		assertTrue(status.isOK());
+		assertEquals(2, groups.length);
+		for (SearchResultGroup group : groups) {
+			if (group.getCompilationUnit().equals(cus[0])) {
+				assertArrayEquals(new SearchMatch[] { a0, a1 }, group.getSearchResults());
+			} else {
+				assertEquals(cus[1], group.getCompilationUnit());
+				assertArrayEquals(new SearchMatch[] { b0 }, group.getSearchResults());
+			}
+		}
+	}
+
+	@Test
+	public void groupByCuReportsPotentialAndNonCuMatches() throws Exception {
+		ICompilationUnit[] cus= createCUs(1);
+		IFile file= getRoot().getJavaProject().getProject().getFile("file.txt");
+		file.create(getStream("text"), true, null);
+		SearchMatch nonCu= new SearchMatch(null, SearchMatch.A_ACCURATE, 0, 1, SearchEngine.getDefaultSearchParticipant(), file);
+		SearchMatch potential= createMatch(cus[0], 0, SearchMatch.A_INACCURATE);
+
+		RefactoringStatus status= new RefactoringStatus();
+		SearchResultGroup[] groups= RefactoringSearchEngine.groupByCu(new SearchMatch[] { nonCu, potential, nonCu }, status);
+		assertEquals(1, groups.length);
+		assertArrayEquals(new SearchMatch[] { potential }, groups[0].getSearchResults());
+		assertTrue(status.hasError());
+		assertEquals(2, status.getEntries().length);
+	}
+
+	@Test
+	public void textChangeManagerConcurrentGet() throws Exception {
+		ICompilationUnit[] cus= createCUs(16);
+		TextChangeManager manager= new TextChangeManager();
+
+		ExecutorService executor= Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<TextChange[]>> futures= new ArrayList<>();
+			for (int i= 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					TextChange[] changes= new TextChange[cus.length];
+					for (int j= 0; j < cus.length; j++) {
+						changes[j]= manager.get(cus[j]);
+					}
+					return changes;
+				}));
+			}
+			TextChange[] first= futures.get(0).get();
+			for (Future<TextChange[]> future : futures) {
+				TextChange[] changes= future.get();
+				for (int j= 0; j < cus.length; j++) {
+					assertSame(first[j], changes[j]);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(new HashSet<>(Arrays.asList(cus)), new HashSet<>(Arrays.asList(manager.getAllCompilationUnits())));
+	}
+
+	@Test
+	public void textChangeManagerConcurrentManage() throws Exception {
+		ICompilationUnit[] cus= createCUs(16);
+		TextChangeManager manager= new TextChangeManager();
+
+		ExecutorService executor= Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures= new ArrayList<>();
+			for (ICompilationUnit cu : cus) {
+				futures.add(executor.submit(() -> manager.manage(cu, new TextChangeManager().get(cu))));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// sorted by the name of the compilation units
+		List<String> names= new ArrayList<>();
+		for (TextChange change : manager.getAllChanges()) {
+			names.add(change.getName());
+		}
+		List<String> expected= new ArrayList<>();
+		Set<ICompilationUnit> managed= new HashSet<>(Arrays.asList(manager.getAllCompilationUnits()));
+		for (ICompilationUnit cu : cus) {
+			assertTrue(managed.contains(cu));
+			expected.add(cu.getElementName());
+		}
+		expected.sort(null);
+		assertEquals(expected, names);
+	}
+}
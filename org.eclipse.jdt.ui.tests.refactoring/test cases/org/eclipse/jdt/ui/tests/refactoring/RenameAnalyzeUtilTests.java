@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.SearchEngine;
+
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameAnalyzeUtil;
+import org.eclipse.jdt.internal.corext.refactoring.rename.TextMatchUpdater;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests that the compilation units of a rename processed in parallel give the same results as
+ * processing them one after the other.
+ */
+public class RenameAnalyzeUtilTests extends GenericRefactoringTest {
+
+	private static final int UNIT_COUNT= 16;
+
+	public RenameAnalyzeUtilTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private ICompilationUnit[] createCUs() throws Exception {
+		IPackageFragment pack= getPackageP();
+		ICompilationUnit[] cus= new ICompilationUnit[UNIT_COUNT];
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String str= """
+				package p;
+				/** Uses Foo and p.Foo. */
+				class C%1$d {
+				    String s= "Foo %1$d";
+				    // no match for %1$d
+				}
+				""".formatted(Integer.valueOf(i));
+			// some units do not mention the name at all
+			if (i % 4 == 3)
+				str= "package p;\nclass C" + i + " {\n}\n";
+			cus[i]= createCU(pack, "C" + i + ".java", str);
+		}
+		return cus;
+	}
+
+	private static TextChangeManager createChanges(ICompilationUnit[] cus) throws Exception {
+		TextChangeManager manager= new TextChangeManager();
+		for (ICompilationUnit cu : cus) {
+			int offset= cu.getSource().indexOf("class ");
+			TextChangeCompatibility.addTextEdit(manager.get(cu), "rename", new ReplaceEdit(offset, 5, "interface"));
+		}
+		return manager;
+	}
+
+	private static void discard(ICompilationUnit[] workingCopies) throws Exception {
+		for (ICompilationUnit workingCopy : workingCopies) {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void createNewWorkingCopiesEqualsSequential() throws Exception {
+		ICompilationUnit[] cus= createCUs();
+		TextChangeManager manager= createChanges(cus);
+
+		WorkingCopyOwner owner= new WorkingCopyOwner() {};
+		ICompilationUnit[] parallel= RenameAnalyzeUtil.createNewWorkingCopies(cus, manager, owner, new NullProgressMonitor());
+		try {
+			assertEquals(cus.length, parallel.length);
+			WorkingCopyOwner sequentialOwner= new WorkingCopyOwner() {};
+			for (int i= 0; i < cus.length; i++) {
+				ICompilationUnit sequential= RenameAnalyzeUtil.createNewWorkingCopy(cus[i], manager, sequentialOwner, new NullProgressMonitor());
+				try {
+					assertEquals(cus[i].getElementName(), parallel[i].getElementName());
+					assertEquals(sequential.getSource(), parallel[i].getSource());
+					assertTrue(parallel[i].getSource().contains("interface C" + i));
+				} finally {
+					sequential.discardWorkingCopy();
+				}
+			}
+		} finally {
+			discard(parallel);
+		}
+	}
+
+	@Test
+	public void createNewWorkingCopiesCanceled() throws Exception {
+		ICompilationUnit[] cus= createCUs();
+		TextChangeManager manager= createChanges(cus);
+
+		WorkingCopyOwner owner= new WorkingCopyOwner() {};
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		monitor.setCanceled(true);
+		try {
+			discard(RenameAnalyzeUtil.createNewWorkingCopies(cus, manager, owner, monitor));
+			fail("creating the working copies should be canceled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		// no working copies are leaked
+		assertEquals(0, JavaCore.getWorkingCopies(owner).length);
+	}
+
+	@Test
+	public void textMatchesEqualSequential() throws Exception {
+		ICompilationUnit[] cus= createCUs();
+		TextChangeManager manager= new TextChangeManager();
+		TextMatchUpdater.perform(new NullProgressMonitor(), SearchEngine.createJavaSearchScope(new IJavaElement[] { getPackageP() }),
+				"Foo", "p", "Bar", manager, new SearchResultGroup[0], false);
+
+		for (ICompilationUnit cu : cus) {
+			RefactoringScanner scanner= new RefactoringScanner("Foo", "p");
+			scanner.scan(cu);
+			TreeSet<Integer> starts= new TreeSet<>();
+			for (TextMatch match : scanner.getMatches()) {
+				starts.add(Integer.valueOf(match.getStartPosition()));
+			}
+			if (starts.isEmpty()) {
+				assertFalse(cu.getElementName(), manager.containsChangesIn(cu));
+				continue;
+			}
+			// replace the matches from the end, so that the earlier offsets stay valid
+			StringBuilder expected= new StringBuilder(cu.getSource());
+			for (Integer start : starts.descendingSet()) {
+				expected.replace(start.intValue(), start.intValue() + 3, "Bar");
+			}
+			assertEquals(cu.getElementName(), expected.toString(), manager.get(cu).getPreviewContent(new NullProgressMonitor()));
+		}
+		List<ICompilationUnit> changed= List.of(manager.getAllCompilationUnits());
+		assertEquals(UNIT_COUNT - UNIT_COUNT / 4, changed.size());
+	}
+}
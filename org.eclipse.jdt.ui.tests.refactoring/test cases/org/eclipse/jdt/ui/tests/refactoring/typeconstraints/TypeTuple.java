@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,8 +11,13 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
-package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
 
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+
+/**
+ * A pair of types, formerly the key of the subtype cache of the type environment.
+ */
 public class TypeTuple {
 	private TType fFirst;
 	private TType fSecond;
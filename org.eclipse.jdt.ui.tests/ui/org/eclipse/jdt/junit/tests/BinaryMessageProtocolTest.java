@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageReader;
+import org.eclipse.jdt.internal.junit.runner.BinaryMessageWriter;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+public class BinaryMessageProtocolTest {
+
+	private static final String TRACE= "java.lang.AssertionError: expected:<\u00E4\u00F6\u00FC> but was:<\u65E5\u672C\u8A9E \uD83D\uDE00>\n"
+			+ "\tat org.junit.Assert.fail(Assert.java:88)\r\n"
+			+ "\tat p.Test\u00C9t\u00E9.testFoo(Test\u00C9t\u00E9.java:12)\n";
+
+	private static byte[] write(List<String> messages) throws IOException {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		BinaryMessageWriter writer= new BinaryMessageWriter(out);
+		for (String message : messages) {
+			writer.write(message);
+		}
+		writer.close();
+		assertFalse(writer.checkError());
+		return out.toByteArray();
+	}
+
+	private static List<String> read(byte[] bytes) throws IOException {
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(bytes));
+		assertTrue(BinaryMessageReader.readProtocolHeader(in));
+		BinaryMessageReader reader= new BinaryMessageReader(in);
+		List<String> messages= new ArrayList<>();
+		while (reader.readBatch(messages::add)) {
+			// collect all messages
+		}
+		return messages;
+	}
+
+	private static void assertRoundTrip(List<String> messages) throws IOException {
+		assertEquals(messages, read(write(messages)));
+	}
+
+	@Test
+	public void testMessageKinds() throws Exception {
+		assertRoundTrip(Arrays.asList(
+				MessageIds.TEST_RUN_START + "2 v2",
+				MessageIds.TEST_TREE + "1,p.ATest,true,2,false,-1,ATest,,[engine:junit-jupiter]",
+				MessageIds.TEST_TREE + "2,testFoo(p.ATest),false,1,false,1,testFoo(),,",
+				MessageIds.TEST_START + "2,testFoo(p.ATest)",
+				MessageIds.TEST_FAILED + "2,testFoo(p.ATest)",
+				MessageIds.EXPECTED_START,
+				"expected",
+				MessageIds.EXPECTED_END,
+				MessageIds.ACTUAL_START,
+				"actual",
+				MessageIds.ACTUAL_END,
+				MessageIds.TRACE_START,
+				TRACE,
+				MessageIds.TRACE_END,
+				MessageIds.TEST_END + "2,testFoo(p.ATest)",
+				MessageIds.TEST_START + "3,testBar(p.ATest)",
+				MessageIds.TEST_ERROR + "3,testBar(p.ATest)",
+				MessageIds.TEST_END + "3,testBar(p.ATest)",
+				MessageIds.TEST_RERAN + "3 p.ATest testBar OK",
+				MessageIds.RTRACE_START,
+				TRACE,
+				MessageIds.RTRACE_END,
+				MessageIds.TEST_STOPPED + "10",
+				MessageIds.TEST_RUN_END + "42"));
+	}
+
+	@Test
+	public void testMultiLineNonAsciiTrace() throws Exception {
+		byte[] bytes= write(Arrays.asList(MessageIds.TRACE_START, TRACE, "", "\n", MessageIds.TRACE_END));
+		List<String> messages= read(bytes);
+		assertEquals(5, messages.size());
+		// the trace keeps its line delimiters and characters outside the BMP
+		assertEquals(TRACE, messages.get(1));
+		assertEquals("", messages.get(2));
+		assertEquals("\n", messages.get(3));
+	}
+
+	@Test
+	public void testSeveralBatches() throws Exception {
+		List<String> messages= new ArrayList<>();
+		for (int i= 0; messages.size() < 2 || i * TRACE.length() < 3 * BinaryMessageWriter.MAX_BATCH_SIZE; i++) {
+			messages.add(MessageIds.TEST_START + i + ",test" + i + "(p.ATest)");
+			messages.add(TRACE + i);
+		}
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(write(messages)));
+		assertTrue(BinaryMessageReader.readProtocolHeader(in));
+		BinaryMessageReader reader= new BinaryMessageReader(in);
+		List<String> read= new ArrayList<>();
+		int batches= 0;
+		while (reader.readBatch(read::add)) {
+			batches++;
+		}
+		assertTrue(String.valueOf(batches), batches > 1);
+		assertEquals(messages, read);
+	}
+
+	@Test
+	public void testTruncatedBatch() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		BinaryMessageWriter writer= new BinaryMessageWriter(out);
+		writer.write(MessageIds.TEST_RUN_START + "1 v2");
+		writer.flush();
+		int complete= out.size();
+		writer.write(MessageIds.TRACE_START);
+		writer.write(TRACE);
+		writer.write(MessageIds.TRACE_END);
+		writer.close();
+		byte[] bytes= out.toByteArray();
+
+		// the stream ends inside the second frame, in its messages and in its length
+		for (int length : new int[] { bytes.length - 1, complete + 10, complete + 2 }) {
+			BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(Arrays.copyOf(bytes, length)));
+			assertTrue(BinaryMessageReader.readProtocolHeader(in));
+			BinaryMessageReader reader= new BinaryMessageReader(in);
+			List<String> messages= new ArrayList<>();
+			assertTrue(reader.readBatch(messages::add));
+			assertEquals(Arrays.asList(MessageIds.TEST_RUN_START + "1 v2"), messages);
+			assertFalse(reader.readBatch(messages::add));
+			assertEquals(1, messages.size());
+		}
+	}
+
+	@Test
+	public void testMalformedBatch() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		DataOutputStream data= new DataOutputStream(out);
+		data.write((MessageIds.BINARY_PROTOCOL + '\n').getBytes(StandardCharsets.UTF_8));
+		// a frame announcing two messages but containing only one
+		byte[] message= "%TESTC  1 v2".getBytes(StandardCharsets.UTF_8);
+		data.writeInt(4 + 4 + message.length);
+		data.writeInt(2);
+		data.writeInt(message.length);
+		data.write(message);
+		data.close();
+
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertTrue(BinaryMessageReader.readProtocolHeader(in));
+		List<String> messages= new ArrayList<>();
+		try {
+			new BinaryMessageReader(in).readBatch(messages::add);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+		assertTrue(messages.isEmpty());
+	}
+
+	@Test
+	public void testInvalidMessageCount() throws Exception {
+		for (int count : new int[] { Integer.MAX_VALUE, -1, 3 }) {
+			ByteArrayOutputStream out= new ByteArrayOutputStream();
+			DataOutputStream data= new DataOutputStream(out);
+			data.write((MessageIds.BINARY_PROTOCOL + '\n').getBytes(StandardCharsets.UTF_8));
+			// a frame announcing more messages than their lengths fit into
+			data.writeInt(4 + 8);
+			data.writeInt(count);
+			data.writeInt(0);
+			data.writeInt(0);
+			data.close();
+
+			BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+			assertTrue(BinaryMessageReader.readProtocolHeader(in));
+			List<String> messages= new ArrayList<>();
+			try {
+				new BinaryMessageReader(in).readBatch(messages::add);
+				fail(String.valueOf(count));
+			} catch (IOException e) {
+				assertTrue(e.getMessage(), e.getMessage().contains(String.valueOf(count)));
+			}
+			assertTrue(messages.isEmpty());
+		}
+	}
+
+	@Test
+	public void testLineProtocol() throws Exception {
+		byte[] bytes= (MessageIds.TEST_RUN_START + "1 v2\n" + MessageIds.TEST_RUN_END + "1\n").getBytes(StandardCharsets.UTF_8);
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(bytes));
+		assertFalse(BinaryMessageReader.readProtocolHeader(in));
+		assertArrayEquals(bytes, in.readAllBytes());
+
+		in= new BufferedInputStream(new ByteArrayInputStream(new byte[] { '%' }));
+		assertFalse(BinaryMessageReader.readProtocolHeader(in));
+		assertEquals('%', in.read());
+	}
+}
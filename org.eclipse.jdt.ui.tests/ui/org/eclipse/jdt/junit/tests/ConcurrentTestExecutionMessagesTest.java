@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.FailedComparison;
+import org.eclipse.jdt.internal.junit.runner.FirstRunExecutionListener;
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestIdMap;
+import org.eclipse.jdt.internal.junit.runner.TestReferenceFailure;
+
+/**
+ * Tests that test ids and failure messages stay consistent when tests are executed in parallel.
+ */
+public class ConcurrentTestExecutionMessagesTest {
+
+	private static final int THREADS= 8;
+
+	private static final int TESTS_PER_THREAD= 200;
+
+	private static class TestIdentifier implements ITestIdentifier {
+		private final String fName;
+
+		TestIdentifier(String name) {
+			fName= name;
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return null;
+		}
+
+		@Override
+		public String getUniqueId() {
+			return fName;
+		}
+	}
+
+	private static class RecordingSender implements MessageSender {
+		final List<String> fMessages= new ArrayList<>();
+
+		@Override
+		public synchronized void sendMessage(String msg) {
+			fMessages.add(msg);
+		}
+
+		@Override
+		public void flush() {
+		}
+	}
+
+	private interface Task {
+		void run(int thread) throws Exception;
+	}
+
+	private static void runConcurrently(Task task) throws Exception {
+		ExecutorService executor= Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start= new CountDownLatch(1);
+			List<Future<?>> futures= new ArrayList<>();
+			for (int i= 0; i < THREADS; i++) {
+				int thread= i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					task.run(thread);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void concurrentTestIds() throws Exception {
+		TestIdMap ids= new TestIdMap();
+		ITestIdentifier[] tests= new ITestIdentifier[TESTS_PER_THREAD];
+		for (int i= 0; i < tests.length; i++) {
+			tests[i]= new TestIdentifier("test" + i);
+		}
+		String[][] assigned= new String[THREADS][tests.length];
+
+		runConcurrently(thread -> {
+			// every thread requests the ids in a different order
+			for (int i= 0; i < tests.length; i++) {
+				int index= (i + thread * 31) % tests.length;
+				assigned[thread][index]= ids.getTestId(tests[index]);
+			}
+		});
+
+		Set<String> unique= new HashSet<>();
+		for (int i= 0; i < tests.length; i++) {
+			for (int thread= 1; thread < THREADS; thread++) {
+				assertEquals(assigned[0][i], assigned[thread][i]);
+			}
+			assertEquals(assigned[0][i], ids.getTestId(tests[i]));
+			unique.add(assigned[0][i]);
+		}
+		assertEquals(tests.length, unique.size());
+	}
+
+	@Test
+	public void concurrentFailuresNotInterleaved() throws Exception {
+		RecordingSender sender= new RecordingSender();
+		RemoteTestRunner runner= new RemoteTestRunner();
+		runner.setMessageSender(sender);
+		FirstRunExecutionListener listener= runner.firstRunExecutionListener();
+
+		runConcurrently(thread -> {
+			for (int i= 0; i < TESTS_PER_THREAD; i++) {
+				String name= "test" + thread + "_" + i;
+				ITestIdentifier test= new TestIdentifier(name);
+				listener.notifyTestStarted(test);
+				FailedComparison comparison= new FailedComparison("expected " + name, "actual " + name);
+				listener.notifyTestFailed(new TestReferenceFailure(test, MessageIds.TEST_FAILED, "trace " + name, comparison));
+				listener.notifyTestEnded(test);
+			}
+		});
+
+		List<String> messages= sender.fMessages;
+		assertEquals(THREADS * TESTS_PER_THREAD * 12, messages.size());
+		Map<String, String> names= new HashMap<>();
+		int failures= 0;
+		for (int i= 0; i < messages.size(); i++) {
+			String message= messages.get(i);
+			if (!message.startsWith(MessageIds.TEST_FAILED))
+				continue;
+			failures++;
+			String idAndName= message.substring(MessageIds.TEST_FAILED.length());
+			String name= idAndName.substring(idAndName.indexOf(',') + 1);
+			assertNull(names.put(idAndName.substring(0, idAndName.indexOf(',')), name));
+			assertTrue(i + 9 < messages.size());
+			assertEquals(List.of(
+					MessageIds.EXPECTED_START, "expected " + name, MessageIds.EXPECTED_END,
+					MessageIds.ACTUAL_START, "actual " + name, MessageIds.ACTUAL_END,
+					MessageIds.TRACE_START, "trace " + name, MessageIds.TRACE_END),
+					messages.subList(i + 1, i + 10));
+		}
+		assertEquals(THREADS * TESTS_PER_THREAD, failures);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Red Hat Inc. and others.
+ * Copyright (c) 2021, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,114 @@ public class JUnit4TestFinderTest16 {
 		assertTestFound(fProject, validTests);
 	}
 
+	@Test
+	public void testChangesAfterCachedSearch() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+
+			public class Base {
+			}
+			""";
+		ICompilationUnit base= p.createCompilationUnit("Base.java", str, true, null);
+		String str1= """
+			package p;
+
+			public class Sub extends Base {
+			}
+			""";
+		ICompilationUnit sub= p.createCompilationUnit("Sub.java", str1, true, null);
+
+		assertTestFound(sub.getTypes()[0], new String[0]);
+		assertTestFound(fProject, new String[0]);
+
+		// a test method inherited from a changed super class
+		String str2= """
+			package p;
+
+			import org.junit.Test;
+
+			public class Base {
+			        @Test public void testFoo() {
+			        }
+			}
+			""";
+		base.getBuffer().setContents(str2);
+		base.save(null, true);
+
+		assertTestFound(sub.getTypes()[0], new String[] { "p.Sub" });
+		assertTestFound(fProject, new String[] { "p.Base", "p.Sub" });
+
+		sub.delete(true, null);
+
+		assertTestFound(fProject, new String[] { "p.Base" });
+	}
+
+	@Test
+	public void testReconciledChangesAfterCachedSearch() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+
+			public class Base {
+			        public void foo() {
+			        }
+			}
+			""";
+		ICompilationUnit base= p.createCompilationUnit("Base.java", str, true, null);
+		String str1= """
+			package p;
+
+			public class Sub extends Base {
+			}
+			""";
+		ICompilationUnit sub= p.createCompilationUnit("Sub.java", str1, true, null);
+
+		assertTestFound(sub.getTypes()[0], new String[0]);
+		assertTestFound(fProject, new String[0]);
+
+		base.becomeWorkingCopy(null);
+		try {
+			// a changed method body keeps the results
+			String str2= """
+				package p;
+
+				public class Base {
+				        public void foo() {
+				                System.out.println();
+				        }
+				}
+				""";
+			base.getBuffer().setContents(str2);
+			base.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			assertTestFound(sub.getTypes()[0], new String[0]);
+			assertTestFound(fProject, new String[0]);
+
+			// an annotated method changes the results of the type, its subtypes and the project
+			String str3= """
+				package p;
+
+				import org.junit.Test;
+
+				public class Base {
+				        @Test public void foo() {
+				                System.out.println();
+				        }
+				}
+				""";
+			base.getBuffer().setContents(str3);
+			base.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+			assertTestFound(sub.getTypes()[0], new String[] { "p.Sub" });
+			assertTestFound(fProject, new String[] { "p.Base", "p.Sub" });
+		} finally {
+			base.discardWorkingCopy();
+		}
+
+		assertTestFound(fProject, new String[0]);
+	}
+
 	private void assertTestFound(IJavaElement container, String[] expectedTypes) throws CoreException {
 		ITestKind testKind= TestKindRegistry.getContainerTestKind(container);
 		assertEquals(TestKindRegistry.JUNIT4_TEST_KIND_ID, testKind.getId());
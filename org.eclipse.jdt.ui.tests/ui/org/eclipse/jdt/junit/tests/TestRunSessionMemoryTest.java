@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement.FailureTrace;
+
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+/**
+ * Checks the compact representation of large test run sessions, their retained size, and the
+ * sharing of names between test elements.
+ */
+public class TestRunSessionMemoryTest {
+
+	private static final int TEST_COUNT= 20000;
+
+	private static String createTrace(int i) {
+		StringBuilder trace= new StringBuilder("java.lang.AssertionError: expected:<" + i + "> but was:<0>\n");
+		for (int j= 0; j < 40; j++) {
+			trace.append("\tat org.junit.Assert.fail(Assert.java:").append(88 + j).append(")\n");
+		}
+		return trace.toString();
+	}
+
+	/**
+	 * Estimates the retained size of an object graph in bytes, assuming compressed references.
+	 * Unlike measuring the used heap, the estimate does not depend on the garbage collector. The
+	 * fields of the test model are followed, collections, maps and arrays are followed through
+	 * their elements, other objects are counted with an object header only.
+	 *
+	 * @param root the root object
+	 * @return the estimated size of all objects reachable from the root
+	 * @throws IllegalAccessException if a field of the test model cannot be read
+	 */
+	private static long retainedSize(Object root) throws IllegalAccessException {
+		String modelPackage= TestRunSession.class.getPackageName();
+		Set<Object> visited= Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Object> pending= new ArrayDeque<>();
+		pending.push(root);
+		long size= 0;
+		while (!pending.isEmpty()) {
+			Object object= pending.pop();
+			if (!visited.add(object))
+				continue;
+			Class<?> clazz= object.getClass();
+			if (object instanceof String string) {
+				size+= 24 + 16 + string.length();
+			} else if (clazz.isArray()) {
+				int length= Array.getLength(object);
+				Class<?> componentType= clazz.getComponentType();
+				size+= 16 + (long) length * (componentType.isPrimitive() ? primitiveSize(componentType) : 4);
+				if (!componentType.isPrimitive()) {
+					for (int i= 0; i < length; i++) {
+						push(pending, Array.get(object, i));
+					}
+				}
+			} else if (object instanceof Map<?, ?> map) {
+				size+= 48 + 40L * map.size();
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					push(pending, entry.getKey());
+					push(pending, entry.getValue());
+				}
+			} else if (object instanceof Collection<?> collection) {
+				size+= 24 + 4L * collection.size();
+				for (Object element : collection) {
+					push(pending, element);
+				}
+			} else if (clazz.getPackageName().equals(modelPackage)) {
+				size+= 12;
+				for (Class<?> current= clazz; current != null; current= current.getSuperclass()) {
+					for (Field field : current.getDeclaredFields()) {
+						if (Modifier.isStatic(field.getModifiers()))
+							continue;
+						Class<?> type= field.getType();
+						if (type.isPrimitive()) {
+							size+= primitiveSize(type);
+						} else {
+							size+= 4;
+							field.setAccessible(true);
+							push(pending, field.get(object));
+						}
+					}
+				}
+			} else {
+				size+= 16;
+			}
+		}
+		return size;
+	}
+
+	private static void push(Deque<Object> pending, Object object) {
+		if (object != null) {
+			pending.push(object);
+		}
+	}
+
+	private static int primitiveSize(Class<?> type) {
+		if (type == long.class || type == double.class)
+			return 8;
+		if (type == int.class || type == float.class)
+			return 4;
+		if (type == short.class || type == char.class)
+			return 2;
+		return 1;
+	}
+
+	@Test
+	public void testTraces() throws Exception {
+		TestRunSession session= new TestRunSession("testTraces", null);
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "1", "pack.Suite", true, 0, false, null, null, null);
+
+		String longTrace= createTrace(42);
+		TestElement failure= session.createTestElement(suite, "2", "testLong(pack.Suite)", false, 0, false, null, null, null);
+		failure.setStatus(Status.FAILURE, longTrace, "expected", "actual");
+		assertEquals(longTrace, failure.getTrace());
+		assertEquals("expected", failure.getExpected());
+		assertEquals("actual", failure.getActual());
+		assertEquals(new FailureTrace(longTrace, "expected", "actual").getTrace(), failure.getFailureTrace().getTrace());
+
+		// a second trace of the same test is appended
+		failure.setStatus(Status.FAILURE, "short\u00e9", null, null);
+		assertEquals(longTrace + "short\u00e9", failure.getTrace());
+		assertEquals("expected", failure.getExpected());
+
+		TestElement ok= session.createTestElement(suite, "3", "testOk(pack.Suite)", false, 0, false, null, null, null);
+		ok.setStatus(Status.OK);
+		assertNull(ok.getTrace());
+		assertNull(ok.getFailureTrace());
+	}
+
+	@Test
+	public void testSharedNames() throws Exception {
+		TestRunSession session= new TestRunSession("testSharedNames", null);
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "1", "pack.Suite", true, 0, false, null, null, null);
+		TestElement first= session.createTestElement(suite, "2", "test(pack.Suite)", false, 0, true, new String("[1] value"), new String[] { new String("java.lang.String") }, null);
+		TestElement second= session.createTestElement(suite, "3", "test(pack.Suite)", false, 0, true, new String("[1] value"), new String[] { new String(" java.lang.String ") }, null);
+		assertSame(first.getDisplayName(), second.getDisplayName());
+		assertSame(first.getParameterTypes()[0], second.getParameterTypes()[0]);
+		assertEquals("java.lang.String", second.getParameterTypes()[0]);
+	}
+
+	@Test
+	public void testSwapOutAndIn() throws Exception {
+		TestRunSession session= new TestRunSession("testSwapOutAndIn", null);
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "1", "pack.Suite$Inner", true, 0, false, "Inner", null, null);
+		TestElement failure= session.createTestElement(suite, "2", "testFail(pack.Suite$Inner)", false, 0, false, null, new String[] { "int" }, "[engine:junit-jupiter]/[method:testFail(int)]");
+		session.registerTestFailureStatus(failure, Status.FAILURE, createTrace(1), "expected", "actual");
+		session.registerTestEnded(failure, true);
+		failure.setElapsedTimeInSeconds(1.5);
+		TestElement ok= session.createTestElement(suite, "3", "testOk(pack.Suite$Inner)", false, 0, false, null, null, null);
+		session.registerTestEnded(ok, true);
+		session.registerTestEnded(suite, true);
+
+		session.swapOut();
+		try {
+			TestSuiteElement root= session.getTestRoot();
+			assertEquals(1, root.getChildren().length);
+			TestSuiteElement swappedSuite= (TestSuiteElement) root.getChildren()[0];
+			assertEquals("pack.Suite$Inner", swappedSuite.getTestName());
+			assertEquals("Inner", swappedSuite.getDisplayName());
+			assertEquals(Status.FAILURE, swappedSuite.getStatus());
+
+			TestElement swappedFailure= (TestElement) swappedSuite.getChildren()[0];
+			assertEquals("testFail(pack.Suite$Inner)", swappedFailure.getTestName());
+			assertEquals("int", swappedFailure.getParameterTypes()[0]);
+			assertEquals("[engine:junit-jupiter]/[method:testFail(int)]", swappedFailure.getUniqueId());
+			assertEquals(Status.FAILURE, swappedFailure.getStatus());
+			assertEquals(createTrace(1), swappedFailure.getTrace());
+			assertEquals("expected", swappedFailure.getExpected());
+			assertEquals("actual", swappedFailure.getActual());
+			assertEquals(1.5, swappedFailure.getElapsedTimeInSeconds(), 0);
+
+			assertEquals(Status.OK, ((TestElement) swappedSuite.getChildren()[1]).getStatus());
+			assertEquals(2, session.getTotalCount());
+			assertEquals(2, session.getStartedCount());
+			assertEquals(1, session.getFailureCount());
+		} finally {
+			session.removeSwapFile();
+		}
+	}
+
+	@Test
+	public void testManyTests() throws Exception {
+		TestRunSession session= new TestRunSession("testManyTests", null);
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "0", "pack.Suite", true, 0, false, null, null, null);
+		TestElement first= null;
+		for (int i= 1; i <= TEST_COUNT; i++) {
+			// display names that are not repeated must not evict the repeated parameter types
+			TestElement test= session.createTestElement(suite, String.valueOf(i), "test(pack.Suite)", false, 0, true, "[" + i + "] " + i, new String[] { new String("int") }, null);
+			test.setStatus(Status.RUNNING);
+			if (i % 2 == 0) {
+				test.setStatus(Status.FAILURE, createTrace(i), null, null);
+			} else {
+				test.setStatus(Status.OK);
+			}
+			if (first == null) {
+				first= test;
+			}
+		}
+		TestElement last= session.getTestElement(String.valueOf(TEST_COUNT));
+		assertEquals(createTrace(TEST_COUNT), last.getTrace());
+		assertEquals("[" + TEST_COUNT + "] " + TEST_COUNT, last.getDisplayName());
+		assertSame(first.getParameterTypes()[0], last.getParameterTypes()[0]);
+
+		TestElement repeated= session.createTestElement(suite, String.valueOf(TEST_COUNT + 1), "test(pack.Suite)", false, 0, true, new String("[" + TEST_COUNT + "] " + TEST_COUNT), null, null);
+		assertSame(last.getDisplayName(), repeated.getDisplayName());
+	}
+
+	@Test
+	public void testRetainedSizePerTest() throws Exception {
+		TestRunSession session= new TestRunSession("testRetainedSizePerTest", null);
+		TestSuiteElement suite= (TestSuiteElement) session.createTestElement(session.getTestRoot(), "0", "pack.Suite", true, 0, false, null, null, null);
+		for (int i= 1; i <= TEST_COUNT; i++) {
+			TestElement test= session.createTestElement(suite, String.valueOf(i), "test" + i + "(pack.Suite)", false, 0, false, null, new String[] { "int" }, null);
+			test.setStatus(Status.RUNNING);
+			if (i % 2 == 0) {
+				test.setStatus(Status.FAILURE, createTrace(i), null, null);
+			} else {
+				test.setStatus(Status.OK);
+			}
+		}
+		long perTest= retainedSize(session) / TEST_COUNT;
+
+		assertEquals(createTrace(TEST_COUNT), session.getTestElement(String.valueOf(TEST_COUNT)).getTrace());
+		// every second test fails, with traces kept as strings a test alone would need half a trace
+		assertTrue(perTest + " bytes per test", perTest < createTrace(0).length() / 2);
+	}
+}
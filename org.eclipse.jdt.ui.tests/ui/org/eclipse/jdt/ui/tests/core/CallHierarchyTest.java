@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,12 +30,14 @@ import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -96,6 +98,73 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedSecondLevelMethods, wrapper2.getCalls(new NullProgressMonitor()));
     }
 
+	@Test
+	public void callersSharedAcrossRoots() throws Exception {
+		helper.createSimpleClasses();
+		ICompilationUnit cu= helper.getPackage2().createCompilationUnit("C.java",
+				"package pack2;\npublic class C {\n public void method5() { }\n}\n", true, null);
+
+		IMethod method= helper.getMethod1();
+		Collection<IMember> expectedMethods= new ArrayList<>();
+		expectedMethods.add(helper.getMethod2());
+		expectedMethods.add(helper.getMethod3());
+
+		MethodWrapper[] calls= getSingleCallerRoot(method).getCalls(new NullProgressMonitor());
+		helper.assertCalls(expectedMethods, calls);
+
+		// a new root gets the cached calls
+		assertSameCalls(calls, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+		cu.becomeWorkingCopy(null);
+		try {
+			// a changed method body without a call keeps the cached calls
+			cu.getBuffer().setContents("package pack2;\npublic class C {\n public void method5() { toString(); }\n}\n");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertSameCalls(calls, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+			// a new call discards them
+			cu.getBuffer().setContents("package pack2;\npublic class C {\n public void method5() { new pack1.A().method1(); }\n}\n");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			expectedMethods.add(cu.getType("C").getMethod("method5", EMPTY));
+			helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+
+			// removing the call discards them again
+			cu.getBuffer().setContents("package pack2;\npublic class C {\n public void method5() { }\n}\n");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			expectedMethods.remove(cu.getType("C").getMethod("method5", EMPTY));
+			helper.assertCalls(expectedMethods, getSingleCallerRoot(method).getCalls(new NullProgressMonitor()));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void callersSearchedTogether() throws Exception {
+		helper.createSimpleClasses();
+
+		List<CallerMethodWrapper> siblings= new ArrayList<>();
+		for (IMethod method : new IMethod[] { helper.getMethod1(), helper.getMethod2(), helper.getMethod3(), helper.getMethod4() }) {
+			siblings.add((CallerMethodWrapper) getSingleCallerRoot(method));
+		}
+		CallerMethodWrapper.searchCallers(siblings, new NullProgressMonitor());
+
+		helper.assertCalls(List.of(helper.getMethod2(), helper.getMethod3()), getSingleCallerRoot(helper.getMethod1()).getCalls(new NullProgressMonitor()));
+		helper.assertCalls(List.of(helper.getMethod3()), getSingleCallerRoot(helper.getMethod2()).getCalls(new NullProgressMonitor()));
+		helper.assertCalls(List.of(helper.getMethod4()), getSingleCallerRoot(helper.getMethod3()).getCalls(new NullProgressMonitor()));
+		helper.assertCalls(List.of(), getSingleCallerRoot(helper.getMethod4()).getCalls(new NullProgressMonitor()));
+	}
+
+	private static void assertSameCalls(MethodWrapper[] expected, MethodWrapper[] actual) {
+		assertEquals(expected.length, actual.length);
+		for (MethodWrapper call : expected) {
+			boolean found= false;
+			for (MethodWrapper other : actual) {
+				found|= call.getMethodCall() == other.getMethodCall();
+			}
+			assertTrue("Not cached: " + call.getName(), found);
+		}
+	}
+
 	@Test
 	public void callersNoResults() throws Exception {
         helper.createSimpleClasses();
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests that the snapshot read by the open type dialog follows every modification of the
+ * {@link OpenTypeHistory}.
+ */
+public class OpenTypeHistoryTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private TypeNameMatch fMatch;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu= pack.createCompilationUnit("E.java", "package test1;\npublic class E {\n}\n", false, null);
+		IType type= cu.getType("E");
+		fMatch= SearchEngine.createTypeNameMatch(type, type.getFlags());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		OpenTypeHistory history= OpenTypeHistory.getInstance();
+		history.removeKey(fMatch);
+		history.save();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private static List<TypeNameMatch> getTypeInfos(OpenTypeHistory history) {
+		return Arrays.asList(history.getTypeInfos());
+	}
+
+	@Test
+	public void removeKeyUpdatesSnapshot() throws Exception {
+		OpenTypeHistory history= OpenTypeHistory.getInstance();
+		history.accessed(fMatch);
+		assertTrue(history.contains(fMatch));
+		assertEquals(fMatch, history.getTypeInfos()[0]);
+
+		history.removeKey(fMatch);
+		assertFalse(history.contains(fMatch));
+		assertFalse(getTypeInfos(history).contains(fMatch));
+	}
+
+	@Test
+	public void loadUpdatesSnapshot() throws Exception {
+		OpenTypeHistory history= OpenTypeHistory.getInstance();
+		history.accessed(fMatch);
+		history.save();
+		history.removeKey(fMatch);
+		assertFalse(getTypeInfos(history).contains(fMatch));
+
+		history.load();
+		assertTrue(history.contains(fMatch));
+		assertTrue(getTypeInfos(history).contains(fMatch));
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class SuperTypeHierarchyCacheTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= root.createPackageFragment("p", true, null);
+		fPack.createCompilationUnit("A.java", "package p;\npublic class A {\n}\n", true, null);
+		fPack.createCompilationUnit("B.java", "package p;\npublic class B extends A {\n}\n", true, null);
+		fPack.createCompilationUnit("C.java", "package p;\npublic class C extends A {\n}\n", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private IType getType(String name) {
+		return fPack.getCompilationUnit(name + ".java").getType(name);
+	}
+
+	@Test
+	public void supertypesFoundInCachedHierarchy() throws Exception {
+		IType a= getType("A");
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(getType("B"));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+
+		long misses= SuperTypeHierarchyCache.getCacheMisses();
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(a));
+		assertEquals(misses, SuperTypeHierarchyCache.getCacheMisses());
+		assertTrue(SuperTypeHierarchyCache.getCachedTypes() <= SuperTypeHierarchyCache.getMaxCachedTypes());
+	}
+
+	@Test
+	public void supertypesFoundAfterOtherHierarchyRemoved() throws Exception {
+		IType a= getType("A");
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(getType("B"));
+		SuperTypeHierarchyCache.getTypeHierarchy(getType("C"));
+
+		// the hierarchy of C, the most recently cached hierarchy containing A, does not exist anymore
+		fPack.getCompilationUnit("C.java").delete(true, null);
+
+		assertTrue(SuperTypeHierarchyCache.hasInCache(a));
+		long misses= SuperTypeHierarchyCache.getCacheMisses();
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(a));
+		assertEquals(misses, SuperTypeHierarchyCache.getCacheMisses());
+	}
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.dialogs.TypeNameIndex;
+
+public class TypeNameIndexTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragment fPack;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= root.createPackageFragment("p", true, null);
+		fPack.createCompilationUnit("Zqx1.java", "package p;\npublic class Zqx1 {\n}\n", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	private static TypeNameIndex buildIndex() throws CoreException {
+		TypeNameIndex index= TypeNameIndex.getDefault();
+		index.build(new NullProgressMonitor());
+		assertTrue(index.isAvailable());
+		return index;
+	}
+
+	private static Set<String> getCandidates(TypeNameIndex index, String pattern, int matchKind) {
+		List<TypeNameMatch> candidates= index.getCandidates(pattern, matchKind, new NullProgressMonitor());
+		Set<String> names= new TreeSet<>();
+		for (TypeNameMatch match : candidates) {
+			names.add(match.getFullyQualifiedName());
+		}
+		return names;
+	}
+
+	@Test
+	public void candidatesByPrefix() throws Exception {
+		fPack.createCompilationUnit("ZqxTwo.java", "package p;\npublic class ZqxTwo {\n}\n", true, null);
+		fPack.createCompilationUnit("Zqy.java", "package p;\npublic class Zqy {\n}\n", true, null);
+		TypeNameIndex index= buildIndex();
+
+		assertEquals(Set.of("p.Zqx1", "p.ZqxTwo"), getCandidates(index, "zqx", SearchPattern.R_PREFIX_MATCH));
+		assertEquals(Set.of("p.ZqxTwo"), getCandidates(index, "ZqxT", SearchPattern.R_PREFIX_MATCH));
+		assertEquals(Set.of("p.Zqx1", "p.ZqxTwo"), getCandidates(index, "Zqx*o", SearchPattern.R_PATTERN_MATCH));
+		assertTrue(getCandidates(index, "ZT", SearchPattern.R_CAMELCASE_MATCH).containsAll(Set.of("p.Zqx1", "p.ZqxTwo", "p.Zqy")));
+	}
+
+	@Test
+	public void candidatesSortedByName() throws Exception {
+		fPack.createCompilationUnit("ZqxC.java", "package p;\npublic class ZqxC {\n}\n", true, null);
+		fPack.createCompilationUnit("zqxA.java", "package p;\npublic class zqxA {\n}\n", true, null);
+		TypeNameIndex index= buildIndex();
+		fPack.createCompilationUnit("ZqxB.java", "package p;\npublic class ZqxB {\n}\n", true, null);
+		fPack.createCompilationUnit("Zqx0.java", "package p;\npublic class Zqx0 {\n}\n", true, null);
+
+		List<String> names= new ArrayList<>();
+		for (TypeNameMatch match : index.getCandidates("zqx", SearchPattern.R_PREFIX_MATCH, new NullProgressMonitor())) {
+			names.add(match.getSimpleTypeName());
+		}
+		assertEquals(List.of("Zqx0", "Zqx1", "zqxA", "ZqxB", "ZqxC"), names);
+
+		fPack.getCompilationUnit("ZqxB.java").delete(true, null);
+		names.clear();
+		for (TypeNameMatch match : index.getCandidates("ZqxB", SearchPattern.R_PREFIX_MATCH, new NullProgressMonitor())) {
+			names.add(match.getSimpleTypeName());
+		}
+		assertEquals(List.of(), names);
+	}
+
+	@Test
+	public void updatedFromDeltas() throws Exception {
+		TypeNameIndex index= buildIndex();
+		assertEquals(Set.of("p.Zqx1"), getCandidates(index, "Zqx", SearchPattern.R_PREFIX_MATCH));
+
+		fPack.createCompilationUnit("Zqx2.java", "package p;\npublic class Zqx2 {\n}\n", true, null);
+		assertTrue(index.isAvailable());
+		assertEquals(Set.of("p.Zqx1", "p.Zqx2"), getCandidates(index, "Zqx", SearchPattern.R_PREFIX_MATCH));
+
+		fPack.getCompilationUnit("Zqx1.java").delete(true, null);
+		assertTrue(index.isAvailable());
+		assertEquals(Set.of("p.Zqx2"), getCandidates(index, "Zqx", SearchPattern.R_PREFIX_MATCH));
+	}
+
+	@Test
+	public void changeWhileBuilding() throws Exception {
+		TypeNameIndex index= buildIndex();
+		// an added source folder needs a rebuild
+		JavaProjectHelper.addSourceContainer(fJProject1, "src2");
+		assertFalse(index.isAvailable());
+
+		ChangingMonitor monitor= new ChangingMonitor() {
+			@Override
+			void change() throws CoreException {
+				assertFalse(index.isAvailable());
+				fPack.createCompilationUnit("Zqx3.java", "package p;\npublic class Zqx3 {\n}\n", true, null);
+			}
+		};
+		index.build(monitor);
+		assertTrue(monitor.fChanged);
+
+		assertTrue(index.isAvailable());
+		assertEquals(Set.of("p.Zqx1", "p.Zqx3"), getCandidates(index, "Zqx", SearchPattern.R_PREFIX_MATCH));
+	}
+
+	@Test
+	public void rebuildNeededWhileBuilding() throws Exception {
+		TypeNameIndex index= buildIndex();
+		JavaProjectHelper.addSourceContainer(fJProject1, "src2");
+		assertFalse(index.isAvailable());
+
+		ChangingMonitor monitor= new ChangingMonitor() {
+			@Override
+			void change() throws CoreException {
+				IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src3");
+				root.createPackageFragment("q", true, null).createCompilationUnit("Zqx4.java", "package q;\npublic class Zqx4 {\n}\n", true, null);
+			}
+		};
+		index.build(monitor);
+		assertTrue(monitor.fChanged);
+		assertFalse(index.isAvailable());
+
+		buildIndex();
+		assertEquals(Set.of("p.Zqx1", "q.Zqx4"), getCandidates(index, "Zqx", SearchPattern.R_PREFIX_MATCH));
+	}
+
+	/**
+	 * Changes the workspace when the search of the build first reports progress or checks for
+	 * cancellation.
+	 */
+	private abstract static class ChangingMonitor extends NullProgressMonitor {
+		boolean fChanged;
+
+		abstract void change() throws CoreException;
+
+		private void changeOnce() {
+			if (!fChanged) {
+				fChanged= true;
+				try {
+					change();
+				} catch (CoreException e) {
+					throw new AssertionError(e);
+				}
+			}
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			changeOnce();
+		}
+
+		@Override
+		public boolean isCanceled() {
+			changeOnce();
+			return false;
+		}
+	}
+}
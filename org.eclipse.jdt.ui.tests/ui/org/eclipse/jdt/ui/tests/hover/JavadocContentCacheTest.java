@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.tests.quickfix.JarUtil;
+
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
+
+public class JavadocContentCacheTest {
+
+	private static final long MAX_STORE_SIZE= 1024 * 1024;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private File fStore;
+
+	private JavadocContentCache fCache;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fStore= Files.createTempDirectory("javadocCache").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (fCache != null)
+			fCache.dispose();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+		JarUtil.delete(fStore);
+	}
+
+	private static String getSource(String comment) {
+		return "package p;\n"
+				+ "/** " + comment + " */\n"
+				+ "public class A {\n"
+				+ "	/** Foo. */\n"
+				+ "	public void foo() {}\n"
+				+ "	public void bar() {}\n"
+				+ "}\n";
+	}
+
+	/**
+	 * Creates lib.jar and its source attachment lib.zip in the project.
+	 */
+	private void createLibrary(String comment, boolean withSource) throws IOException, CoreException {
+		IProject project= fJProject1.getProject();
+		String location= project.getLocation().toOSString();
+		String[] pathAndContents= { "p/A.java", getSource(comment) };
+		String[] classpath= { fJProject1.getResolvedClasspath(true)[0].getPath().toOSString() };
+		JarUtil.createJar(pathAndContents, null, location + File.separator + "lib.jar", classpath, JavaCore.VERSION_1_8, null, null);
+		if (withSource)
+			JarUtil.createSourceZip(pathAndContents, location + File.separator + "lib.zip");
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+	}
+
+	private IType getType() throws CoreException {
+		return fJProject1.findType("p.A");
+	}
+
+	private Set<String> getStoredFiles() {
+		Set<String> names= new TreeSet<>();
+		for (String name : fStore.list()) {
+			if (!name.endsWith(".tmp"))
+				names.add(name);
+		}
+		return names;
+	}
+
+	private void createStoredFiles(String... names) throws IOException {
+		long now= System.currentTimeMillis();
+		for (int i= 0; i < names.length; i++) {
+			File file= new File(fStore, names[i]);
+			Files.write(file.toPath(), new byte[100]);
+			// the first file is the least recently used one
+			file.setLastModified(now - (names.length - i) * 10000L);
+		}
+	}
+
+	@Test
+	public void changedArchiveInvalidatesEntries() throws Exception {
+		createLibrary("First comment.", true);
+		String projectPath= '/' + fJProject1.getElementName() + '/';
+		JavaProjectHelper.addLibrary(fJProject1, new Path(projectPath + "lib.jar"), new Path(projectPath + "lib.zip"), null);
+		fCache= new JavadocContentCache(fStore, 100, MAX_STORE_SIZE);
+
+		String content= fCache.getHTMLContent(getType(), true);
+		assertTrue(content, content.contains("First comment."));
+		assertEquals(1, getStoredFiles().size());
+
+		File jar= fJProject1.getProject().getFile("lib.jar").getLocation().toFile();
+		long lastModified= jar.lastModified();
+		createLibrary("Second comment.", true);
+		jar.setLastModified(lastModified + 10000);
+		fJProject1.getProject().refreshLocal(IResource.DEPTH_INFINITE, null);
+
+		content= fCache.getHTMLContent(getType(), true);
+		assertTrue(content, content.contains("Second comment."));
+	}
+
+	@Test
+	public void missingJavadocNotStored() throws Exception {
+		createLibrary("Comment.", true);
+		String projectPath= '/' + fJProject1.getElementName() + '/';
+		JavaProjectHelper.addLibrary(fJProject1, new Path(projectPath + "lib.jar"), new Path(projectPath + "lib.zip"), null);
+		fCache= new JavadocContentCache(fStore, 100, MAX_STORE_SIZE);
+
+		IMethod bar= getType().getMethod("bar", new String[0]);
+		assertNull(fCache.getHTMLContent(bar, true));
+		assertEquals(0, getStoredFiles().size());
+
+		IMethod foo= getType().getMethod("foo", new String[0]);
+		String content= fCache.getHTMLContent(foo, true);
+		assertTrue(content, content.contains("Foo."));
+		assertEquals(1, getStoredFiles().size());
+	}
+
+	@Test
+	public void failedRemoteJavadocNotStored() throws Exception {
+		createLibrary("Comment.", false);
+		IClasspathAttribute javadocLocation= JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, "http://localhost:1/doc/");
+		JavaProjectHelper.addToClasspath(fJProject1, JavaCore.newLibraryEntry(new Path('/' + fJProject1.getElementName() + "/lib.jar"), null, null, null, new IClasspathAttribute[] { javadocLocation }, false));
+		fCache= new JavadocContentCache(fStore, 100, MAX_STORE_SIZE);
+
+		try {
+			assertNull(fCache.getHTMLContent(getType(), true));
+		} catch (CoreException e) {
+			// the Javadoc could not be fetched
+		}
+		assertEquals(0, getStoredFiles().size());
+	}
+
+	@Test
+	public void storePrunedAtStartup() throws Exception {
+		createStoredFiles("e0", "e1", "e2", "e3", "e4");
+		File leftOver= new File(fStore, "e5.tmp");
+		Files.write(leftOver.toPath(), new byte[100]);
+		leftOver.setLastModified(System.currentTimeMillis() - 120000);
+		File written= new File(fStore, "e6.tmp");
+		Files.write(written.toPath(), new byte[100]);
+
+		fCache= new JavadocContentCache(fStore, 3, MAX_STORE_SIZE);
+		Job.getJobManager().join(fCache, null);
+
+		assertEquals(Set.of("e2", "e3", "e4"), getStoredFiles());
+		// temporary files are only deleted when they are left over from an interrupted write
+		assertTrue(written.exists());
+		assertFalse(leftOver.exists());
+	}
+
+	@Test
+	public void storeBoundedBySize() throws Exception {
+		createStoredFiles("e0", "e1", "e2", "e3", "e4");
+
+		fCache= new JavadocContentCache(fStore, 100, 250);
+		Job.getJobManager().join(fCache, null);
+
+		assertEquals(Set.of("e3", "e4"), getStoredFiles());
+	}
+}
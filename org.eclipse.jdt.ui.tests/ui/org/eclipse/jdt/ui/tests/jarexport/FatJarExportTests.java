@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,17 +20,29 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.jarexport;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 
@@ -53,6 +65,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 
@@ -78,6 +91,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 import org.eclipse.jdt.internal.junit.util.XmlProcessorFactoryJdtJunit;
 
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
@@ -1005,4 +1019,75 @@ public class FatJarExportTests {
 			JavaProjectHelper.removeFromClasspath(fProject, externalRoot.getPath());
 		}
 	}
+
+	@Test
+	public void jarInJarLibrariesStored() throws Exception {
+		File lib= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.MYLIB_STDOUT);
+		IPackageFragmentRoot root= JavaProjectHelper.addLibraryWithImport(fProject, Path.fromOSString(lib.getPath()), null, null);
+
+		try {
+			buildProject();
+			JarPackageData data= createJarPackageData(fProject, getName(), new PackageLibraryHandler());
+			data.setCompress(true);
+
+			try (ZipFile generatedArchive= createZipFile(data)) {
+				// libraries are already compressed, so they are not deflated again
+				ZipEntry libEntry= generatedArchive.getEntry("mylib_stdout.jar"); //$NON-NLS-1$
+				assertNotNull(libEntry);
+				assertEquals(ZipEntry.STORED, libEntry.getMethod());
+				assertEquals(lib.length(), libEntry.getSize());
+				try (InputStream in= generatedArchive.getInputStream(libEntry)) {
+					assertArrayEquals(Files.readAllBytes(lib.toPath()), in.readAllBytes());
+				}
+				ZipEntry mainEntry= generatedArchive.getEntry("org/eclipse/jdt/ui/test/Main.class"); //$NON-NLS-1$
+				assertEquals(ZipEntry.DEFLATED, mainEntry.getMethod());
+			}
+		} finally {
+			JavaProjectHelper.removeFromClasspath(fProject, root.getPath());
+		}
+	}
+
+	@Test
+	public void isInside() throws Exception {
+		File directory= Files.createTempDirectory("archive").toFile(); //$NON-NLS-1$
+		try {
+			java.nio.file.Path directoryPath= directory.getCanonicalFile().toPath();
+			assertTrue(JarPackagerUtilCore.isInside(directoryPath, "mylib/Foo.class")); //$NON-NLS-1$
+			assertTrue(JarPackagerUtilCore.isInside(directoryPath, "/mylib/Foo.class")); //$NON-NLS-1$
+			assertTrue(JarPackagerUtilCore.isInside(directoryPath, "mylib/../Foo.class")); //$NON-NLS-1$
+			assertFalse(JarPackagerUtilCore.isInside(directoryPath, "../Foo.class")); //$NON-NLS-1$
+			assertFalse(JarPackagerUtilCore.isInside(directoryPath, "mylib/../../Foo.class")); //$NON-NLS-1$
+			assertFalse(JarPackagerUtilCore.isInside(directoryPath, "..")); //$NON-NLS-1$
+			assertFalse(JarPackagerUtilCore.isInside(directoryPath, ".")); //$NON-NLS-1$
+		} finally {
+			directory.delete();
+		}
+	}
+
+	@Test
+	public void unpackSkipsEntriesOutsideArchive() throws Exception {
+		File archive= File.createTempFile("unpack", ".zip"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(archive))) {
+				out.putNextEntry(new ZipEntry("mylib/Foo.txt")); //$NON-NLS-1$
+				out.write("inside".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+				out.putNextEntry(new ZipEntry("../Foo.txt")); //$NON-NLS-1$
+				out.write("outside".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			}
+
+			MultiStatus status= new MultiStatus(JavaUI.ID_PLUGIN, 0, "", null); //$NON-NLS-1$
+			ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+			try (ZipFile zipFile= new ZipFile(archive); JarOutputStream out= new JarOutputStream(bytes)) {
+				JarPackagerUtilCore.writeArchive(zipFile, false, true, out, new HashSet<>(), status, new NullProgressMonitor());
+			}
+			assertEquals(IStatus.WARNING, status.getSeverity());
+
+			try (JarInputStream in= new JarInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				assertEquals("mylib/Foo.txt", in.getNextJarEntry().getName()); //$NON-NLS-1$
+				assertNull(in.getNextJarEntry());
+			}
+		} finally {
+			archive.delete();
+		}
+	}
 }
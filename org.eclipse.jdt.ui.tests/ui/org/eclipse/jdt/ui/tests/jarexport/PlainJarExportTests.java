@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.jarexport;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +46,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.ui.IWorkbenchWindow;
@@ -54,6 +61,7 @@ import org.eclipse.jdt.ui.jarpackager.IJarExportRunnable;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.jarpackager.JarExportIndex;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
 
 public class PlainJarExportTests {
@@ -150,6 +158,88 @@ public class PlainJarExportTests {
 		assertEquals(expected.toString(), entries.toString());
 	}
 
+	@Test
+	public void exportUncompressedAgain() throws Exception {
+		JarPackageData data= createJarPackageData();
+		data.setElements(new Object[] { fCU.getResource() });
+		data.setExportClassFiles(true);
+		data.setCompress(false);
+		data.setIncrementalExport(true);
+
+		byte[] innerClass;
+		try (ZipFile jar= createArchive(data)) {
+			innerClass= getContents(jar, "org/eclipse/jdt/ui/test/Main$MainInner.class");
+		}
+
+		// only Main.class changes, the entries of the inner classes are copied from the previous jar
+		String str= """
+			package org.eclipse.jdt.ui.test;
+			public class Main {
+			    public class MainInner {
+			    }
+			    public static void main(String[] args) {
+			        new Main() {
+			           \s
+			        }.hashCode();
+			    }
+			    public void changed() {
+			    }
+			}
+			""";
+		fCU.getBuffer().setContents(str);
+		fCU.save(null, true);
+
+		try (ZipFile jar= createArchive(data)) {
+			List<String> expected= Arrays.asList("META-INF/MANIFEST.MF\n", "org/eclipse/jdt/ui/test/Main$1.class\n", "org/eclipse/jdt/ui/test/Main$MainInner.class\n", "org/eclipse/jdt/ui/test/Main.class\n");
+			assertEquals(expected.toString(), getSortedEntries(jar).toString());
+			assertArrayEquals(innerClass, getContents(jar, "org/eclipse/jdt/ui/test/Main$MainInner.class"));
+			IFile mainClass= fProject.getProject().getFile("bin/org/eclipse/jdt/ui/test/Main.class");
+			try (InputStream contents= mainClass.getContents()) {
+				assertArrayEquals(contents.readAllBytes(), getContents(jar, "org/eclipse/jdt/ui/test/Main.class"));
+			}
+			for (Enumeration<? extends ZipEntry> entries= jar.entries(); entries.hasMoreElements();) {
+				ZipEntry entry= entries.nextElement();
+				if (!entry.getName().startsWith("META-INF/"))
+					assertEquals(entry.getName(), ZipEntry.STORED, entry.getMethod());
+			}
+		}
+		// the temporary jar is not left behind
+		File jarFile= data.getJarLocation().toFile();
+		String[] siblings= jarFile.getParentFile().list((dir, name) -> name.startsWith(jarFile.getName()));
+		assertEquals(Arrays.toString(siblings), 1, siblings.length);
+	}
+
+	@Test
+	public void failedIncrementalExportKeepsPreviousJar() throws Exception {
+		JarPackageData data= createJarPackageData();
+		data.setElements(new Object[] { fCU.getResource() });
+		data.setExportClassFiles(true);
+		data.setCompress(false);
+		data.setIncrementalExport(true);
+		createArchive(data).close();
+
+		File jarFile= data.getJarLocation().toFile();
+		byte[] previous= Files.readAllBytes(jarFile.toPath());
+		JarExportIndex index= JarExportIndex.open(jarFile);
+		assertNotNull(index);
+		// the previous jar is read in place, the new jar is written to a temporary file
+		File outputFile= index.getOutputFile();
+		assertNotEquals(jarFile, outputFile);
+		Files.write(outputFile.toPath(), new byte[] { 1, 2, 3 });
+		index.abort();
+
+		assertFalse(outputFile.exists());
+		assertArrayEquals(previous, Files.readAllBytes(jarFile.toPath()));
+	}
+
+	private static byte[] getContents(ZipFile jar, String name) throws IOException {
+		ZipEntry entry= jar.getEntry(name);
+		assertNotNull(name, entry);
+		try (InputStream contents= jar.getInputStream(entry)) {
+			return contents.readAllBytes();
+		}
+	}
+
 	private JarPackageData createJarPackageData() {
 		JarPackageData data= new JarPackageData();
 		data.setJarLocation(ResourcesPlugin.getWorkspace().getRoot().getLocation().append(getName() + ".jar"));
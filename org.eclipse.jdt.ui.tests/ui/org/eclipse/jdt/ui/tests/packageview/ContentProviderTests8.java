@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+
+import org.eclipse.jface.viewers.TreeViewer;
+
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerContentProvider;
+
+/**
+ * Tests for the coalescing of large batches of updates by the PackageExplorerContentProvider.
+ *
+ * @since 3.35
+ */
+public class ContentProviderTests8 {
+
+	private static final String ROOT= "root"; //$NON-NLS-1$
+
+	private static final Map<String, String> PARENTS= Map.of("a", ROOT, "b", ROOT, "a/x", "a", "a/y", "a"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+
+	private final List<String> fLog= new ArrayList<>();
+
+	private Shell fShell;
+
+	private TestContentProvider fProvider;
+
+	@BeforeEach
+	public void setUp() {
+		fShell= new Shell();
+		TreeViewer viewer= new LoggingTreeViewer(fShell);
+		fProvider= new TestContentProvider();
+		fProvider.inputChanged(viewer, null, ROOT);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fProvider.dispose();
+		fShell.dispose();
+	}
+
+	@Test
+	public void testCoalescedUpdatesKeepOrderOfOtherUpdates() {
+		List<Runnable> runnables= new ArrayList<>();
+		List<String> expected= new ArrayList<>();
+		runnables.add(other("first")); //$NON-NLS-1$
+		expected.add("first"); //$NON-NLS-1$
+		for (int i= 0; i < 150; i++) {
+			fProvider.add("b", "b" + i, runnables); //$NON-NLS-1$ //$NON-NLS-2$
+			expected.add("add b" + i); //$NON-NLS-1$
+		}
+		fProvider.refresh("a", runnables); //$NON-NLS-1$
+		expected.add("refresh a"); //$NON-NLS-1$
+		// below the refreshed element
+		fProvider.add("a", "a/y", runnables); //$NON-NLS-1$ //$NON-NLS-2$
+		runnables.add(other("middle")); //$NON-NLS-1$
+		expected.add("middle"); //$NON-NLS-1$
+		fProvider.remove("a/x", runnables); //$NON-NLS-1$
+		runnables.add(other("last")); //$NON-NLS-1$
+		expected.add("last"); //$NON-NLS-1$
+
+		fProvider.run(runnables);
+		assertEquals(expected, fLog);
+	}
+
+	@Test
+	public void testRefreshAllKeepsOtherUpdates() {
+		List<Runnable> runnables= new ArrayList<>();
+		runnables.add(other("first")); //$NON-NLS-1$
+		for (int i= 0; i < 2000; i++) {
+			fProvider.add("b", "b" + i, runnables); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		runnables.add(other("last")); //$NON-NLS-1$
+
+		fProvider.run(runnables);
+		assertEquals(List.of("first", "refresh all", "last"), fLog); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private Runnable other(String name) {
+		return () -> fLog.add(name);
+	}
+
+	private static class TestContentProvider extends PackageExplorerContentProvider {
+
+		TestContentProvider() {
+			super(false);
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			return PARENTS.get(element);
+		}
+
+		void refresh(Object element, Collection<Runnable> runnables) {
+			postRefresh(List.of(element), true, runnables);
+		}
+
+		void add(Object parent, Object element, Collection<Runnable> runnables) {
+			postAdd(parent, element, runnables);
+		}
+
+		void remove(Object element, Collection<Runnable> runnables) {
+			postRemove(element, runnables);
+		}
+
+		void run(Collection<Runnable> runnables) {
+			executeRunnables(runnables);
+		}
+	}
+
+	private class LoggingTreeViewer extends TreeViewer {
+
+		LoggingTreeViewer(Composite parent) {
+			super(parent, SWT.MULTI);
+		}
+
+		@Override
+		public void refresh() {
+			fLog.add("refresh all"); //$NON-NLS-1$
+		}
+
+		@Override
+		public void refresh(Object element) {
+			fLog.add("refresh " + element); //$NON-NLS-1$
+		}
+
+		@Override
+		public void refresh(Object element, boolean updateLabels) {
+			fLog.add("refresh " + element); //$NON-NLS-1$
+		}
+
+		@Override
+		public void add(Object parentElement, Object childElement) {
+			fLog.add("add " + childElement); //$NON-NLS-1$
+		}
+
+		@Override
+		public void remove(Object element) {
+			fLog.add("remove " + element); //$NON-NLS-1$
+		}
+
+		@Override
+		public Widget[] testFindItems(Object element) {
+			return new Widget[1];
+		}
+	}
+}
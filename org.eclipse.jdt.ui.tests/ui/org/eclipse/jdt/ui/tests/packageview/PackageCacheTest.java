@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Simeon Andreev and others.
+ * Copyright (c) 2017, 2026 Simeon Andreev and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,15 @@
 package org.eclipse.jdt.ui.tests.packageview;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,10 +36,13 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
 
 import org.eclipse.jdt.internal.ui.packageview.PackageCache;
 
@@ -163,6 +171,123 @@ public class PackageCacheTest {
 				actualPackagesWithSingleChild, "method returned wrong results");
 	}
 
+	@Test
+	public void testGetTopLevelPackages() throws Exception {
+		IPackageFragment defaultPackage= src.getPackageFragment("");
+		assertEquals(new HashSet<>(Arrays.asList(defaultPackage, package_a, package_f)),
+				new HashSet<>(packageCache.getTopLevelPackages()), "method returned wrong results");
+	}
+
+	@Test
+	public void testPackageAddedAndRemoved() throws Exception {
+		IProgressMonitor monitor= new NullProgressMonitor();
+		// prepare the cache before changing the packages
+		assertEquals(Arrays.asList(package_a_b), packageCache.getDirectChildren(package_a));
+
+		IPackageFragment package_a_h= src.createPackageFragment("a.h", true, monitor);
+		IPackageFragment package_a_h_i= src.createPackageFragment("a.h.i", true, monitor);
+		IPackageFragment package_j= src.createPackageFragment("j", true, monitor);
+		packageCache.packageAdded(package_a_h);
+		packageCache.packageAdded(package_a_h_i);
+		packageCache.packageAdded(package_j);
+		// adding a package twice has no effect
+		packageCache.packageAdded(package_a_h);
+
+		assertEquals(Arrays.asList(package_a_b, package_a_h), packageCache.getDirectChildren(package_a));
+		assertEquals(Arrays.asList(package_a_h_i), packageCache.getDirectChildren(package_a_h));
+		assertEquals(package_a_h_i, packageCache.getSingleChild(package_a_h));
+		assertEquals(new HashSet<>(Arrays.asList(src.getPackageFragment(""), package_a, package_f, package_j)),
+				new HashSet<>(packageCache.getTopLevelPackages()));
+
+		package_a_h_i.delete(true, monitor);
+		packageCache.packageRemoved(package_a_h_i);
+		package_f_g.delete(true, monitor);
+		packageCache.packageRemoved(package_f_g);
+
+		assertEquals(Collections.emptyList(), packageCache.getDirectChildren(package_a_h));
+		assertFalse(packageCache.hasSingleChild(package_f));
+		assertNull(packageCache.getSingleChild(package_f));
+		assertEquals(Arrays.asList(package_a_b, package_a_h), packageCache.getDirectChildren(package_a));
+	}
+
+	@Test
+	public void testReturnedChildrenAreNotChanged() throws Exception {
+		List<IPackageFragment> children= packageCache.getDirectChildren(package_a);
+		List<IPackageFragment> topLevelPackages= packageCache.getTopLevelPackages();
+		assertThrows(UnsupportedOperationException.class, () -> children.add(package_f));
+		assertThrows(UnsupportedOperationException.class, () -> topLevelPackages.remove(package_f));
+
+		IPackageFragment package_a_h= src.createPackageFragment("a.h", true, new NullProgressMonitor());
+		packageCache.packageAdded(package_a_h);
+		packageCache.packageRemoved(package_f);
+
+		// the lists are replaced, not changed
+		assertEquals(Arrays.asList(package_a_b), children);
+		assertTrue(topLevelPackages.contains(package_f));
+		assertEquals(Arrays.asList(package_a_b, package_a_h), packageCache.getDirectChildren(package_a));
+		assertFalse(packageCache.getTopLevelPackages().contains(package_f));
+	}
+
+	@Test
+	public void testUpdateAgainstRebuild() throws Exception {
+		IProgressMonitor monitor= new NullProgressMonitor();
+		PackageCache.PerRootCache perRootCache= new PackageCache.PerRootCache();
+		// prepare the cache before changing the packages
+		assertEquals(Arrays.asList(package_a_b), perRootCache.getDirectChildren(package_a));
+
+		IElementChangedListener listener= event -> perRootCache.update(event.getDelta());
+		JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE);
+		try {
+			IPackageFragment package_a_h= src.createPackageFragment("a.h", true, monitor);
+			IPackageFragment package_a_h_i= src.createPackageFragment("a.h.i", true, monitor);
+			// creates the packages j and j.k
+			IPackageFragment package_j_k= src.createPackageFragment("j.k", true, monitor);
+			assertSameAsRebuilt(perRootCache);
+			assertEquals(Arrays.asList(package_a_h_i), perRootCache.getDirectChildren(package_a_h));
+			assertEquals(package_j_k, perRootCache.getSingleChild(src.getPackageFragment("j")));
+
+			package_a_h_i.getResource().delete(true, monitor);
+			assertSameAsRebuilt(perRootCache, package_a_h_i);
+			assertEquals(Collections.emptyList(), perRootCache.getDirectChildren(package_a_h));
+
+			// removes the package together with its sub packages
+			package_a_b_c.getResource().delete(true, monitor);
+			assertSameAsRebuilt(perRootCache, package_a_b_c, package_a_b_c_d1, package_a_b_c_d2);
+			assertEquals(package_a_b_e, perRootCache.getSingleChild(package_a_b));
+
+			package_f.getResource().delete(true, monitor);
+			assertSameAsRebuilt(perRootCache, package_f, package_f_g);
+
+			// adding a removed package again
+			src.createPackageFragment("a.b.c.d1", true, monitor);
+			assertSameAsRebuilt(perRootCache);
+		} finally {
+			JavaCore.removeElementChangedListener(listener);
+		}
+	}
+
+	/**
+	 * Compares the incrementally updated cache with a cache built from the current packages.
+	 *
+	 * @param perRootCache the updated cache
+	 * @param removedPackages packages which have been removed and are queried in addition to the
+	 *            existing packages
+	 */
+	private void assertSameAsRebuilt(PackageCache.PerRootCache perRootCache, IPackageFragment... removedPackages) throws Exception {
+		PackageCache.PerRootCache rebuiltCache= new PackageCache.PerRootCache();
+		List<IPackageFragment> packages= new ArrayList<>(Arrays.asList(removedPackages));
+		for (IJavaElement child : src.getChildren()) {
+			packages.add((IPackageFragment) child);
+		}
+		for (IPackageFragment packageFragment : packages) {
+			String message= packageFragment.getElementName();
+			assertEquals(new HashSet<>(rebuiltCache.getDirectChildren(packageFragment)),
+					new HashSet<>(perRootCache.getDirectChildren(packageFragment)), message);
+			assertEquals(rebuiltCache.getSingleChild(packageFragment), perRootCache.getSingleChild(packageFragment), message);
+		}
+		assertEquals(new HashSet<>(rebuiltCache.getTopLevelPackages(src)), new HashSet<>(perRootCache.getTopLevelPackages(src)));
+	}
+
 	private Map<IPackageFragment, IPackageFragment> actualSingleChildren() throws Exception {
 		List<IPackageFragment> allPackages= allPackages();
 		Map<IPackageFragment, IPackageFragment> actualSingleChildren= new LinkedHashMap<>();
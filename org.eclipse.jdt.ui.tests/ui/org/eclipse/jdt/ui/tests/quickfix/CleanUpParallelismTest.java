@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Tests that clean ups running on several compilation units concurrently produce the same changes
+ * as a sequential run.
+ */
+public class CleanUpParallelismTest extends CleanUpTestCase {
+
+	private static final int UNIT_COUNT= 24;
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	@Override
+	protected IJavaProject getProject() {
+		return projectSetup.getProject();
+	}
+
+	@Override
+	protected IClasspathEntry[] getDefaultClasspath() throws CoreException {
+		return projectSetup.getDefaultClasspath();
+	}
+
+	private static String getSource(int i) {
+		return """
+			package test1;
+			import java.util.List;
+			import java.util.ArrayList;
+			public class E%1$d {
+			    private int fCount= %1$d;
+			    public int foo(int a, int b) {
+			        int i= a + b * fCount;
+			        if (i > %1$d)
+			            return a * b + i;
+			        for (int j= 0; j < a; j++)
+			            i+= j;
+			        return i;
+			    }
+			    public String toString() {
+			        return new ArrayList<String>().toString();
+			    }
+			}
+			""".formatted(Integer.valueOf(i));
+	}
+
+	private String[] performCleanUp(ICompilationUnit[] cus, int parallelism) throws CoreException {
+		String[] original= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			original[i]= cus[i].getBuffer().getContents();
+		}
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(parallelism);
+		performRefactoring(ref, cus, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+
+		String[] result= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			result[i]= cus[i].getBuffer().getContents();
+			cus[i].getBuffer().setContents(original[i]);
+			cus[i].save(null, true);
+		}
+		return result;
+	}
+
+	@Test
+	public void parallelCleanUpEqualsSequentialCleanUp() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit[] cus= new ICompilationUnit[UNIT_COUNT];
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			cus[i]= pack1.createCompilationUnit("E" + i + ".java", getSource(i), false, null);
+		}
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.EXPRESSIONS_USE_PARENTHESES);
+		enable(CleanUpConstants.EXPRESSIONS_USE_PARENTHESES_ALWAYS);
+		enable(CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL);
+		enable(CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL_PARAMETERS);
+		enable(CleanUpConstants.VARIABLE_DECLARATIONS_USE_FINAL_PRIVATE_FIELDS);
+		enable(CleanUpConstants.REMOVE_UNUSED_CODE_IMPORTS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS);
+		enable(CleanUpConstants.ADD_MISSING_ANNOTATIONS_OVERRIDE);
+
+		String[] sequential= performCleanUp(cus, 1);
+		assertNotEquals(getSource(0), sequential[0]);
+
+		String[] parallel= performCleanUp(cus, 4);
+		assertArrayEquals(sequential, parallel);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2025 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({
 	CleanUpStressTest.class,
+	CleanUpParallelismTest.class,
 	CleanUpTest.class,
 	CleanUpTest1d4.class,
 	CleanUpTest1d5.class,
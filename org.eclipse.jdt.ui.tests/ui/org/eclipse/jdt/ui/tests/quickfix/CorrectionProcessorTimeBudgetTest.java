@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.compiler.IProblem;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
+import org.eclipse.jdt.ui.text.java.IProblemLocation;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.ProblemLocation;
+
+public class CorrectionProcessorTimeBudgetTest extends QuickFixTest {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragmentRoot fSourceFolder;
+
+	private AssistContext fContext;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= projectSetup.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaPlugin.getDefault().getPreferenceStore().setToDefault(JavaCorrectionProcessor.PREF_PROCESSOR_TIME_BUDGET);
+		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
+	}
+
+	private IProblemLocation[] createUnresolvedTypeProblem() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			    Vectr v;
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", str, false, null);
+		IProblem[] problems= getASTRoot(cu).getProblems();
+		assertNumberOfProblems(1, problems);
+		IProblem problem= problems[0];
+		fContext= getCorrectionContext(cu, problem.getSourceStart(), problem.getSourceEnd() + 1 - problem.getSourceStart());
+		return new IProblemLocation[] { new ProblemLocation(problem) };
+	}
+
+	@Test
+	public void expiredDeadlineSkipsProcessors() throws Exception {
+		IProblemLocation[] locations= createUnresolvedTypeProblem();
+
+		ArrayList<IJavaCompletionProposal> corrections= new ArrayList<>();
+		assertStatusOk(JavaCorrectionProcessor.collectCorrections(fContext, locations, corrections, Long.MAX_VALUE));
+		assertFalse(corrections.isEmpty());
+
+		corrections.clear();
+		assertStatusOk(JavaCorrectionProcessor.collectCorrections(fContext, locations, corrections, System.currentTimeMillis() - 1));
+		assertEquals(0, corrections.size());
+
+		ArrayList<IJavaCompletionProposal> assists= new ArrayList<>();
+		assertStatusOk(JavaCorrectionProcessor.collectAssists(fContext, locations, assists, System.currentTimeMillis() - 1));
+		assertEquals(0, assists.size());
+	}
+
+	@Test
+	public void budgetNotAppliedToPublicCollectors() throws Exception {
+		IProblemLocation[] locations= createUnresolvedTypeProblem();
+
+		ArrayList<IJavaCompletionProposal> expected= new ArrayList<>();
+		assertStatusOk(JavaCorrectionProcessor.collectCorrections(fContext, locations, expected));
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setValue(JavaCorrectionProcessor.PREF_PROCESSOR_TIME_BUDGET, 1L);
+		// the budget only applies to quick fix and quick assist invocations in the editor
+		ArrayList<IJavaCompletionProposal> corrections= new ArrayList<>();
+		assertStatusOk(JavaCorrectionProcessor.collectCorrections(fContext, locations, corrections));
+		assertEquals(expected.size(), corrections.size());
+	}
+}
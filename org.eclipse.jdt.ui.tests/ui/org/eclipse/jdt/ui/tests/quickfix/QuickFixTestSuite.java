@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.junit.platform.suite.api.Suite;
 	LocalCorrectionsQuickFixTest15.class,
 	TypeMismatchQuickFixTests.class,
 	ReorgQuickFixTest.class,
+	CorrectionProcessorTimeBudgetTest.class,
 	ModifierCorrectionsQuickFixTest.class,
 	ModifierCorrectionsQuickFixTest1d7.class,
 	ModifierCorrectionsQuickFixTest9.class,
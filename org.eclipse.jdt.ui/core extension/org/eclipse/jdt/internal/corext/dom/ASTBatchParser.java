@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,9 +18,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -50,6 +56,79 @@ public class ASTBatchParser {
 		else                        MAX_AT_ONCE=  25;
 	}
 
+	/**
+	 * Heap required per concurrently parsed batch, in MiB.
+	 */
+	private static final int MEMORY_PER_WORKER= 500;
+
+	/**
+	 * Forwards all calls to the wrapped monitor while holding a lock shared by all workers.
+	 */
+	private static final class SynchronizedProgressMonitor extends ProgressMonitorWrapper {
+
+		private final Object fLock;
+
+		private SynchronizedProgressMonitor(IProgressMonitor monitor, Object lock) {
+			super(monitor);
+			fLock= lock;
+		}
+
+		@Override
+		public void beginTask(String name, int totalWork) {
+			synchronized (fLock) {
+				super.beginTask(name, totalWork);
+			}
+		}
+
+		@Override
+		public void done() {
+			synchronized (fLock) {
+				super.done();
+			}
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			synchronized (fLock) {
+				super.internalWorked(work);
+			}
+		}
+
+		@Override
+		public void setTaskName(String name) {
+			synchronized (fLock) {
+				super.setTaskName(name);
+			}
+		}
+
+		@Override
+		public void subTask(String name) {
+			synchronized (fLock) {
+				super.subTask(name);
+			}
+		}
+
+		@Override
+		public void worked(int work) {
+			synchronized (fLock) {
+				super.worked(work);
+			}
+		}
+	}
+
+	/**
+	 * Returns the maximal number of batches that can be parsed concurrently without risking an
+	 * out of memory exception, bounded by the number of available processors.
+	 *
+	 * @return the maximal number of concurrent workers, at least 1
+	 * @since 3.35
+	 */
+	public static int getMaxParallelism() {
+		long maxMemory= Runtime.getRuntime().maxMemory() / (1 << 20); // in MiB
+		int byMemory= (int) Math.max(1, maxMemory / MEMORY_PER_WORKER);
+		return Math.max(1, Math.min(byMemory, Runtime.getRuntime().availableProcessors()));
+	}
+
 	/**
 	 * Creates ASTs for each compilation unit in <code>units</code>.
 	 * <p>
@@ -100,6 +179,83 @@ public class ASTBatchParser {
 		}
 	}
 
+	/**
+	 * Creates ASTs for each compilation unit in <code>units</code>, parsing up to
+	 * <code>parallelism</code> subsets concurrently.
+	 * <p>
+	 * Each subset is parsed by its own parser, so the bindings of ASTs from different subsets are
+	 * not comparable. <code>ASTRequestor.acceptAST</code> is called from several threads and in no
+	 * particular order, the requestor must be thread-safe. Calls to <code>monitor</code> are
+	 * synchronized on the monitor.
+	 * </p>
+	 *
+	 * @param compilationUnits the compilation units to create ASTs for
+	 * @param bindingKeys the binding keys to create bindings for
+	 * @param requestor the thread-safe AST requestor that collects abstract syntax trees and bindings
+	 * @param monitor the progress monitor used to report progress and request cancelation,
+	 *   or <code>null</code> if none
+	 * @param parallelism the requested number of concurrent workers, bounded by
+	 *   {@link #getMaxParallelism()}
+	 * @see #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)
+	 * @since 3.35
+	 */
+	public final void createASTs(ICompilationUnit[] compilationUnits, String[] bindingKeys, ASTRequestor requestor, IProgressMonitor monitor, int parallelism) {
+		int workers= Math.min(parallelism, getMaxParallelism());
+		if (workers <= 1 || compilationUnits.length < 2) {
+			createASTs(compilationUnits, bindingKeys, requestor, monitor);
+			return;
+		}
+
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		// keep the number of ASTs in memory at the level of the sequential parser
+		int maxAtOnce= Math.max(1, MAX_AT_ONCE / workers);
+		List<ICompilationUnit[]> batches= new ArrayList<>();
+		for (ICompilationUnit[] units : splitByProject(compilationUnits)) {
+			int batchSize= Math.min(maxAtOnce, (units.length + workers - 1) / workers);
+			for (int cursor= 0; cursor < units.length; cursor+= batchSize) {
+				batches.add(Arrays.copyOfRange(units, cursor, Math.min(cursor + batchSize, units.length)));
+			}
+		}
+
+		final IProgressMonitor lockedMonitor= new SynchronizedProgressMonitor(monitor, monitor);
+		lockedMonitor.beginTask("", compilationUnits.length); //$NON-NLS-1$
+		try (ExecutorService executor= Executors.newFixedThreadPool(Math.min(workers, batches.size()))) {
+			List<Future<?>> futures= new ArrayList<>(batches.size());
+			for (ICompilationUnit[] units : batches) {
+				IProgressMonitor batchMonitor;
+				synchronized (monitor) {
+					batchMonitor= new SynchronizedProgressMonitor(Progress.subMonitor(lockedMonitor, units.length), monitor);
+				}
+				futures.add(executor.submit(() -> {
+					if (batchMonitor.isCanceled())
+						throw new OperationCanceledException();
+					createParser(units[0].getJavaProject()).createASTs(units, bindingKeys, requestor, batchMonitor);
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					futures.forEach(f -> f.cancel(false));
+					Throwable cause= e.getCause();
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new IllegalStateException(cause);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					futures.forEach(f -> f.cancel(false));
+					throw new OperationCanceledException();
+				}
+			}
+		} finally {
+			lockedMonitor.done();
+		}
+	}
+
 	/**
 	 * Creates a new parser which can be used to create ASTs
 	 * for compilation units in <code>project</code>
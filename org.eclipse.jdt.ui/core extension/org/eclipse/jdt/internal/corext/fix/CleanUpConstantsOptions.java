@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -409,6 +409,7 @@ public class CleanUpConstantsOptions extends CleanUpConstants {
 		}
 
 		store.setDefault(SHOW_CLEAN_UP_WIZARD, true);
+		store.setDefault(CLEAN_UP_PARALLELISM, 1);
 		store.setDefault(CLEANUP_PROFILE, DEFAULT_PROFILE);
 		store.setDefault(CLEANUP_ON_SAVE_PROFILE, DEFAULT_SAVE_PARTICIPANT_PROFILE);
 	}
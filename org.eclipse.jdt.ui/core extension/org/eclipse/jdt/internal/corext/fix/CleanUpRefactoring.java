@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -246,16 +249,22 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Collects the clean up changes of parsed compilation units. Thread-safe, ASTs may be
+	 * accepted concurrently when clean ups run in parallel.
+	 */
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
 		private final List<ParseListElement> fUndoneElements;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ParseListElement> fCompilationUnitParseElementMap;
 		private final CleanUpRefactoringProgressMonitor fMonitor;
+		private final boolean fParallel;
 
-		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor, boolean parallel) {
 			fSolutions= solutions;
 			fMonitor= monitor;
+			fParallel= parallel;
 			fUndoneElements= new ArrayList<>();
 			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
@@ -266,7 +275,9 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		@Override
 		public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
 
-			fMonitor.subTask(fMonitor.getSubTaskMessage(source));
+			synchronized (fMonitor) {
+				fMonitor.subTask(fMonitor.getSubTaskMessage(source));
+			}
 
 			ICompilationUnit primary= (ICompilationUnit)source.getPrimaryElement();
 			ParseListElement element= fCompilationUnitParseElementMap.get(primary);
@@ -280,11 +291,13 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 			ICleanUp[] rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
 
-			if (rejectedCleanUps.length > 0) {
-				fUndoneElements.add(new ParseListElement(target, rejectedCleanUps));
-				fMonitor.reset();
-			} else {
-				fMonitor.flush();
+			synchronized (fMonitor) {
+				if (rejectedCleanUps.length > 0) {
+					fUndoneElements.add(new ParseListElement(target, rejectedCleanUps));
+					fMonitor.reset();
+				} else {
+					fMonitor.flush();
+				}
 			}
 		}
 
@@ -292,8 +305,25 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			acceptAST(source, null);
 		}
 
-		public List<ParseListElement> getUndoneElements() {
-			return fUndoneElements;
+		/**
+		 * Returns the elements which still have clean ups to run. When ASTs were accepted
+		 * concurrently, the elements are returned in the order of the given parse list, otherwise
+		 * in the order in which their ASTs were accepted.
+		 *
+		 * @param parseList the parse list of the current round
+		 * @return the undone elements
+		 */
+		public List<ParseListElement> getUndoneElements(List<ParseListElement> parseList) {
+			synchronized (fMonitor) {
+				if (!fParallel || fUndoneElements.size() < 2)
+					return fUndoneElements;
+				Map<ICompilationUnit, Integer> order= new HashMap<>();
+				for (int i= 0; i < parseList.size(); i++) {
+					order.put(parseList.get(i).getTarget().getCompilationUnit(), Integer.valueOf(i));
+				}
+				fUndoneElements.sort(Comparator.comparing(element -> order.get(element.getTarget().getCompilationUnit())));
+				return fUndoneElements;
+			}
 		}
 
 		private ICleanUp[] calculateSolutions(CleanUpContext context, ICleanUp[] cleanUps) {
@@ -327,6 +357,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
+		private final CleanUpTarget[] fTargets;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
@@ -335,6 +366,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private int fIndex;
 
 		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+			fTargets= targets;
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
@@ -387,7 +419,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
-				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor, fParallelism > 1);
 				if (parseList.size() > 0) {
 					ASTBatchParser parser= new ASTBatchParser() {
 						@Override
@@ -407,7 +439,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					};
 					try {
 						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
+						parser.createASTs(units, new String[0], requestor, cuMonitor, fParallelism);
 					} catch (FixCalculationException e) {
 						throw e.getException();
 					}
@@ -424,7 +456,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 						throw new OperationCanceledException();
 				}
 
-				fParseList= requestor.getUndoneElements();
+				fParseList= requestor.getUndoneElements(fParseList);
 				// check if undone cleanup requires separate options in which case, set up special options.
 				if (fParseList != null && !fParseList.isEmpty()) {
 					ParseListElement element= fParseList.get(0);
@@ -465,9 +497,12 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			// report the changes in the order of the targets, independent of the processing order
+			for (CleanUpTarget target : fTargets) {
+				ICompilationUnit unit= target.getCompilationUnit();
+				List<CleanUpChange> changes= fSolutions.remove(unit);
+				if (changes == null)
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -492,6 +527,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				i++;
 			}
 
+			if (i < result.length)
+				return Arrays.copyOf(result, i);
 			return result;
 		}
 
@@ -533,6 +570,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fParallelism;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -542,12 +581,24 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= JavaPlugin.getDefault().getPreferenceStore().getInt(CleanUpConstants.CLEAN_UP_PARALLELISM);
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the number of workers creating ASTs and fixes concurrently, bounded by
+	 * {@link ASTBatchParser#getMaxParallelism()}. Defaults to the value of the preference
+	 * {@link CleanUpConstants#CLEAN_UP_PARALLELISM}.
+	 *
+	 * @param parallelism the number of workers, values smaller than 2 clean up sequentially
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= parallelism;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,12 @@
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.w3c.dom.Element;
 
@@ -56,6 +58,11 @@ import org.eclipse.jdt.internal.corext.CorextMessages;
 
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
+ * <p>
+ * The types are read from a snapshot that is replaced on every modification, so readers like the
+ * open type dialog never wait for a modification or for a running consistency check. A
+ * consistency check only validates the types whose container changed since the last check.
+ * </p>
  */
 public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
@@ -165,10 +172,16 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 	}
 
-	// Needs to be volatile since accesses aren't synchronized.
-	private volatile boolean fNeedsConsistencyCheck;
+	// Incremented whenever the history may have become inconsistent
+	private final AtomicInteger fInconsistencyStamp;
+	// Value of fInconsistencyStamp when the last completed consistency check started
+	private final AtomicInteger fCheckedStamp;
 	// Map of cached time stamps
-	private Map<TypeNameMatch, Long> fTimestampMapping;
+	private final Map<TypeNameMatch, Long> fTimestampMapping;
+
+	// Snapshot of the history, newest element first. Replaced on every modification.
+	private volatile TypeNameMatch[] fTypeInfos;
+	private volatile Set<TypeNameMatch> fTypeInfoSet;
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
@@ -196,8 +209,11 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private OpenTypeHistory() {
 		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
-		fTimestampMapping= new HashMap<>();
-		fNeedsConsistencyCheck= true;
+		fTimestampMapping= new ConcurrentHashMap<>();
+		fInconsistencyStamp= new AtomicInteger(1);
+		fCheckedStamp= new AtomicInteger(0);
+		fTypeInfos= new TypeNameMatch[0];
+		fTypeInfoSet= Set.of();
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
 		JavaCore.addElementChangedListener(fDeltaListener);
@@ -211,81 +227,127 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	public void markAsInconsistent() {
-		fNeedsConsistencyCheck= true;
+		fInconsistencyStamp.incrementAndGet();
 		// cancel the old job. If no job is running this is a NOOP.
 		fUpdateJob.cancel();
 		fUpdateJob.schedule();
 	}
 
 	public boolean needConsistencyCheck() {
-		return fNeedsConsistencyCheck;
+		return fCheckedStamp.get() != fInconsistencyStamp.get();
 	}
 
+	/**
+	 * Checks the consistency of the history in the calling thread. Does not wait for a running
+	 * update job: the check only holds the lock of the history while applying its changes, so a
+	 * concurrent check by the update job is harmless.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
 	public void checkConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		if (!fNeedsConsistencyCheck)
-			return;
-		if (fUpdateJob.getState() == Job.RUNNING) {
-			try {
-				Job.getJobManager().join(UpdateJob.FAMILY, monitor);
-			} catch (OperationCanceledException | InterruptedException e) {
-				// Ignore and do the consistency check without
-				// waiting for the update job.
-			}
-		}
-		if (!fNeedsConsistencyCheck)
+		if (!needConsistencyCheck())
 			return;
 		internalCheckConsistency(monitor);
 	}
 
 	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
+	public boolean contains(TypeNameMatch type) {
+		return fTypeInfoSet.contains(type);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fTypeInfos.length == 0;
 	}
 
 	@Override
-	public synchronized void accessed(TypeNameMatch info) {
+	public void accessed(TypeNameMatch info) {
 		// Fetching the timestamp might not be cheap (remote file system
 		// external Jars. So check if we alreay have one.
 		if (!fTimestampMapping.containsKey(info)) {
-			fTimestampMapping.put(info, getContainerTimestamp(info));
+			fTimestampMapping.putIfAbsent(info, getContainerTimestamp(info));
+		}
+		synchronized (this) {
+			super.accessed(info);
+			updateSnapshot();
 		}
-		super.accessed(info);
 	}
 
 	@Override
 	public synchronized TypeNameMatch remove(TypeNameMatch info) {
 		fTimestampMapping.remove(info);
-		return (TypeNameMatch)super.remove(info);
+		TypeNameMatch removed= (TypeNameMatch)super.remove(info);
+		updateSnapshot();
+		return removed;
 	}
 
-	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
-		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
-		super.remove(old);
-		super.accessed(newMatch);
+	@Override
+	public synchronized Object removeKey(Object key) {
+		Object removed= super.removeKey(key);
+		updateSnapshot();
+		return removed;
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
-		Collection<TypeNameMatch> values= getValues();
-		int size= values.size();
-		TypeNameMatch[] result= new TypeNameMatch[size];
-		int i= size - 1;
-		for (TypeNameMatch typeNameMatch : values) {
-			result[i]= typeNameMatch;
-			i--;
+	@Override
+	public synchronized void load() {
+		super.load();
+		updateSnapshot();
+	}
+
+	public void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		long timestamp= getContainerTimestamp(newMatch);
+		synchronized (this) {
+			if (!super.contains(old)) {
+				// removed concurrently
+				return;
+			}
+			fTimestampMapping.remove(old);
+			fTimestampMapping.put(newMatch, timestamp);
+			super.remove(old);
+			super.accessed(newMatch);
+			updateSnapshot();
 		}
-		return result;
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+	/**
+	 * @return the types in the history, newest first
+	 */
+	public TypeNameMatch[] getTypeInfos() {
+		return fTypeInfos.clone();
+	}
+
+	/**
+	 * @param filter the filter, can be <code>null</code>
+	 * @return the types in the history that match the filter, newest first
+	 */
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
 		List<TypeNameMatch> result= new ArrayList<>();
-		for (TypeNameMatch type : getValues()) {
+		for (TypeNameMatch type : fTypeInfos) {
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
 				result.add(type);
 		}
-		Collections.reverse(result);
 		return result.toArray(new TypeNameMatch[result.size()]);
+	}
 
+	/**
+	 * Replaces the snapshot read by {@link #getTypeInfos()}, {@link #contains(TypeNameMatch)} and
+	 * friends. Must be called while holding the lock of the history after every modification.
+	 */
+	private void updateSnapshot() {
+		Collection<TypeNameMatch> values= getValues();
+		int size= values.size();
+		TypeNameMatch[] typeInfos= new TypeNameMatch[size];
+		int i= size - 1;
+		for (TypeNameMatch typeNameMatch : values) {
+			typeInfos[i]= typeNameMatch;
+			i--;
+		}
+		Set<TypeNameMatch> typeInfoSet= new HashSet<>(values);
+		// forget time stamps of elements that have been dropped from the history
+		fTimestampMapping.keySet().retainAll(typeInfoSet);
+		fTypeInfoSet= typeInfoSet;
+		fTypeInfos= typeInfos;
 	}
 
 	@Override
@@ -293,12 +355,13 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		// Changes reported after this point require another check.
+		int stamp= fInconsistencyStamp.get();
+		// The types are validated without holding the lock of the history, only
+		// remove(..) and replace(..) acquire it.
+		TypeNameMatch[] typesToCheck= fTypeInfos;
+		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.length);
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
 		for (TypeNameMatch type : typesToCheck) {
 			long currentTimestamp= getContainerTimestamp(type);
@@ -326,7 +389,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 			monitor.worked(1);
 		}
 		monitor.done();
-		fNeedsConsistencyCheck= false;
+		fCheckedStamp.accumulateAndGet(stamp, Math::max);
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,17 @@
 package org.eclipse.jdt.internal.ui.callhierarchy;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.operation.IRunnableContext;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -32,6 +39,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
@@ -399,7 +407,7 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
      */
     @Override
 	public void dispose() {
-        // Nothing to dispose
+        Job.getJobManager().cancel(this);
     }
 
     /**
@@ -456,12 +464,86 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
         	for (MethodWrapper wrapper : wrappers) {
         		fManager.cancel(wrapper);
         	}
+        	Job.getJobManager().cancel(this);
             if (fPart != null) {
                 fPart.setCancelEnabled(false);
             }
         }
     }
 
+    /**
+     * Searches the callers of the given calls in the background, up to
+     * {@link CallHierarchyUI#getPrecomputeLevels()} levels deep, if enabled.
+     *
+     * @param calls the calls that have just been fetched
+     * @since 3.35
+     */
+    void precomputeCallers(Object[] calls) {
+    	int levels= CallHierarchyUI.getDefault().getPrecomputeLevels();
+    	if (levels <= 0 || calls == null)
+    		return;
+    	List<MethodWrapper> callers= new ArrayList<>(calls.length);
+    	for (Object call : calls) {
+    		if (call instanceof CallerMethodWrapper caller && caller.canHaveChildren() && !caller.isRecursive()) {
+    			// search with detached wrappers, the wrappers in the viewer are only accessed by the viewer's jobs
+    			CallerMethodWrapper detached= new CallerMethodWrapper(null, new MethodCall(caller.getMember()));
+    			detached.setFieldSearchMode(caller.getFieldSearchMode());
+    			callers.add(detached);
+    		}
+    	}
+    	if (callers.isEmpty())
+    		return;
+    	Job job= new Job(CallHierarchyMessages.CallHierarchyContentProvider_precomputeJob_name) {
+    		@Override
+    		protected IStatus run(IProgressMonitor monitor) {
+    			// each search begins a task, so only cancellation is forwarded to the job's monitor
+    			IProgressMonitor searchMonitor= new NullProgressMonitor() {
+    				@Override
+    				public boolean isCanceled() {
+    					return monitor.isCanceled();
+    				}
+    			};
+    			try {
+    				JavaCore.runReadOnly(() -> precomputeCallers(callers, levels, searchMonitor));
+    			} catch (OperationCanceledException e) {
+    				return Status.CANCEL_STATUS;
+    			}
+    			return Status.OK_STATUS;
+    		}
+
+    		@Override
+    		public boolean belongsTo(Object family) {
+    			return family == CallHierarchyContentProvider.this;
+    		}
+    	};
+    	job.setSystem(true);
+    	job.setPriority(Job.DECORATE);
+    	job.schedule();
+    }
+
+    private static void precomputeCallers(List<MethodWrapper> callers, int levels, IProgressMonitor monitor) {
+    	// siblings are searched together, the remaining callers one by one
+    	List<CallerMethodWrapper> siblings= new ArrayList<>(callers.size());
+    	for (MethodWrapper caller : callers) {
+    		if (caller instanceof CallerMethodWrapper sibling)
+    			siblings.add(sibling);
+    	}
+    	CallerMethodWrapper.searchCallers(siblings, monitor);
+    	for (MethodWrapper caller : callers) {
+    		if (monitor.isCanceled())
+    			throw new OperationCanceledException();
+    		MethodWrapper[] calls= caller.getCalls(monitor);
+    		if (levels > 1) {
+    			List<MethodWrapper> next= new ArrayList<>(calls.length);
+    			for (MethodWrapper call : calls) {
+    				if (call.canHaveChildren() && !call.isRecursive())
+    					next.add(call);
+    			}
+    			precomputeCallers(next, levels - 1, monitor);
+    		}
+    	}
+    }
+
     public void doneFetching() {
         if (fPart != null) {
             fPart.setCancelEnabled(false);
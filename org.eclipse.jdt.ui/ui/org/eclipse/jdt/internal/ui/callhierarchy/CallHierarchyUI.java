@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,8 @@ import org.eclipse.jdt.internal.ui.util.ExceptionHandler;
 public class CallHierarchyUI {
     private static final int DEFAULT_MAX_CALL_DEPTH= 10;
     private static final String PREF_MAX_CALL_DEPTH = "PREF_MAX_CALL_DEPTH"; //$NON-NLS-1$
+    static final int MAX_PRECOMPUTE_LEVELS= 3;
+    private static final String PREF_PRECOMPUTE_LEVELS= "PREF_PRECOMPUTE_LEVELS"; //$NON-NLS-1$
 
     private static CallHierarchyUI fgInstance;
     private int fViewCount= 0;
@@ -106,6 +108,34 @@ public class CallHierarchyUI {
         settings.setValue(PREF_MAX_CALL_DEPTH, maxCallDepth);
     }
 
+    /**
+     * Returns the number of levels below expanded callers whose callers are searched in the
+     * background, so that expanding them later is answered from the search cache.
+     *
+     * @return the number of levels, 0 if disabled
+     * @since 3.35
+     */
+    public int getPrecomputeLevels() {
+        IPreferenceStore settings= JavaPlugin.getDefault().getPreferenceStore();
+        int levels= settings.getInt(PREF_PRECOMPUTE_LEVELS);
+        if (levels < 0 || levels > MAX_PRECOMPUTE_LEVELS) {
+            levels= 0;
+        }
+        return levels;
+    }
+
+    /**
+     * Sets the number of levels below expanded callers whose callers are searched in the
+     * background.
+     *
+     * @param levels the number of levels, 0 to disable
+     * @since 3.35
+     */
+    public void setPrecomputeLevels(int levels) {
+        IPreferenceStore settings= JavaPlugin.getDefault().getPreferenceStore();
+        settings.setValue(PREF_PRECOMPUTE_LEVELS, levels);
+    }
+
     public static void jumpToMember(IJavaElement element) {
         if (element != null) {
             try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,8 +77,10 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
     	final DeferredMethodWrapper deferredMethodWrapper= (DeferredMethodWrapper)object;
     	try {
             fProvider.startFetching();
-            JavaCore.runReadOnly(() -> collector.add((Object[]) deferredMethodWrapper.getCalls(monitor), monitor));
+            Object[] calls= JavaCore.callReadOnly(() -> (Object[]) deferredMethodWrapper.getCalls(monitor));
+            collector.add(calls, monitor);
             collector.done();
+            fProvider.precomputeCallers(calls);
         } catch (OperationCanceledException e) {
         	final MethodWrapper methodWrapper= deferredMethodWrapper.getMethodWrapper();
 			if (!CallHierarchyContentProvider.isExpandWithConstructors(methodWrapper)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ class FiltersDialog extends StatusDialog {
     private Button fFilterOnNames;
     private Text fNames;
     private Text fMaxCallDepth;
+    private Text fPrecomputeLevels;
     private Button fShowAll;
     private Button fHideTest;
     private Button fShowTest;
@@ -93,6 +94,19 @@ class FiltersDialog extends StatusDialog {
         GridData gridData = new GridData();
         gridData.widthHint = convertWidthInCharsToPixels(10);
         fMaxCallDepth.setLayoutData(gridData);
+
+        label= new Label(composite, SWT.NONE);
+        label.setFont(composite.getFont());
+        label.setText(CallHierarchyMessages.FiltersDialog_precomputeLevels);
+
+        fPrecomputeLevels= new Text(composite, SWT.SINGLE | SWT.BORDER);
+        fPrecomputeLevels.setFont(composite.getFont());
+        fPrecomputeLevels.setTextLimit(6);
+        fPrecomputeLevels.addModifyListener(e -> validateInput());
+
+        gridData= new GridData();
+        gridData.widthHint= convertWidthInCharsToPixels(10);
+        fPrecomputeLevels.setLayoutData(gridData);
     }
 
     private void createNamesArea(Composite parent) {
@@ -188,6 +202,9 @@ class FiltersDialog extends StatusDialog {
 		int maxCallDepth= Integer.parseInt(this.fMaxCallDepth.getText());
 
 		CallHierarchyUI.getDefault().setMaxCallDepth(maxCallDepth);
+		if (isPrecomputeLevelsValid()) {
+			CallHierarchyUI.getDefault().setPrecomputeLevels(Integer.parseInt(fPrecomputeLevels.getText()));
+		}
 		CallHierarchy.getDefault().setFilters(fNames.getText());
 		CallHierarchy.getDefault().setFilterEnabled(fFilterOnNames.getSelection());
 
@@ -201,6 +218,7 @@ class FiltersDialog extends StatusDialog {
 	 */
 	private void updateUIFromFilter() {
 		fMaxCallDepth.setText(String.valueOf(CallHierarchyUI.getDefault().getMaxCallDepth()));
+		fPrecomputeLevels.setText(String.valueOf(CallHierarchyUI.getDefault().getPrecomputeLevels()));
 		fNames.setText(CallHierarchy.getDefault().getFilters());
 		fFilterOnNames.setSelection(CallHierarchy.getDefault().isFilterEnabled());
 
@@ -243,10 +261,21 @@ class FiltersDialog extends StatusDialog {
         }
     }
 
+    private boolean isPrecomputeLevelsValid() {
+        try {
+            int levels= Integer.parseInt(fPrecomputeLevels.getText());
+            return levels >= 0 && levels <= CallHierarchyUI.MAX_PRECOMPUTE_LEVELS;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     private void validateInput() {
         StatusInfo status= new StatusInfo();
         if (!isMaxCallDepthValid()) {
             status.setError(CallHierarchyMessages.FiltersDialog_messageMaxCallDepthInvalid);
+        } else if (!isPrecomputeLevelsValid()) {
+            status.setError(CallHierarchyMessages.FiltersDialog_messagePrecomputeLevelsInvalid);
         }
         updateStatus(status);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
@@ -469,10 +470,17 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	@Override
 	protected void fillContentProvider(AbstractContentProvider provider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
 		TypeItemsFilter typeSearchFilter= (TypeItemsFilter) itemsFilter;
+		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
+
+		List<TypeNameMatch> candidates= TypeNameIndex.getDefault().getCandidates(typeSearchFilter.getNamePattern(), typeSearchFilter.getMatchRule(), progressMonitor);
+		if (candidates != null) {
+			fillContentProviderFromIndex(provider, typeSearchFilter, candidates, progressMonitor);
+			return;
+		}
+
 		TypeSearchRequestor requestor= new TypeSearchRequestor(provider, typeSearchFilter);
 		SearchEngine engine= new SearchEngine((WorkingCopyOwner) null);
 		String packPattern= typeSearchFilter.getPackagePattern();
-		progressMonitor.setTaskName(JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName);
 
 		/*
 		 * Setting the filter into match everything mode avoids filtering twice
@@ -500,6 +508,25 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		}
 	}
 
+	/**
+	 * Adds the types of the type name index which match the filter to the content provider.
+	 *
+	 * @param provider the content provider
+	 * @param typeSearchFilter the filter
+	 * @param candidates the types which may match the name pattern of the filter
+	 * @param progressMonitor the progress monitor
+	 */
+	private void fillContentProviderFromIndex(AbstractContentProvider provider, TypeItemsFilter typeSearchFilter, List<TypeNameMatch> candidates, IProgressMonitor progressMonitor) {
+		for (int i= 0; i < candidates.size(); i++) {
+			if (i % 1000 == 0 && progressMonitor.isCanceled())
+				throw new OperationCanceledException();
+			TypeNameMatch match= candidates.get(i);
+			// checks the name, package, element kind, scope and filter extension like for history elements
+			if (!TypeFilter.isFiltered(match))
+				provider.add(match, typeSearchFilter);
+		}
+	}
+
 	@Override
 	protected Comparator getItemsComparator() {
 		return fTypeItemsComparator;
@@ -570,6 +597,10 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 			return fgFirstTime || history.isEmpty() || history.needConsistencyCheck();
 		}
 		private void refreshSearchIndices(IProgressMonitor monitor) throws InvocationTargetException {
+			if (TypeNameIndex.getDefault().isAvailable()) {
+				// the type name index waited for the search indexes when it was built
+				return;
+			}
 			try {
 				new SearchEngine().searchAllTypeNames(
 						null,
@@ -0,0 +1,474 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.dialogs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.CompilationUnitDeltas;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
+
+/**
+ * Keeps the names of all types in the workspace in memory across invocations of the
+ * {@link FilteredTypesSelectionDialog}, so that a new pattern is matched against the types locally
+ * instead of searching the indexes of the search engine again.
+ * <p>
+ * The types are grouped by the first character of their simple name and sorted by their simple
+ * name, ignoring case. Exact, prefix and pattern matches are narrowed to the range of types
+ * starting with the literal prefix of the pattern, camel case matches to the types starting with
+ * its first character. The candidates are returned in the order of their names, so the dialog
+ * sorts an almost sorted list instead of ranking all types of the workspace.
+ * </p>
+ * <p>
+ * The index is built in the background on first use. Changed compilation units and packages are
+ * updated the next time the index is used, including unsaved changes in primary working copies.
+ * Changes of classpaths, archives or class files, and more than {@value #MAX_PENDING_CHANGES}
+ * pending changes, cause a rebuild. The dialog searches with the search engine as long as the
+ * index is not up to date.
+ * </p>
+ * <p>
+ * The index is disabled for the session if the workspace contains more than {@value #MAX_TYPES}
+ * types.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class TypeNameIndex implements IElementChangedListener {
+
+	private static final int MAX_TYPES= 1000000;
+
+	private static final int MAX_PENDING_CHANGES= 1000;
+
+	private static TypeNameIndex fgInstance;
+
+	/**
+	 * The indexed types by the folded first character of their name, sorted by their name ignoring
+	 * case, <code>null</code> if not built
+	 */
+	private Map<Character, List<TypeNameMatch>> fBuckets;
+
+	/** The indexed source types by their primary compilation unit */
+	private Map<ICompilationUnit, List<TypeNameMatch>> fUnits;
+
+	/** The changed compilation units and packages, not yet applied to the index */
+	private final Set<IJavaElement> fPendingChanges= new LinkedHashSet<>();
+
+	/** Increased whenever a built index is installed */
+	private int fBuildCount;
+
+	/** <code>true</code> if the index must be built again, also while it is being built */
+	private boolean fStale= true;
+
+	/** Increased whenever the index becomes stale, a build started before is discarded */
+	private int fStaleCount;
+
+	/** <code>true</code> while the index is being built */
+	private boolean fBuilding;
+
+	/** <code>true</code> if the workspace contains too many types to be indexed */
+	private boolean fDisabled;
+
+	private final Job fBuildJob= new Job(JavaUIMessages.FilteredTypesSelectionDialog_indexJob_name) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				build(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				JavaPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private TypeNameIndex() {
+		fBuildJob.setSystem(true);
+		fBuildJob.setPriority(Job.LONG);
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the shared type name index.
+	 *
+	 * @return the shared type name index
+	 */
+	public static synchronized TypeNameIndex getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new TypeNameIndex();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * @return <code>true</code> if the index has been built and no rebuild is needed
+	 */
+	public synchronized boolean isAvailable() {
+		return !fStale && !fDisabled && fBuckets != null;
+	}
+
+	/**
+	 * Returns the types which may match the given name pattern. The index is built in the
+	 * background if it is not available.
+	 *
+	 * @param namePattern the pattern of the simple type name, as returned by
+	 *            {@link org.eclipse.jdt.internal.ui.util.PatternMatcher#getPattern()}
+	 * @param matchKind the match kind of the pattern, as returned by
+	 *            {@link org.eclipse.jdt.internal.ui.util.PatternMatcher#getMatchKind()}
+	 * @param monitor the progress monitor
+	 * @return a superset of the types matching the pattern, or <code>null</code> if the index is
+	 *         not available
+	 * @throws OperationCanceledException if the monitor has been cancelled
+	 */
+	public List<TypeNameMatch> getCandidates(String namePattern, int matchKind, IProgressMonitor monitor) {
+		List<IJavaElement> pending;
+		int buildCount;
+		synchronized (this) {
+			if (!isAvailable()) {
+				if (!fDisabled) {
+					fBuildJob.schedule();
+				}
+				return null;
+			}
+			pending= new ArrayList<>(fPendingChanges);
+			fPendingChanges.clear();
+			buildCount= fBuildCount;
+		}
+
+		Map<IJavaElement, List<TypeNameMatch>> updates= new LinkedHashMap<>();
+		for (int i= 0; i < pending.size(); i++) {
+			if (monitor.isCanceled()) {
+				synchronized (this) {
+					fPendingChanges.addAll(pending.subList(i, pending.size()));
+				}
+				throw new OperationCanceledException();
+			}
+			IJavaElement element= pending.get(i);
+			updates.put(element, getTypes(element));
+		}
+
+		String prefix= getPrefix(namePattern, matchKind);
+		synchronized (this) {
+			if (!isAvailable()) {
+				return null;
+			}
+			// a newly built index already contains the changes
+			if (buildCount == fBuildCount) {
+				applyUpdates(updates);
+			}
+
+			if (prefix.isEmpty()) {
+				List<TypeNameMatch> candidates= new ArrayList<>();
+				for (List<TypeNameMatch> bucket : new TreeMap<>(fBuckets).values()) {
+					candidates.addAll(bucket);
+				}
+				return candidates;
+			}
+			List<TypeNameMatch> bucket= fBuckets.get(Character.valueOf(fold(prefix.charAt(0))));
+			if (bucket == null) {
+				return new ArrayList<>();
+			}
+			if (prefix.length() == 1) {
+				return new ArrayList<>(bucket);
+			}
+			int start= indexOf(bucket, prefix);
+			int end= start;
+			while (end < bucket.size() && startsWithFolded(bucket.get(end).getSimpleTypeName(), prefix)) {
+				end++;
+			}
+			return new ArrayList<>(bucket.subList(start, end));
+		}
+	}
+
+	private void applyUpdates(Map<IJavaElement, List<TypeNameMatch>> updates) {
+		for (Map.Entry<IJavaElement, List<TypeNameMatch>> entry : updates.entrySet()) {
+			IJavaElement element= entry.getKey();
+			if (element instanceof IPackageFragment) {
+				for (Iterator<Map.Entry<ICompilationUnit, List<TypeNameMatch>>> iter= fUnits.entrySet().iterator(); iter.hasNext();) {
+					Map.Entry<ICompilationUnit, List<TypeNameMatch>> unit= iter.next();
+					if (element.equals(unit.getKey().getParent())) {
+						removeFromBuckets(unit.getValue());
+						iter.remove();
+					}
+				}
+			} else {
+				removeFromBuckets(fUnits.remove(element));
+			}
+			for (TypeNameMatch match : entry.getValue()) {
+				List<TypeNameMatch> bucket= add(match, fBuckets, fUnits);
+				if (bucket != null) {
+					// keep the bucket sorted
+					bucket.remove(bucket.size() - 1);
+					bucket.add(indexOf(bucket, match.getSimpleTypeName()), match);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the first type in the given bucket whose name is not less than the given
+	 * name, ignoring case.
+	 *
+	 * @param bucket the sorted bucket
+	 * @param name the name or prefix
+	 * @return the index, the size of the bucket if all names are less than the given name
+	 */
+	private static int indexOf(List<TypeNameMatch> bucket, String name) {
+		int low= 0;
+		int high= bucket.size();
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (bucket.get(mid).getSimpleTypeName().compareToIgnoreCase(name) < 0) {
+				low= mid + 1;
+			} else {
+				high= mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the prefix all names matching the given pattern start with, ignoring case.
+	 *
+	 * @param namePattern the pattern
+	 * @param matchKind the match kind of the pattern
+	 * @return the prefix, can be empty
+	 */
+	private static String getPrefix(String namePattern, int matchKind) {
+		switch (matchKind) {
+			case SearchPattern.R_PATTERN_MATCH:
+				int end= 0;
+				while (end < namePattern.length() && "*?\\".indexOf(namePattern.charAt(end)) == -1) { //$NON-NLS-1$
+					end++;
+				}
+				return namePattern.substring(0, end);
+			case SearchPattern.R_CAMELCASE_MATCH:
+			case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH:
+				return namePattern.isEmpty() ? namePattern : namePattern.substring(0, 1);
+			default:
+				// exact and prefix matches
+				return namePattern;
+		}
+	}
+
+	private static char fold(char ch) {
+		return Character.toLowerCase(Character.toUpperCase(ch));
+	}
+
+	private static boolean startsWithFolded(String name, String prefix) {
+		if (name.length() < prefix.length())
+			return false;
+		for (int i= 0; i < prefix.length(); i++) {
+			if (fold(name.charAt(i)) != fold(prefix.charAt(i)))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Appends the given type to its bucket and to the types of its compilation unit.
+	 *
+	 * @param match the type
+	 * @param buckets the buckets
+	 * @param units the types by their primary compilation unit
+	 * @return the bucket the type was appended to, <code>null</code> if the type has no name
+	 */
+	private static List<TypeNameMatch> add(TypeNameMatch match, Map<Character, List<TypeNameMatch>> buckets, Map<ICompilationUnit, List<TypeNameMatch>> units) {
+		String name= match.getSimpleTypeName();
+		if (name.isEmpty())
+			return null;
+		List<TypeNameMatch> bucket= buckets.computeIfAbsent(Character.valueOf(fold(name.charAt(0))), c -> new ArrayList<>());
+		bucket.add(match);
+		ICompilationUnit cu= match.getType().getCompilationUnit();
+		if (cu != null) {
+			units.computeIfAbsent(cu.getPrimary(), unit -> new ArrayList<>(1)).add(match);
+		}
+		return bucket;
+	}
+
+	private void removeFromBuckets(List<TypeNameMatch> matches) {
+		if (matches == null)
+			return;
+		for (TypeNameMatch match : matches) {
+			String name= match.getSimpleTypeName();
+			List<TypeNameMatch> bucket= fBuckets.get(Character.valueOf(fold(name.charAt(0))));
+			if (bucket == null)
+				continue;
+			for (int i= indexOf(bucket, name); i < bucket.size() && bucket.get(i).getSimpleTypeName().equalsIgnoreCase(name); i++) {
+				if (bucket.get(i) == match) {
+					bucket.remove(i);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the types currently declared in the given compilation unit or package.
+	 *
+	 * @param element a primary compilation unit or a package fragment in a source folder
+	 * @return the types, empty if the element does not exist anymore
+	 */
+	private static List<TypeNameMatch> getTypes(IJavaElement element) {
+		List<TypeNameMatch> result= new ArrayList<>();
+		try {
+			if (!element.exists())
+				return result;
+			ICompilationUnit[] units= element instanceof IPackageFragment pack
+					? pack.getCompilationUnits()
+					: new ICompilationUnit[] { (ICompilationUnit) element };
+			for (ICompilationUnit cu : units) {
+				for (IType type : cu.getAllTypes()) {
+					result.add(SearchEngine.createTypeNameMatch(type, type.getFlags()));
+				}
+			}
+		} catch (JavaModelException e) {
+			// removed concurrently or not on the build path, the types are not visible to the search engine either
+		}
+		return result;
+	}
+
+	/**
+	 * Builds the index if it is stale. The index stays unavailable until the new index is installed.
+	 * Compilation units and packages changed during the build are applied to the new index the next
+	 * time it is used, changes which need a rebuild discard the new index.
+	 *
+	 * @param monitor the progress monitor
+	 * @throws JavaModelException if the search fails
+	 * @throws OperationCanceledException if the monitor has been cancelled
+	 */
+	public void build(IProgressMonitor monitor) throws JavaModelException {
+		int staleCount;
+		synchronized (this) {
+			if (fDisabled || !fStale || fBuilding)
+				return;
+			fBuilding= true;
+			fPendingChanges.clear();
+			staleCount= fStaleCount;
+		}
+		List<TypeNameMatch> matches= new ArrayList<>();
+		TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				if (matches.size() == MAX_TYPES)
+					throw new OperationCanceledException();
+				matches.add(match);
+			}
+		};
+		boolean done= false;
+		try {
+			new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH,
+					IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), requestor,
+					IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+			done= true;
+		} finally {
+			if (!done) {
+				synchronized (this) {
+					if (matches.size() == MAX_TYPES) {
+						fDisabled= true;
+					}
+					fBuilding= false;
+				}
+			}
+		}
+
+		Map<Character, List<TypeNameMatch>> buckets= new HashMap<>();
+		Map<ICompilationUnit, List<TypeNameMatch>> units= new HashMap<>();
+		for (TypeNameMatch match : matches) {
+			add(match, buckets, units);
+		}
+		for (List<TypeNameMatch> bucket : buckets.values()) {
+			bucket.sort((match1, match2) -> match1.getSimpleTypeName().compareToIgnoreCase(match2.getSimpleTypeName()));
+		}
+		synchronized (this) {
+			fBuilding= false;
+			if (staleCount != fStaleCount) {
+				// a change during the search needs another build
+				fPendingChanges.clear();
+				return;
+			}
+			// changes during the search are pending and applied to the new index
+			fBuckets= buckets;
+			fUnits= units;
+			fBuildCount++;
+			fStale= false;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (this) {
+			if (fDisabled || fStale && !fBuilding)
+				return;
+			if (!collectChanges(event.getDelta()) || fPendingChanges.size() > MAX_PENDING_CHANGES) {
+				fStale= true;
+				fStaleCount++;
+				fPendingChanges.clear();
+			}
+		}
+	}
+
+	/**
+	 * Adds the compilation units and packages changed by the given delta to the pending changes.
+	 *
+	 * @param delta the Java element delta
+	 * @return <code>false</code> if the index must be built again
+	 */
+	private boolean collectChanges(IJavaElementDelta delta) {
+		return CompilationUnitDeltas.visit(delta, changed -> {
+			IJavaElement element= changed.getElement();
+			if (element instanceof ICompilationUnit cu) {
+				// types in working copies of other owners are not shown
+				if (cu.getOwner() == null) {
+					fPendingChanges.add(cu.getPrimary());
+				}
+			} else {
+				// added or removed package in a source folder
+				fPendingChanges.add(element);
+			}
+			return true;
+		});
+	}
+}
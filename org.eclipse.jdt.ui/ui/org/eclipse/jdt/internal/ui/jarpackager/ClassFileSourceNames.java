@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Remembers the source file attribute of the class files read during one export operation, so
+ * that the class files of an output folder are only read once, even if the folder is visited
+ * again for other elements or for other JARs exported by the same operation.
+ * <p>
+ * An entry is valid as long as the modification stamp and the local time stamp of the class file
+ * are unchanged, since the projects may be built between the JARs of an operation.
+ * </p>
+ *
+ * @since 3.35
+ */
+final class ClassFileSourceNames {
+
+	private record Entry(long modificationStamp, long localTimeStamp, String sourceName) {
+	}
+
+	private final Map<IPath, Entry> fEntries= new HashMap<>();
+
+	/**
+	 * Returns the remembered source file name of the given class file.
+	 *
+	 * @param classFile the class file
+	 * @return the name of the source file, or <code>null</code> if not known or the class file has
+	 *         changed
+	 */
+	String get(IFile classFile) {
+		Entry entry= fEntries.get(classFile.getFullPath());
+		if (entry == null
+				|| entry.modificationStamp() != classFile.getModificationStamp()
+				|| entry.localTimeStamp() != classFile.getLocalTimeStamp())
+			return null;
+		return entry.sourceName();
+	}
+
+	/**
+	 * Remembers the source file name of the given class file.
+	 *
+	 * @param classFile the class file
+	 * @param sourceName the name of the source file
+	 */
+	void put(IFile classFile, String sourceName) {
+		fEntries.put(classFile.getFullPath(), new Entry(classFile.getModificationStamp(), classFile.getLocalTimeStamp(), sourceName));
+	}
+}
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Index of the entries of an uncompressed JAR exported incrementally, so that exporting the same
+ * JAR again copies the entries of unchanged files from the previous JAR instead of reading the
+ * files from the workspace and computing their CRC.
+ * <p>
+ * For every entry written from a workspace file, the index records the file with its modification
+ * stamp and local time stamp, and the size and CRC of the entry. The index is kept in the state
+ * location of the plug-in and is only used if the previous JAR has not been modified since it was
+ * written. The indexes of the {@value #MAX_INDEXES} most recently exported JARs are kept.
+ * </p>
+ * <p>
+ * The previous JAR is read in place while the new JAR is written to a temporary file, which
+ * replaces the previous JAR once it has been written completely. If the export fails, the previous
+ * JAR is left unchanged.
+ * </p>
+ * <p>
+ * Compressed JARs are not indexed: <code>java.util.zip</code> only reads the inflated data of an
+ * entry, so copying a deflated entry would cost as much as compressing the file again.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class JarExportIndex {
+
+	private static final int VERSION= 1;
+
+	private static final String STORE_LOCATION= "jarExportIndex"; //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION= ".index"; //$NON-NLS-1$
+
+	private static final int MAX_INDEXES= 32;
+
+	private record Entry(String sourcePath, long modificationStamp, long localTimeStamp, long size, long crc) {
+	}
+
+	private final File fJarFile;
+
+	private final File fIndexFile;
+
+	/** The entries of the previous JAR, empty if it cannot be reused */
+	private final Map<String, Entry> fPreviousEntries;
+
+	/** The entries written to the new JAR */
+	private final Map<String, Entry> fEntries= new HashMap<>();
+
+	/** The file the new JAR is written to, the JAR itself if the previous JAR is not reused */
+	private File fOutputFile;
+
+	/** The previous JAR, <code>null</code> if not reused */
+	private ZipFile fPreviousJar;
+
+	private JarExportIndex(File jarFile, File indexFile, Map<String, Entry> previousEntries) {
+		fJarFile= jarFile;
+		fIndexFile= indexFile;
+		fPreviousEntries= previousEntries;
+		fOutputFile= jarFile;
+	}
+
+	/**
+	 * Creates the index for exporting the given JAR. If the JAR has been exported before and has not
+	 * been modified since, unchanged entries are copied from it and the new JAR is written to the
+	 * file returned by {@link #getOutputFile()}. Must be called before the JAR is opened for
+	 * writing.
+	 *
+	 * @param jarFile the JAR to export
+	 * @return the index, or <code>null</code> if no index can be kept
+	 */
+	public static JarExportIndex open(File jarFile) {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		if (plugin == null)
+			return null;
+		File directory= plugin.getStateLocation().append(STORE_LOCATION).toFile();
+		File indexFile= new File(directory, Integer.toHexString(jarFile.getAbsolutePath().hashCode()) + INDEX_EXTENSION);
+		Map<String, Entry> previousEntries= read(indexFile, jarFile);
+		JarExportIndex index= new JarExportIndex(jarFile, indexFile, previousEntries);
+		if (!previousEntries.isEmpty()) {
+			index.openPreviousJar();
+		}
+		return index;
+	}
+
+	private void openPreviousJar() {
+		try {
+			fPreviousJar= new ZipFile(fJarFile);
+			fOutputFile= File.createTempFile(fJarFile.getName(), ".tmp", fJarFile.getParentFile()); //$NON-NLS-1$
+			fOutputFile.deleteOnExit();
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			closePreviousJar();
+			fOutputFile= fJarFile;
+			fPreviousEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns the file to write the new JAR to.
+	 *
+	 * @return a temporary file if the previous JAR is reused, otherwise the JAR itself
+	 */
+	public File getOutputFile() {
+		return fOutputFile;
+	}
+
+	/**
+	 * Returns the entry of the previous JAR which was written from the given file, if the file has
+	 * not changed since.
+	 *
+	 * @param name the name of the entry
+	 * @param file the file to write
+	 * @param modificationStamp the modification stamp of the file
+	 * @param localTimeStamp the local time stamp of the file
+	 * @return the stored entry of the previous JAR, or <code>null</code> if the entry cannot be
+	 *         reused
+	 */
+	public ZipEntry findUnchanged(String name, IFile file, long modificationStamp, long localTimeStamp) {
+		Entry entry= fPreviousEntries.get(name);
+		if (fPreviousJar == null || entry == null
+				|| entry.modificationStamp() != modificationStamp
+				|| entry.localTimeStamp() != localTimeStamp
+				|| !entry.sourcePath().equals(file.getFullPath().toString()))
+			return null;
+		ZipEntry zipEntry= fPreviousJar.getEntry(name);
+		if (zipEntry == null
+				|| zipEntry.getMethod() != ZipEntry.STORED
+				|| zipEntry.getSize() != entry.size()
+				|| zipEntry.getCrc() != entry.crc())
+			return null;
+		return zipEntry;
+	}
+
+	/**
+	 * Returns the content of an entry returned by
+	 * {@link #findUnchanged(String, IFile, long, long)}.
+	 *
+	 * @param entry the entry of the previous JAR
+	 * @return the content, which is not compressed
+	 * @throws IOException if reading the previous JAR fails
+	 */
+	public InputStream getInputStream(ZipEntry entry) throws IOException {
+		return fPreviousJar.getInputStream(entry);
+	}
+
+	/**
+	 * Records an entry written to the new JAR.
+	 *
+	 * @param name the name of the entry
+	 * @param file the file from which the entry was written
+	 * @param modificationStamp the modification stamp of the file when it was read
+	 * @param localTimeStamp the local time stamp of the file when it was read
+	 * @param size the size of the entry
+	 * @param crc the CRC of the entry
+	 */
+	public void add(String name, IFile file, long modificationStamp, long localTimeStamp, long size, long crc) {
+		fEntries.put(name, new Entry(file.getFullPath().toString(), modificationStamp, localTimeStamp, size, crc));
+	}
+
+	/**
+	 * Replaces the previous JAR with the new JAR and saves the index. Must be called after the new
+	 * JAR has been closed.
+	 *
+	 * @throws IOException if the previous JAR cannot be replaced, in which case it is left unchanged
+	 */
+	public void commit() throws IOException {
+		closePreviousJar();
+		if (fOutputFile != fJarFile) {
+			try {
+				Files.move(fOutputFile.toPath(), fJarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				fOutputFile.delete();
+				throw e;
+			}
+		}
+		if (!fEntries.isEmpty()) {
+			write();
+		}
+	}
+
+	/**
+	 * Discards the new JAR if it has been written to a temporary file, so that the previous JAR is
+	 * left unchanged.
+	 */
+	public void abort() {
+		closePreviousJar();
+		if (fOutputFile != fJarFile) {
+			fOutputFile.delete();
+		}
+	}
+
+	private void closePreviousJar() {
+		if (fPreviousJar != null) {
+			try {
+				fPreviousJar.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fPreviousJar= null;
+		}
+	}
+
+	private static Map<String, Entry> read(File indexFile, File jarFile) {
+		Map<String, Entry> entries= new HashMap<>();
+		if (!indexFile.isFile() || !jarFile.isFile())
+			return entries;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != VERSION
+					|| !in.readUTF().equals(jarFile.getAbsolutePath())
+					|| in.readLong() != jarFile.length()
+					|| in.readLong() != jarFile.lastModified())
+				return entries;
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				entries.put(in.readUTF(), new Entry(in.readUTF(), in.readLong(), in.readLong(), in.readLong(), in.readLong()));
+			}
+		} catch (IOException e) {
+			// a damaged index is not used
+			entries.clear();
+		}
+		return entries;
+	}
+
+	private void write() {
+		File directory= fIndexFile.getParentFile();
+		directory.mkdirs();
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fIndexFile)))) {
+			out.writeInt(VERSION);
+			out.writeUTF(fJarFile.getAbsolutePath());
+			out.writeLong(fJarFile.length());
+			out.writeLong(fJarFile.lastModified());
+			out.writeInt(fEntries.size());
+			for (Map.Entry<String, Entry> mapEntry : fEntries.entrySet()) {
+				Entry entry= mapEntry.getValue();
+				out.writeUTF(mapEntry.getKey());
+				out.writeUTF(entry.sourcePath());
+				out.writeLong(entry.modificationStamp());
+				out.writeLong(entry.localTimeStamp());
+				out.writeLong(entry.size());
+				out.writeLong(entry.crc());
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			fIndexFile.delete();
+			return;
+		}
+		prune(directory);
+	}
+
+	private static void prune(File directory) {
+		File[] indexes= directory.listFiles((dir, name) -> name.endsWith(INDEX_EXTENSION));
+		if (indexes == null || indexes.length <= MAX_INDEXES)
+			return;
+		Arrays.sort(indexes, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i= MAX_INDEXES; i < indexes.length; i++) {
+			indexes[i].delete();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -119,6 +119,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 	private Map<String, ArrayList<IResource>> fJavaNameToClassFilesMap;
 	private IContainer fClassFilesMapContainer;
 	private Set<IContainer> fExportedClassContainers;
+	private ClassFileSourceNames fClassFileSourceNames;
 	private MessageMultiStatus fStatus;
 	private StandardJavaElementContentProvider fJavaElementContentProvider;
 	private boolean fFilesSaved;
@@ -839,6 +840,12 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 		for (IResource member : members) {
 			if (isClassFile(member)) {
 				IFile classFile = (IFile) member;
+				// class files already read by this operation need not be read again
+				String knownJavaName= fClassFileSourceNames.get(classFile);
+				if (knownJavaName != null) {
+					map.computeIfAbsent(knownJavaName, k -> new ArrayList<>(3)).add(classFile);
+					continue;
+				}
 				URI location= classFile.getLocationURI();
 				if (location != null) {
 					try (InputStream contents= EFS.getStore(location).openInputStream(EFS.NONE, monitor)) {
@@ -862,6 +869,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 							return null;
 						}
 						String javaName= new String(sourceAttribute.getSourceFileName());
+						fClassFileSourceNames.put(classFile, javaName);
 						ArrayList<IResource> classFiles= map.get(javaName);
 						if (classFiles == null) {
 							classFiles= new ArrayList<>(3);
@@ -969,6 +977,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 	protected void execute(IProgressMonitor progressMonitor) throws InvocationTargetException, InterruptedException {
 		int count= fJarPackages.length;
 		progressMonitor.beginTask("", count); //$NON-NLS-1$
+		fClassFileSourceNames= new ClassFileSourceNames();
 		try {
 			for (int i= 0; i < count; i++) {
 				IProgressMonitor subProgressMonitor= Progress.subMonitorPrepend(progressMonitor, 1);
@@ -977,6 +986,7 @@ public class JarFileExportOperation extends WorkspaceModifyOperation implements
 					singleRun(subProgressMonitor);
 			}
 		} finally {
+			fClassFileSourceNames= null;
 			progressMonitor.done();
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -164,6 +164,7 @@ public class JarPackageReader extends Object implements IJarDescriptionReader {
 		if ("options".equals(element.getNodeName())) { //$NON-NLS-1$
 			jarPackage.setOverwrite(getBooleanAttribute(element, "overwrite")); //$NON-NLS-1$
 			jarPackage.setCompress(getBooleanAttribute(element, "compress")); //$NON-NLS-1$
+			jarPackage.setIncrementalExport(getBooleanAttribute(element, "incrementalExport", false)); //$NON-NLS-1$
 			jarPackage.setExportErrors(getBooleanAttribute(element, "exportErrors")); //$NON-NLS-1$
 			jarPackage.setExportWarnings(getBooleanAttribute(element, "exportWarnings")); //$NON-NLS-1$
 			jarPackage.setSaveDescription(getBooleanAttribute(element, "saveDescription")); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,6 @@ package org.eclipse.jdt.internal.ui.jarpackagerfat;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
@@ -94,6 +93,26 @@ public class JarWriter4 extends JarWriter3 {
 		jarOutputStream.write(content);
 	}
 
+	/**
+	 * Writes the given archive uncompressed, regardless of whether the jar is compressed. Archives
+	 * are already compressed, so deflating them again costs time without reducing the size. The
+	 * archive is streamed instead of being read into memory.
+	 *
+	 * @param archive the archive to write
+	 * @param path the path inside the jar
+	 * @throws IOException if an I/O error has occurred
+	 * @since 3.35
+	 */
+	public void addArchive(File archive, String path) throws IOException {
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		newEntry.setTime(archive.lastModified());
+		@SuppressWarnings("resource")
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		JarPackagerUtilCore.addFileEntry(newEntry, archive, false, jarOutputStream);
+	}
+
 	public void write(File file, IPath destinationPath) throws CoreException {
 		try {
 			addFile(file, destinationPath);
@@ -115,21 +134,10 @@ public class JarWriter4 extends JarWriter3 {
 			addDirectories(path);
 
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-
-		byte[] allBytes= Files.readAllBytes(file.toPath());
-		if (fJarPackage.isCompressed())
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		else {
-			newEntry.setMethod(ZipEntry.STORED);
-				JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
-		}
-
 		newEntry.setTime(file.lastModified());
 
 		@SuppressWarnings("resource")
 		JarOutputStream jarOutputStream= getJarOutputStream();
-		jarOutputStream.putNextEntry(newEntry);
-		jarOutputStream.write(allBytes);
+		JarPackagerUtilCore.addFileEntry(newEntry, file, fJarPackage.isCompressed(), jarOutputStream);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -239,6 +239,7 @@ import org.eclipse.jdt.internal.ui.text.JavaWordIterator;
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaExpandHover;
 import org.eclipse.jdt.internal.ui.text.java.hover.SourceViewerInformationControl;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
 import org.eclipse.jdt.internal.ui.util.ElementValidator;
 import org.eclipse.jdt.internal.ui.util.JavaUIHelp;
 import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
@@ -2583,6 +2584,9 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 		if (isShowingOverrideIndicators())
 			installOverrideIndicator(false);
+
+		// renders the Javadoc of the imported library types, each library is prewarmed once
+		JavadocContentCache.getDefault().prewarm(getInputJavaElement());
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
 
@@ -275,11 +276,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		protected void retainPositions(int offset, int length) {
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			int end= offset + length;
+			for (int i= computeIndexAtOffset(fRemovedPositions, offset), n= fRemovedPositions.size(); i < n; i++) {
 				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position != null && position.isContained(offset, length)) {
-					fRemovedPositions.set(i, null);
+				if (position.getOffset() > end)
+					break;
+				if (!fRetainedPositions.get(i) && position.isContained(offset, length)) {
+					fRetainedPositions.set(i);
 					fNOfRemovedPositions--;
 				}
 			}
@@ -316,14 +319,13 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void addPosition(int offset, int length, Highlighting highlighting) {
 		boolean isExisting= false;
-		// TODO: use binary search
-		for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+		for (int i= computeIndexAtOffset(fRemovedPositions, offset), n= fRemovedPositions.size(); i < n; i++) {
 			HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-			if (position == null)
-				continue;
-			if (position.isEqual(offset, length, highlighting)) {
+			if (position.getOffset() > offset)
+				break;
+			if (!fRetainedPositions.get(i) && position.isEqual(offset, length, highlighting)) {
 				isExisting= true;
-				fRemovedPositions.set(i, null);
+				fRetainedPositions.set(i);
 				fNOfRemovedPositions--;
 				break;
 			}
@@ -335,6 +337,32 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Returns the index of the first position with an offset equal or greater than the given offset.
+	 * <p>
+	 * The positions of the presenter are ordered by offset. Concurrent document changes only shift
+	 * them, so the order is kept while reconciling. If a matching position is missed nevertheless,
+	 * it is removed and added again, which gives the same presentation.
+	 * </p>
+	 *
+	 * @param positions the positions, must be ordered by offset
+	 * @param offset the offset
+	 * @return the index of the first position with an offset equal or greater than the given offset
+	 */
+	private static int computeIndexAtOffset(List<Position> positions, int offset) {
+		int i= -1;
+		int j= positions.size();
+		while (j - i > 1) {
+			int k= (i + j) >> 1;
+			Position position= positions.get(k);
+			if (position.getOffset() >= offset)
+				j= k;
+			else
+				i= k;
+		}
+		return j;
+	}
+
 	private static final String JAVA_EDITOR_SEMANTIC_TOKENS_EXTENSION_POINT= "org.eclipse.jdt.ui.semanticTokens"; //$NON-NLS-1$
 	private static final String ATTR_CLASS = "class"; //$NON-NLS-1$
 
@@ -360,6 +388,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private List<Position> fAddedPositions= new ArrayList<>();
 	/** Background job's removed highlighted positions */
 	private List<Position> fRemovedPositions= new ArrayList<>();
+	/**
+	 * Indices of the positions in {@link #fRemovedPositions} which are retained, i.e. not removed.
+	 * @since 3.35
+	 */
+	private final BitSet fRetainedPositions= new BitSet();
 	/** Number of removed positions */
 	private int fNOfRemovedPositions;
 
@@ -530,11 +563,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 		List<Position> oldPositions= fRemovedPositions;
 		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
-		for (Position current : oldPositions) {
-			if (current != null)
-				newPositions.add(current);
+		for (int i= fRetainedPositions.nextClearBit(0), n= oldPositions.size(); i < n; i= fRetainedPositions.nextClearBit(i + 1)) {
+			newPositions.add(oldPositions.get(i));
 		}
 		fRemovedPositions= newPositions;
+		fRetainedPositions.clear();
 	}
 
 	private Highlighting fromSemanticTokenType(ISemanticTokensProvider.TokenType type) {
@@ -681,6 +714,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void stopReconcilingPositions() {
 		fRemovedPositions.clear();
+		fRetainedPositions.clear();
 		fNOfRemovedPositions= 0;
 		fAddedPositions.clear();
 	}
@@ -0,0 +1,577 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor.codemining;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+
+import org.eclipse.jdt.internal.corext.util.CompilationUnitDeltas;
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
+/**
+ * Caches the reference and implementation counts shown by {@link JavaReferenceCodeMining} and
+ * {@link JavaImplementationCodeMining}, keyed by the handle identifier of the Java element.
+ * <p>
+ * The counts of all minings of one editor are computed through a {@link Batch}: the references of
+ * all elements are found with a single search for the OR-combination of their patterns, and the
+ * type hierarchies needed for the implementation counts are computed once per type.
+ * </p>
+ * <p>
+ * Changes of compilation units, including reconciled changes in working copies, are taken from the
+ * Java element deltas:
+ * </p>
+ * <ul>
+ * <li>the reference counts of the types and members changed in a unit are discarded.</li>
+ * <li>changed units, including changed method bodies, are remembered and scanned for identifiers
+ * when counts are requested next. The reference counts of the elements whose names occur a
+ * different number of times than at the previous scan are discarded. For a unit that was not
+ * scanned before, all names occurring in it are affected.</li>
+ * <li>the implementation counts are discarded when types or members are added, removed or changed
+ * in any unit, as they include indirect subtypes. Changed method bodies keep them.</li>
+ * </ul>
+ * <p>
+ * The cache is flushed on changes above compilation units, e.g. when the class path changes, and
+ * on changes of supertypes, which may change the elements references resolve to. At most
+ * {@value #MAX_SIZE} counts of each kind are kept, the least recently used are evicted.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class JavaCodeMiningCountCache {
+
+	/**
+	 * Computes a count that is not yet in the cache.
+	 */
+	@FunctionalInterface
+	interface ICountComputer {
+		long compute() throws CoreException;
+	}
+
+	/**
+	 * A cached count.
+	 *
+	 * @param name the name under which the element is referenced
+	 * @param count the count
+	 */
+	private record Count(String name, long count) {
+	}
+
+	private static final int MAX_SIZE= 2000;
+
+	private static final int MAX_SCANNED_UNITS= 100;
+
+	private static final JavaCodeMiningCountCache fgDefault= new JavaCodeMiningCountCache();
+
+	private final Map<String, Count> fReferenceCounts= new LRUMap<>(MAX_SIZE);
+
+	private final Map<String, Count> fImplementationCounts= new LRUMap<>(MAX_SIZE);
+
+	/**
+	 * The number of occurrences of each identifier in the recently scanned primary compilation
+	 * units, as of their last scan.
+	 */
+	private final Map<ICompilationUnit, Map<String, Integer>> fIdentifiers= new LRUMap<>(MAX_SCANNED_UNITS);
+
+	/**
+	 * The primary compilation units changed since they were last scanned.
+	 */
+	private final Set<ICompilationUnit> fChangedUnits= new LinkedHashSet<>();
+
+	/**
+	 * Incremented on every change, used to drop counts computed concurrently with a change.
+	 */
+	private final AtomicLong fGeneration= new AtomicLong();
+
+	private volatile boolean fIgnoreInaccurate;
+
+	private JavaCodeMiningCountCache() {
+		fIgnoreInaccurate= isIgnoreInaccurate();
+		JavaCore.addElementChangedListener(new IElementChangedListener() {
+			@Override
+			public void elementChanged(ElementChangedEvent event) {
+				update(event.getDelta());
+			}
+		});
+	}
+
+	/**
+	 * Returns the shared count cache.
+	 *
+	 * @return the shared count cache
+	 */
+	public static JavaCodeMiningCountCache getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Creates a batch computing the counts for the given elements, which must all belong to the
+	 * same type root.
+	 *
+	 * @param referenceElements the elements for which references will be counted
+	 * @return the new batch
+	 */
+	public Batch createBatch(List<IJavaElement> referenceElements) {
+		boolean ignoreInaccurate= isIgnoreInaccurate();
+		if (ignoreInaccurate != fIgnoreInaccurate) {
+			fIgnoreInaccurate= ignoreInaccurate;
+			flush();
+		}
+		return new Batch(referenceElements, ignoreInaccurate);
+	}
+
+	/**
+	 * Clears all cached counts.
+	 */
+	public synchronized void flush() {
+		fGeneration.incrementAndGet();
+		fReferenceCounts.clear();
+		fImplementationCounts.clear();
+		fIdentifiers.clear();
+		fChangedUnits.clear();
+	}
+
+	private static boolean isIgnoreInaccurate() {
+		return JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
+	}
+
+	/**
+	 * Returns a cached count.
+	 *
+	 * @param cache the reference or implementation counts
+	 * @param element the element
+	 * @return the count, or <code>null</code> if not cached
+	 */
+	private synchronized Long getCount(Map<String, Count> cache, IJavaElement element) {
+		scanChangedUnits();
+		Count count= cache.get(element.getHandleIdentifier());
+		return count == null ? null : Long.valueOf(count.count());
+	}
+
+	/**
+	 * Caches a count unless the cache changed since the count was computed.
+	 *
+	 * @param cache the reference or implementation counts
+	 * @param generation the generation when the computation of the count started
+	 * @param element the element
+	 * @param count the count
+	 */
+	private synchronized void putCount(Map<String, Count> cache, long generation, IJavaElement element, long count) {
+		if (generation == fGeneration.get()) {
+			cache.put(element.getHandleIdentifier(), new Count(element.getElementName(), count));
+		}
+	}
+
+	private long getCachedOrCompute(Map<String, Count> cache, long generation, IJavaElement element, ICountComputer computer) throws CoreException {
+		Long cached= getCount(cache, element);
+		if (cached != null) {
+			return cached.longValue();
+		}
+		long count= computer.compute();
+		putCount(cache, generation, element, count);
+		return count;
+	}
+
+	/**
+	 * Discards the counts affected by the given delta.
+	 *
+	 * @param delta the Java element delta
+	 */
+	private void update(IJavaElementDelta delta) {
+		Set<String> changedNames= new HashSet<>();
+		Set<ICompilationUnit> changedUnits= new LinkedHashSet<>();
+		Set<ICompilationUnit> removedUnits= new LinkedHashSet<>();
+		boolean[] structural= new boolean[1];
+		boolean known= CompilationUnitDeltas.visit(delta, unitDelta -> {
+			if (!(unitDelta.getElement() instanceof ICompilationUnit unit))
+				return false; // added or removed package
+			if (unit.getOwner() != null)
+				return true; // working copies of other owners are not searched
+			if (unitDelta.getKind() == IJavaElementDelta.REMOVED) {
+				removedUnits.add(unit.getPrimary());
+			} else if ((unitDelta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_PRIMARY_WORKING_COPY)) != 0
+					|| unitDelta.getKind() == IJavaElementDelta.ADDED) {
+				changedUnits.add(unit.getPrimary());
+			}
+			if (CompilationUnitDeltas.isStructuralChange(unitDelta)) {
+				structural[0]= true;
+			}
+			return collectChangedNames(unitDelta, changedNames);
+		});
+		if (!known) {
+			flush();
+			return;
+		}
+		if (changedUnits.isEmpty() && removedUnits.isEmpty() && !structural[0])
+			return;
+
+		synchronized (this) {
+			fGeneration.incrementAndGet();
+			if (structural[0]) {
+				fImplementationCounts.clear();
+			}
+			fReferenceCounts.values().removeIf(count -> changedNames.contains(count.name()));
+			for (ICompilationUnit unit : removedUnits) {
+				Map<String, Integer> identifiers= fIdentifiers.remove(unit);
+				if (identifiers == null) {
+					// references from the removed unit are unknown
+					fReferenceCounts.clear();
+				} else {
+					fReferenceCounts.values().removeIf(count -> identifiers.containsKey(count.name()));
+				}
+				fChangedUnits.remove(unit);
+			}
+			fChangedUnits.addAll(changedUnits);
+			if (fChangedUnits.size() > MAX_SCANNED_UNITS) {
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Collects the names of the types and members changed in the given delta.
+	 *
+	 * @param delta the delta of a compilation unit
+	 * @param names the set to add the names to
+	 * @return <code>false</code> if the supertypes of a type changed
+	 */
+	private static boolean collectChangedNames(IJavaElementDelta delta, Set<String> names) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if ((child.getFlags() & IJavaElementDelta.F_SUPER_TYPES) != 0)
+				return false;
+			IJavaElement element= child.getElement();
+			if (element instanceof IMember) {
+				names.add(element.getElementName());
+			}
+			if (!collectChangedNames(child, names))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Discards the reference counts of the elements whose names occur a different number of times
+	 * in the compilation units changed since their last scan.
+	 */
+	private void scanChangedUnits() {
+		for (ICompilationUnit unit : fChangedUnits) {
+			String source;
+			try {
+				source= unit.exists() ? unit.getSource() : null;
+			} catch (JavaModelException e) {
+				source= null;
+			}
+			Map<String, Integer> identifiers= getIdentifiers(source);
+			Map<String, Integer> previous= fIdentifiers.put(unit, identifiers);
+			fReferenceCounts.values().removeIf(count -> {
+				String name= count.name();
+				return previous == null
+						? identifiers.containsKey(name)
+						: !Objects.equals(identifiers.get(name), previous.get(name));
+			});
+		}
+		fChangedUnits.clear();
+	}
+
+	private static Map<String, Integer> getIdentifiers(String source) {
+		Map<String, Integer> identifiers= new HashMap<>();
+		if (source == null)
+			return identifiers;
+		int length= source.length();
+		for (int i= 0; i < length; i++) {
+			if (Character.isJavaIdentifierStart(source.charAt(i))) {
+				int start= i;
+				while (i + 1 < length && Character.isJavaIdentifierPart(source.charAt(i + 1))) {
+					i++;
+				}
+				identifiers.merge(source.substring(start, i + 1), Integer.valueOf(1), Integer::sum);
+			}
+		}
+		return identifiers;
+	}
+
+	/**
+	 * Computes the counts of the code minings of one editor. Minings are resolved concurrently,
+	 * the first request triggers the batched reference search and all others reuse its result.
+	 */
+	public final class Batch {
+
+		private final List<IJavaElement> fReferenceElements;
+
+		private final boolean fIgnoreInaccurate;
+
+		private final long fGeneration;
+
+		private final Map<IType, ITypeHierarchy> fHierarchies= new HashMap<>();
+
+		private boolean fSearched;
+
+		private Batch(List<IJavaElement> referenceElements, boolean ignoreInaccurate) {
+			fReferenceElements= referenceElements;
+			fIgnoreInaccurate= ignoreInaccurate;
+			fGeneration= JavaCodeMiningCountCache.this.fGeneration.get();
+		}
+
+		/**
+		 * Returns the number of references to the given element.
+		 *
+		 * @param element the element
+		 * @param monitor the progress monitor
+		 * @return the number of references
+		 * @throws CoreException if the search fails
+		 */
+		public long getReferenceCount(IJavaElement element, IProgressMonitor monitor) throws CoreException {
+			if (element == null) {
+				return 0;
+			}
+			Long cached= getCount(fReferenceCounts, element);
+			if (cached != null) {
+				return cached.longValue();
+			}
+			synchronized (this) {
+				if (!fSearched) {
+					searchReferences(monitor);
+				}
+			}
+			return getCachedOrCompute(fReferenceCounts, fGeneration, element, () -> countReferences(element, monitor));
+		}
+
+		/**
+		 * Returns the number of implementations of the given element.
+		 *
+		 * @param element the element
+		 * @param computer computes the count if it is not cached
+		 * @return the number of implementations
+		 * @throws CoreException if the computation fails
+		 */
+		long getImplementationCount(IJavaElement element, ICountComputer computer) throws CoreException {
+			return getCachedOrCompute(fImplementationCounts, fGeneration, element, computer);
+		}
+
+		/**
+		 * Returns the type hierarchy of the given type, shared by all minings of this batch.
+		 *
+		 * @param type the type
+		 * @param monitor the progress monitor
+		 * @return the type hierarchy
+		 * @throws JavaModelException if the hierarchy cannot be computed
+		 */
+		synchronized ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+			ITypeHierarchy hierarchy= fHierarchies.get(type);
+			if (hierarchy == null) {
+				hierarchy= type.newTypeHierarchy(monitor);
+				fHierarchies.put(type, hierarchy);
+			}
+			return hierarchy;
+		}
+
+		private void searchReferences(IProgressMonitor monitor) throws CoreException {
+			Map<String, List<IJavaElement>> elementsByName= new HashMap<>();
+			Map<IJavaElement, SearchPattern> patterns= new LinkedHashMap<>();
+			for (IJavaElement element : fReferenceElements) {
+				if (getCount(fReferenceCounts, element) != null) {
+					continue;
+				}
+				SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+				if (pattern == null) {
+					continue;
+				}
+				patterns.put(element, pattern);
+				elementsByName.computeIfAbsent(element.getElementName(), k -> new ArrayList<>()).add(element);
+			}
+
+			// matches are attributed by the name found in the matched source range, so elements
+			// sharing a name (overloads, constructors) are searched individually
+			Map<String, IJavaElement> batched= new HashMap<>();
+			SearchPattern orPattern= null;
+			for (Map.Entry<String, List<IJavaElement>> entry : elementsByName.entrySet()) {
+				if (entry.getValue().size() == 1) {
+					IJavaElement element= entry.getValue().get(0);
+					batched.put(entry.getKey(), element);
+					SearchPattern pattern= patterns.get(element);
+					orPattern= orPattern == null ? pattern : SearchPattern.createOrPattern(orPattern, pattern);
+				}
+			}
+			if (batched.size() < 2) {
+				fSearched= true;
+				return;
+			}
+
+			Map<String, AtomicLong> counts= new HashMap<>();
+			for (String name : batched.keySet()) {
+				counts.put(name, new AtomicLong());
+			}
+			Set<String> ambiguous= new HashSet<>();
+			boolean[] unattributed= new boolean[1];
+			new SearchEngine().search(orPattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+					createSearchScope(batched.values().iterator().next()), new SearchRequestor() {
+
+						@Override
+						public void acceptSearchMatch(SearchMatch match) throws CoreException {
+							if (match.getAccuracy() == SearchMatch.A_INACCURATE && fIgnoreInaccurate) {
+								return;
+							}
+							Object o= match.getElement();
+							if (!(o instanceof IJavaElement)) {
+								return;
+							}
+							IJavaElement e= (IJavaElement) o;
+							if (e.getAncestor(IJavaElement.COMPILATION_UNIT) == null
+									&& e.getAncestor(IJavaElement.CLASS_FILE) == null) {
+								return;
+							}
+							Set<String> names= getMatchedNames(e, match, batched.keySet());
+							if (names == null) {
+								unattributed[0]= true;
+							} else if (names.size() == 1) {
+								counts.get(names.iterator().next()).incrementAndGet();
+							} else {
+								ambiguous.addAll(names);
+							}
+						}
+					}, monitor);
+
+			if (monitor != null && monitor.isCanceled()) {
+				return;
+			}
+			fSearched= true;
+			// counts that cannot be attributed reliably are left to the individual search
+			if (unattributed[0]) {
+				return;
+			}
+			for (Map.Entry<String, IJavaElement> entry : batched.entrySet()) {
+				if (!ambiguous.contains(entry.getKey())) {
+					putCount(fReferenceCounts, fGeneration, entry.getValue(), counts.get(entry.getKey()).get());
+				}
+			}
+		}
+
+		/**
+		 * Returns the names of the batched elements occurring as identifiers in the source range
+		 * of the given match.
+		 *
+		 * @param enclosing the element enclosing the match
+		 * @param match the search match
+		 * @param names the names of the batched elements
+		 * @return the names found in the matched range or <code>null</code> if the source of the
+		 *         match is not available
+		 * @throws JavaModelException if the buffer cannot be accessed
+		 */
+		private Set<String> getMatchedNames(IJavaElement enclosing, SearchMatch match, Set<String> names) throws JavaModelException {
+			IOpenable openable= enclosing.getOpenable();
+			IBuffer buffer= openable != null ? openable.getBuffer() : null;
+			int offset= match.getOffset();
+			int length= match.getLength();
+			if (buffer == null || offset < 0 || length <= 0 || offset + length > buffer.getLength()) {
+				return null;
+			}
+			String text= buffer.getText(offset, length);
+			Set<String> found= new HashSet<>();
+			int i= 0;
+			while (i < length) {
+				if (Character.isJavaIdentifierStart(text.charAt(i))) {
+					int start= i++;
+					while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+						i++;
+					}
+					String identifier= text.substring(start, i);
+					if (names.contains(identifier)) {
+						found.add(identifier);
+					}
+				} else {
+					i++;
+				}
+			}
+			return found.isEmpty() ? null : found;
+		}
+
+		private long countReferences(IJavaElement element, IProgressMonitor monitor) throws CoreException {
+			final AtomicLong count= new AtomicLong(0);
+			SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (pattern == null) {
+				return 0;
+			}
+			SearchEngine engine= new SearchEngine();
+			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+					createSearchScope(element), new SearchRequestor() {
+
+						@Override
+						public void acceptSearchMatch(SearchMatch match) throws CoreException {
+							if (match.getAccuracy() == SearchMatch.A_INACCURATE && fIgnoreInaccurate) {
+								return;
+							}
+							Object o= match.getElement();
+							if (o instanceof IJavaElement) {
+								IJavaElement e= (IJavaElement)o;
+								if (e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
+										|| e.getAncestor(IJavaElement.CLASS_FILE) != null) {
+									count.incrementAndGet();
+								}
+							}
+						}
+					}, monitor);
+
+			return count.get();
+		}
+	}
+
+	/**
+	 * Create Java workspace scope.
+	 *
+	 * @param element IJavaElement to search references for
+	 *
+	 * @return the Java workspace scope.
+	 * @throws JavaModelException when java error.
+	 */
+	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
+		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
+		boolean isInsideJRE= factory.isInsideJRE(element);
+		return factory.createWorkspaceScope(isInsideJRE);
+	}
+}
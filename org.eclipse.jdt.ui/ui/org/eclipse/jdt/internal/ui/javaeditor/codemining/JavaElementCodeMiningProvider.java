@@ -100,7 +100,9 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 			try {
 				IJavaElement[] elements= unit.getChildren();
 				List<ICodeMining> minings= new ArrayList<>(elements.length);
-				collectMinings(unit, textEditor, unit.getChildren(), minings, viewer, monitor);
+				List<IJavaElement> referenceElements= new ArrayList<>();
+				JavaCodeMiningCountCache.Batch countBatch= JavaCodeMiningCountCache.getDefault().createBatch(referenceElements);
+				collectMinings(unit, textEditor, unit.getChildren(), minings, referenceElements, countBatch, viewer, monitor);
 				// interrupt if editor was marked to be reconciled in the meantime
 				if (viewer instanceof ISourceViewerExtension5) {
 					ISourceViewerExtension5 codeMiningViewer= (ISourceViewerExtension5)viewer;
@@ -124,12 +126,15 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 	 * @param textEditor the Java editor
 	 * @param elements the java elements to track
 	 * @param minings the current list of minings to update
+	 * @param referenceElements the elements for which reference minings were created
+	 * @param countBatch the batch computing the counts of the minings
 	 * @param viewer the viewer
 	 * @param monitor the monitor
 	 * @throws JavaModelException thrown when java model error
 	 */
 	private void collectMinings(ITypeRoot unit, ITextEditor textEditor, IJavaElement[] elements,
-			List<ICodeMining> minings, ITextViewer viewer, IProgressMonitor monitor) throws JavaModelException {
+			List<ICodeMining> minings, List<IJavaElement> referenceElements, JavaCodeMiningCountCache.Batch countBatch, ITextViewer viewer,
+			IProgressMonitor monitor) throws JavaModelException {
 
 		// Only Java editor is supported, see bug 541811
 		if(!(textEditor instanceof JavaEditor)) {
@@ -146,7 +151,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				return;
 			}
 			if (element.getElementType() == IJavaElement.TYPE) {
-				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, viewer, monitor);
+				collectMinings(unit, textEditor, ((IType) element).getChildren(), minings, referenceElements, countBatch, viewer, monitor);
 			} else if ((element.getElementType() != IJavaElement.METHOD)
 					&& (element.getElementType() != IJavaElement.FIELD)) {
 				continue;
@@ -158,7 +163,8 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 							|| (showReferencesOnFields && (element.getElementType() == IJavaElement.FIELD)) // Show references on fields
 					) {
 						minings.add(new JavaReferenceCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(),
-								this, showAtLeastOne));
+								this, showAtLeastOne, countBatch));
+						referenceElements.add(element);
 					}
 				} catch (BadLocationException e) {
 					// Should never occur
@@ -178,7 +184,7 @@ public class JavaElementCodeMiningProvider extends AbstractCodeMiningProvider {
 				if (addMining) {
 					try {
 						minings.add(new JavaImplementationCodeMining(element, (JavaEditor) textEditor, viewer.getDocument(), this,
-								showAtLeastOne));
+								showAtLeastOne, countBatch));
 					} catch (BadLocationException e) {
 						// Should never occur
 					}
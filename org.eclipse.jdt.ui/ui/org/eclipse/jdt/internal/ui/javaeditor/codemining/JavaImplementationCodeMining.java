@@ -63,13 +63,16 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 
 	private final boolean showImplementationsAtLeastOne;
 
+	private final JavaCodeMiningCountCache.Batch countBatch;
+
 	private Consumer<MouseEvent> action;
 
 	public JavaImplementationCodeMining(IJavaElement element, JavaEditor editor, IDocument document, ICodeMiningProvider provider,
-			boolean showImplementationsAtLeastOne) throws JavaModelException, BadLocationException {
+			boolean showImplementationsAtLeastOne, JavaCodeMiningCountCache.Batch countBatch) throws JavaModelException, BadLocationException {
 		super(element, document, provider, null);
 		this.editor= editor;
 		this.showImplementationsAtLeastOne= showImplementationsAtLeastOne;
+		this.countBatch= countBatch;
 	}
 
 	@Override
@@ -79,7 +82,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 				IJavaElement element= super.getElement();
 				if (element instanceof IType) {
 					// for a type, count types implementing this type and show type hierarchy
-					final long typeImplCount= countTypeImplementations((IType) element, monitor);
+					final long typeImplCount= countBatch.getImplementationCount(element, () -> countTypeImplementations((IType) element, monitor));
 					action= typeImplCount > 0 ? e -> {
 						if (typeImplCount == 1 && (e.stateMask & SWT.CTRL) == SWT.CTRL) {
 							// Ctrl + Click is done, open the referenced element in the Java Editor
@@ -101,7 +104,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 					}
 				} else if (element instanceof IMethod) {
 					// for a method, count declarations in hierarchy and show search->declarations->hierarchy
-					final long methodImplCount= countMethodImplementations((IMethod) element, monitor);
+					final long methodImplCount= countBatch.getImplementationCount(element, () -> countMethodImplementations((IMethod) element, monitor));
 					action= methodImplCount > 0 ? e -> {
 						if (methodImplCount == 1 && (e.stateMask & SWT.CTRL) == SWT.CTRL) {
 							// Ctrl + Click is done, open the referenced element in the Java Editor
@@ -160,8 +163,8 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @return the count of implementation for the given java element type.
 	 * @throws JavaModelException throws when Java error
 	 */
-	private static long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+	private long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
+		IType[] results= countBatch.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).count();
 	}
 
@@ -186,12 +189,12 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @return the count of implementation for the given java element method.
 	 * @throws CoreException throws when java error
 	 */
-	private static long countMethodImplementations(IMethod method, IProgressMonitor monitor) throws CoreException {
+	private long countMethodImplementations(IMethod method, IProgressMonitor monitor) throws CoreException {
 		if (method == null) {
 			return 0;
 		}
 		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= countBatch.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
 		long count= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
 		return count;
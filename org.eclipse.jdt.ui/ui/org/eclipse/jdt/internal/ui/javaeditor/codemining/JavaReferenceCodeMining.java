@@ -16,7 +16,6 @@ package org.eclipse.jdt.internal.ui.javaeditor.codemining;
 
 import java.text.MessageFormat;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.swt.SWT;
@@ -48,13 +47,10 @@ import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
-import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.actions.FindReferencesAction;
 
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
-import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesPropertyTester;
-import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
 
 /**
  * Java reference code mining.
@@ -67,14 +63,17 @@ public class JavaReferenceCodeMining extends AbstractJavaElementLineHeaderCodeMi
 
 	private final boolean showReferencesAtLeastOne;
 
+	private final JavaCodeMiningCountCache.Batch countBatch;
+
 	private Consumer<MouseEvent> action;
 
 	public JavaReferenceCodeMining(IJavaElement element, JavaEditor editor, IDocument document,
-			ICodeMiningProvider provider, boolean showReferencesAtLeastOne)
+			ICodeMiningProvider provider, boolean showReferencesAtLeastOne, JavaCodeMiningCountCache.Batch countBatch)
 			throws JavaModelException, BadLocationException {
 		super(element, document, provider, null);
 		this.editor= editor;
 		this.showReferencesAtLeastOne= showReferencesAtLeastOne;
+		this.countBatch= countBatch;
 	}
 
 	@Override
@@ -83,7 +82,7 @@ public class JavaReferenceCodeMining extends AbstractJavaElementLineHeaderCodeMi
 			try {
 				monitor.isCanceled();
 				IJavaElement element= super.getElement();
-				long refCount= countReferences(element, monitor);
+				long refCount= countBatch.getReferenceCount(element, monitor);
 				monitor.isCanceled();
 				action= refCount > 0 ? e -> {
 					if (refCount == 1 && ((e.stateMask & SWT.CTRL) == SWT.CTRL || (e.stateMask & SWT.COMMAND) == SWT.COMMAND)) {
@@ -123,49 +122,6 @@ public class JavaReferenceCodeMining extends AbstractJavaElementLineHeaderCodeMi
 		return action;
 	}
 
-	/**
-	 * Return the number of references for the given java element.
-	 *
-	 * @param element the java element.
-	 * @param monitor the monitor
-	 * @return he number of references for the given java element.
-	 * @throws JavaModelException throws when java error.
-	 * @throws CoreException throws when java error.
-	 */
-	private static long countReferences(IJavaElement element, IProgressMonitor monitor)
-			throws JavaModelException, CoreException {
-		if (element == null) {
-			return 0;
-		}
-		final AtomicLong count= new AtomicLong(0);
-		SearchPattern pattern= SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
-		if (pattern == null) {
-			return 0;
-		}
-		SearchEngine engine= new SearchEngine();
-		final boolean ignoreInaccurate= JavaPreferencesPropertyTester.isEnabled(PreferenceConstants.EDITOR_JAVA_CODEMINING_IGNORE_INEXACT_MATCHES);
-		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
-				createSearchScope(element), new SearchRequestor() {
-
-					@Override
-					public void acceptSearchMatch(SearchMatch match) throws CoreException {
-						if (match.getAccuracy() == SearchMatch.A_INACCURATE && ignoreInaccurate) {
-							return;
-						}
-						Object o= match.getElement();
-						if (o instanceof IJavaElement) {
-							IJavaElement e= (IJavaElement)o;
-							if (e.getAncestor(IJavaElement.COMPILATION_UNIT) != null
-									|| e.getAncestor(IJavaElement.CLASS_FILE) != null) {
-								count.incrementAndGet();
-							}
-						}
-					}
-				}, monitor);
-
-		return count.get();
-	}
-
 	/**
 	 * Return the single search match of references for the given java element.
 	 *
@@ -202,21 +158,6 @@ public class JavaReferenceCodeMining extends AbstractJavaElementLineHeaderCodeMi
 		return matches[0];
 	}
 
-	/**
-	 * Create Java workspace scope.
-	 *
-	 * @param element IJavaElement to search references for
-	 *
-	 * @return the Java workspace scope.
-	 * @throws JavaModelException when java error.
-	 */
-	private static IJavaSearchScope createSearchScope(IJavaElement element) throws JavaModelException {
-		JavaSearchScopeFactory factory= JavaSearchScopeFactory.getInstance();
-		boolean isInsideJRE = factory.isInsideJRE(element);
-		IJavaSearchScope scope= factory.createWorkspaceScope(isInsideJRE);
-		return scope;
-	}
-
 	/**
 	 * Create Java source search scope.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 Simeon Andreev and others.
+ * Copyright (c) 2017, 2026 Simeon Andreev and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,12 @@ package org.eclipse.jdt.internal.ui.packageview;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
@@ -35,12 +37,16 @@ import org.eclipse.jdt.core.JavaModelException;
  * </p>
  *
  * <p>
- * A single query runs in constant time. Preparing for queries runs in time linear to the number of
- * packages in the package root. The first query on this object will run the preparation step.
+ * The packages are indexed as a tree of package names: each package name is mapped to the direct
+ * children of the package, and the top level packages are kept separately. A single query runs in
+ * time linear to the number of direct children of the package. Preparing for queries runs in time
+ * linear to the number of packages in the package root. The first query on this object will run
+ * the preparation step. Afterwards, added and removed packages are updated individually, see
+ * {@link #packageAdded(IPackageFragment)} and {@link #packageRemoved(IPackageFragment)}.
  * </p>
  *
  * <p>
- * Not thread safe.
+ * Thread safe.
  * </p>
  *
  * @see #getDirectChildren(IPackageFragment)
@@ -50,26 +56,32 @@ public class PackageCache {
 	/**
 	 * Caches the children of a package in a package root. The cache for a package root is built on the
 	 * first query.
+	 *
+	 * @since 3.35
 	 */
-	static class PerRootCache {
+	public static class PerRootCache {
 
 		private final Map<IPackageFragmentRoot, PackageCache> packageCaches= new HashMap<>();
 
-		boolean hasSingleChild(IPackageFragment packageFragment) throws JavaModelException {
+		public boolean hasSingleChild(IPackageFragment packageFragment) throws JavaModelException {
 			PackageCache packagesOfRoot= getPackageCache(packageFragment);
 			return packagesOfRoot.hasSingleChild(packageFragment);
 		}
 
-		IPackageFragment getSingleChild(IPackageFragment packageFragment) throws JavaModelException {
+		public IPackageFragment getSingleChild(IPackageFragment packageFragment) throws JavaModelException {
 			PackageCache packagesOfRoot= getPackageCache(packageFragment);
 			return packagesOfRoot.getSingleChild(packageFragment);
 		}
 
-		List<IPackageFragment> getDirectChildren(IPackageFragment packageFragment) throws JavaModelException {
+		public List<IPackageFragment> getDirectChildren(IPackageFragment packageFragment) throws JavaModelException {
 			PackageCache packagesOfRoot= getPackageCache(packageFragment);
 			return packagesOfRoot.getDirectChildren(packageFragment);
 		}
 
+		public List<IPackageFragment> getTopLevelPackages(IPackageFragmentRoot root) throws JavaModelException {
+			return getPackageCache(root).getTopLevelPackages();
+		}
+
 		private PackageCache getPackageCache(IPackageFragment packageFragment) {
 			IPackageFragmentRoot packageRoot= (IPackageFragmentRoot) packageFragment.getParent();
 			PackageCache packageCache= getPackageCache(packageRoot);
@@ -91,22 +103,96 @@ public class PackageCache {
 		/**
 		 * Can be called from a different (not only UI) thread.
 		 */
-		void clear() {
+		public void clear() {
 			synchronized (packageCaches) {
 				packageCaches.clear();
 			}
 		}
+
+		/**
+		 * Updates the caches for the given delta. Added and removed packages are updated in the
+		 * caches of their roots, the caches of added, removed or otherwise changed roots and
+		 * projects are discarded. Changes inside of packages do not affect the caches.
+		 * <p>
+		 * Can be called from a different (not only UI) thread.
+		 * </p>
+		 *
+		 * @param delta the Java element delta
+		 */
+		public void update(IJavaElementDelta delta) {
+			IJavaElement element= delta.getElement();
+			switch (element.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+				case IJavaElement.JAVA_PROJECT:
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~CONTAINER_CHILDREN_FLAGS) != 0) {
+						remove(element);
+						return;
+					}
+					for (IJavaElementDelta child : delta.getAffectedChildren()) {
+						update(child);
+					}
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT:
+					PackageCache packageCache;
+					synchronized (packageCaches) {
+						packageCache= packageCaches.get(element.getParent());
+					}
+					if (packageCache != null) {
+						if (delta.getKind() == IJavaElementDelta.ADDED) {
+							packageCache.packageAdded((IPackageFragment) element);
+						} else if (delta.getKind() == IJavaElementDelta.REMOVED) {
+							packageCache.packageRemoved((IPackageFragment) element);
+						}
+					}
+					break;
+				default:
+					break;
+			}
+		}
+
+		/**
+		 * Discards the caches of the roots in the given element.
+		 *
+		 * @param element a Java model, project or package fragment root
+		 */
+		private void remove(IJavaElement element) {
+			synchronized (packageCaches) {
+				if (element.getElementType() == IJavaElement.JAVA_MODEL) {
+					packageCaches.clear();
+					return;
+				}
+				for (Iterator<IPackageFragmentRoot> iterator= packageCaches.keySet().iterator(); iterator.hasNext();) {
+					IPackageFragmentRoot root= iterator.next();
+					if (root.equals(element) || root.getParent().equals(element)) {
+						iterator.remove();
+					}
+				}
+			}
+		}
 	}
 
+	/**
+	 * Flags of a changed Java model, project or package fragment root delta which only report
+	 * changes of its children or of its non-Java resources.
+	 */
+	private static final int CONTAINER_CHILDREN_FLAGS= IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_CONTENT;
+
 
 	private final IPackageFragmentRoot packageRoot;
 
 	/**
-	 * Key is {@link IPackageFragment#getElementName()}, value is the list of the direct children
-	 * packages.
+	 * Key is {@link IPackageFragment#getElementName()}, value is the unmodifiable list of the direct
+	 * children packages. The lists are replaced when packages are added or removed, so they can be
+	 * returned to clients without copying.
 	 */
 	private final Map<String, List<IPackageFragment>> packagesCache;
 
+	/**
+	 * The unmodifiable list of the packages without parent package, including the default package.
+	 */
+	private List<IPackageFragment> topLevelPackages;
+
 	private boolean initialized;
 
 	/**
@@ -115,6 +201,7 @@ public class PackageCache {
 	public PackageCache(IPackageFragmentRoot packageRoot) {
 		this.packageRoot= packageRoot;
 		packagesCache= new HashMap<>();
+		topLevelPackages= Collections.emptyList();
 		initialized= false;
 	}
 
@@ -187,14 +274,99 @@ public class PackageCache {
 	 * @param packageFragment The direct children of this fragment will be retrieved.
 	 * @throws JavaModelException If accessing the packages in the package root fails.
 	 */
-	public List<IPackageFragment> getDirectChildren(IPackageFragment packageFragment) throws JavaModelException {
+	public synchronized List<IPackageFragment> getDirectChildren(IPackageFragment packageFragment) throws JavaModelException {
 		initialize();
 		String packageName= packageFragment.getElementName();
 		List<IPackageFragment> childrenOfPackage= packagesCache.get(packageName);
 		if (childrenOfPackage == null) {
 			return Collections.EMPTY_LIST;
 		}
-		return Collections.unmodifiableList(childrenOfPackage);
+		return childrenOfPackage;
+	}
+
+	/**
+	 * @return The packages which have no parent package, including the default package. Never
+	 *         {@code null}.
+	 *
+	 * @throws JavaModelException If accessing the packages in the package root fails.
+	 *
+	 * @since 3.35
+	 */
+	public synchronized List<IPackageFragment> getTopLevelPackages() throws JavaModelException {
+		initialize();
+		return topLevelPackages;
+	}
+
+	/**
+	 * Adds a package that has been added to the package root. Does nothing if the cache has not
+	 * been prepared for queries yet.
+	 *
+	 * @param packageFragment The added package.
+	 *
+	 * @since 3.35
+	 */
+	public synchronized void packageAdded(IPackageFragment packageFragment) {
+		if (initialized) {
+			String packageName= packageFragment.getElementName();
+			List<IPackageFragment> siblings= getSiblings(packageName);
+			if (siblings == null) {
+				setSiblings(packageName, List.of(packageFragment));
+			} else if (!siblings.contains(packageFragment)) {
+				List<IPackageFragment> newSiblings= new ArrayList<>(siblings.size() + 1);
+				newSiblings.addAll(siblings);
+				newSiblings.add(packageFragment);
+				setSiblings(packageName, Collections.unmodifiableList(newSiblings));
+			}
+		}
+	}
+
+	/**
+	 * Removes a package that has been removed from the package root. Does nothing if the cache has
+	 * not been prepared for queries yet.
+	 *
+	 * @param packageFragment The removed package.
+	 *
+	 * @since 3.35
+	 */
+	public synchronized void packageRemoved(IPackageFragment packageFragment) {
+		if (initialized) {
+			String packageName= packageFragment.getElementName();
+			List<IPackageFragment> siblings= getSiblings(packageName);
+			if (siblings != null && siblings.contains(packageFragment)) {
+				List<IPackageFragment> newSiblings= new ArrayList<>(siblings);
+				newSiblings.remove(packageFragment);
+				setSiblings(packageName, newSiblings.isEmpty() ? null : Collections.unmodifiableList(newSiblings));
+			}
+		}
+	}
+
+	/**
+	 * @param packageName The name of a package.
+	 * @return The unmodifiable list which contains the package and its siblings, or {@code null} if
+	 *         there is none.
+	 */
+	private List<IPackageFragment> getSiblings(String packageName) {
+		int index= packageName.lastIndexOf('.');
+		if (index == -1) {
+			return topLevelPackages;
+		}
+		return packagesCache.get(packageName.substring(0, index));
+	}
+
+	/**
+	 * @param packageName The name of a package.
+	 * @param siblings The unmodifiable list which replaces the list containing the package and its
+	 *            siblings, or {@code null} if there are none.
+	 */
+	private void setSiblings(String packageName, List<IPackageFragment> siblings) {
+		int index= packageName.lastIndexOf('.');
+		if (index == -1) {
+			topLevelPackages= siblings == null ? Collections.emptyList() : siblings;
+		} else if (siblings == null) {
+			packagesCache.remove(packageName.substring(0, index));
+		} else {
+			packagesCache.put(packageName.substring(0, index), siblings);
+		}
 	}
 
 	private void initialize() throws JavaModelException {
@@ -211,6 +383,7 @@ public class PackageCache {
 	 */
 	private void collectChildrenOfPackages() throws JavaModelException {
 		packagesCache.clear();
+		List<IPackageFragment> topLevel= new ArrayList<>();
 
 		IJavaElement[] allPackages= packageRoot.getChildren();
 
@@ -220,17 +393,13 @@ public class PackageCache {
 			String packageName= currentPackage.getElementName();
 
 			int index= packageName.lastIndexOf('.');
-			boolean hasParentPackage= index != -1;
-			if (hasParentPackage) {
-				String parentName= packageName.substring(0, index);
-
-				List<IPackageFragment> siblingsOfCurrentPackage= packagesCache.get(parentName);
-				if (siblingsOfCurrentPackage == null) {
-					siblingsOfCurrentPackage= new ArrayList<>();
-					packagesCache.put(parentName, siblingsOfCurrentPackage);
-				}
-				siblingsOfCurrentPackage.add(currentPackage);
-			}
+			List<IPackageFragment> siblingsOfCurrentPackage= index == -1
+					? topLevel
+					: packagesCache.computeIfAbsent(packageName.substring(0, index), k -> new ArrayList<>());
+			siblingsOfCurrentPackage.add(currentPackage);
 		}
+
+		packagesCache.replaceAll((name, children) -> Collections.unmodifiableList(children));
+		topLevelPackages= Collections.unmodifiableList(topLevel);
 	}
 }
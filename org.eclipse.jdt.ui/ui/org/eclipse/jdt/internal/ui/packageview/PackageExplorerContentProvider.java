@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,9 @@ package org.eclipse.jdt.internal.ui.packageview;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -27,6 +28,7 @@ import org.eclipse.swt.widgets.Widget;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IFolder;
@@ -83,6 +85,28 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	protected static final int GRANT_PARENT= 1 << 1;
 	protected static final int PROJECT= 1 << 2;
 
+	private static final String PERF_UPDATES= "org.eclipse.jdt.ui/perf/explorer/updates"; //$NON-NLS-1$
+
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERF_UPDATES);
+
+	/**
+	 * Batches with at least this number of updates are coalesced: refreshes of elements below other
+	 * refreshed elements, and adds and removes below refreshed elements are dropped.
+	 */
+	private static final int COALESCE_THRESHOLD= 100;
+
+	/**
+	 * Batches with at least this number of refreshes, adds and removes, e.g. after switching
+	 * branches, replace them by a single refresh of the whole viewer.
+	 */
+	private static final int REFRESH_ALL_THRESHOLD= 2000;
+
+	/**
+	 * Time in milliseconds after which the update job yields the UI thread and continues with the
+	 * remaining updates in a later run.
+	 */
+	private static final long UPDATE_TIME_BUDGET= 100;
+
 	private TreeViewer fViewer;
 	private Object fInput;
 	private boolean fIsFlatLayout;
@@ -129,7 +153,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	public void elementChanged(final ElementChangedEvent event) {
 		final ArrayList<Runnable> runnables= new ArrayList<>();
 		try {
-			clearPackageCache();
+			packageCache.update(event.getDelta());
 
 			// 58952 delete project does not update Package Explorer [package explorer]
 			// if the input to the viewer is deleted then refresh to avoid the display of stale elements
@@ -177,7 +201,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 					if (viewer != null && viewer.isBusy()) {
 						schedule(100); // reschedule when viewer is busy: bug 184991
 					} else {
-						runPendingUpdates();
+						runPendingUpdates(UPDATE_TIME_BUDGET);
 					}
 					return Status.OK_STATUS;
 				}
@@ -191,6 +215,16 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	 * Run all of the runnables that are the widget updates. Must be called in the display thread.
 	 */
 	public void runPendingUpdates() {
+		runPendingUpdates(0);
+	}
+
+	/**
+	 * Runs the pending updates. Must be called in the display thread.
+	 *
+	 * @param timeBudget the time in milliseconds after which the remaining updates are left to a
+	 *            later run of the update job, or 0 to run all updates
+	 */
+	private void runPendingUpdates(long timeBudget) {
 		Collection<Runnable> pendingUpdates;
 		synchronized (this) {
 			pendingUpdates= fPendingUpdates;
@@ -199,18 +233,166 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		if (pendingUpdates != null && fViewer != null) {
 			Control control = fViewer.getControl();
 			if (control != null && !control.isDisposed()) {
-				runUpdates(pendingUpdates);
+				List<Runnable> remaining= runUpdates(pendingUpdates, timeBudget);
+				if (!remaining.isEmpty()) {
+					synchronized (this) {
+						if (fPendingUpdates != null)
+							remaining.addAll(fPendingUpdates);
+						fPendingUpdates= remaining;
+					}
+					postAsyncUpdate(control.getDisplay());
+				}
 			}
 		}
 	}
 
 	private void runUpdates(Collection<Runnable> runnables) {
-		Iterator<Runnable> runnableIterator = runnables.iterator();
-		while (runnableIterator.hasNext()){
-			runnableIterator.next().run();
+		runUpdates(runnables, 0);
+	}
+
+	/**
+	 * Coalesces and runs the given updates.
+	 *
+	 * @param runnables the updates
+	 * @param timeBudget the time in milliseconds after which no further updates are run, or 0 to
+	 *            run all updates
+	 * @return the updates which have not been run
+	 */
+	private List<Runnable> runUpdates(Collection<Runnable> runnables, long timeBudget) {
+		PerformanceStats stats= null;
+		List<Runnable> updates= coalesce(runnables);
+		if (MEASURE_PERFORMANCE) {
+			stats= PerformanceStats.getStats(PERF_UPDATES, this);
+			stats.startRun(runnables.size() + " updates, " + updates.size() + " after coalescing"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
+		try {
+			long start= System.currentTimeMillis();
+			for (int i= 0; i < updates.size(); i++) {
+				if (timeBudget > 0 && i > 0 && System.currentTimeMillis() - start > timeBudget)
+					return new ArrayList<>(updates.subList(i, updates.size()));
+				updates.get(i).run();
+			}
+			return new ArrayList<>(0);
+		} finally {
+			if (stats != null)
+				stats.endRun();
+		}
+	}
+
+	/**
+	 * Coalesces large batches of updates, see {@link #COALESCE_THRESHOLD}. Only refreshes, adds and
+	 * removes are coalesced, they are run at the position of the first of them. Other updates keep
+	 * their order.
+	 *
+	 * @param runnables the updates
+	 * @return the updates to run
+	 */
+	private List<Runnable> coalesce(Collection<Runnable> runnables) {
+		if (runnables.size() < COALESCE_THRESHOLD)
+			return new ArrayList<>(runnables);
+
+		List<Runnable> result= new ArrayList<>();
+		List<Runnable> structuralUpdates= new ArrayList<>();
+		int position= -1;
+		for (Runnable runnable : runnables) {
+			if (runnable instanceof RefreshUpdate || runnable instanceof AddUpdate || runnable instanceof RemoveUpdate) {
+				if (position == -1)
+					position= result.size();
+				structuralUpdates.add(runnable);
+			} else {
+				result.add(runnable);
+			}
+		}
+		if (position != -1)
+			result.addAll(position, coalesceStructuralUpdates(structuralUpdates));
+		return result;
 	}
 
+	/**
+	 * Coalesces refreshes, adds and removes. A batch with at least {@link #REFRESH_ALL_THRESHOLD}
+	 * updates is replaced by a refresh of the whole viewer. Otherwise refreshes are run after the
+	 * adds and removes which are not below a refreshed element, which keep their order.
+	 *
+	 * @param runnables the refreshes, adds and removes
+	 * @return the updates to run
+	 */
+	private List<Runnable> coalesceStructuralUpdates(List<Runnable> runnables) {
+		if (runnables.size() >= REFRESH_ALL_THRESHOLD) {
+			List<Runnable> result= new ArrayList<>(1);
+			result.add(this::refreshAll);
+			return result;
+		}
+
+		// element -> whether labels are updated
+		Map<Object, Boolean> refreshed= new LinkedHashMap<>();
+		for (Runnable runnable : runnables) {
+			if (runnable instanceof RefreshUpdate refresh) {
+				for (Object element : refresh.fElements) {
+					refreshed.merge(element, refresh.fUpdateLabels, Boolean::logicalOr);
+				}
+			}
+		}
+		if (fInput != null && Boolean.TRUE.equals(refreshed.get(fInput))) {
+			List<Runnable> result= new ArrayList<>(1);
+			result.add(new RefreshUpdate(List.of(fInput), true));
+			return result;
+		}
+
+		List<Runnable> result= new ArrayList<>();
+		for (Runnable runnable : runnables) {
+			// a refresh of an element shows the adds and removes which came before or after it
+			if (runnable instanceof RefreshUpdate)
+				continue;
+			if (runnable instanceof AddUpdate add && isRefreshed(add.fParent, false, refreshed))
+				continue;
+			if (runnable instanceof RemoveUpdate remove && isRefreshed(getParent(remove.fElement), false, refreshed))
+				continue;
+			result.add(runnable);
+		}
+		List<Object> withLabels= new ArrayList<>();
+		List<Object> withoutLabels= new ArrayList<>();
+		for (Map.Entry<Object, Boolean> entry : refreshed.entrySet()) {
+			Object element= entry.getKey();
+			boolean updateLabels= entry.getValue().booleanValue();
+			if (element == null || !isRefreshed(getParent(element), updateLabels, refreshed))
+				(updateLabels ? withLabels : withoutLabels).add(element);
+		}
+		if (!withLabels.isEmpty())
+			result.add(new RefreshUpdate(withLabels, true));
+		if (!withoutLabels.isEmpty())
+			result.add(new RefreshUpdate(withoutLabels, false));
+		return result;
+	}
+
+	/**
+	 * Tells whether the given element or one of its parents is refreshed.
+	 *
+	 * @param element the element, can be <code>null</code>
+	 * @param updateLabels <code>true</code> if the refresh must update labels
+	 * @param refreshed the refreshed elements, mapped to whether labels are updated
+	 * @return <code>true</code> if the element is refreshed
+	 */
+	private boolean isRefreshed(Object element, boolean updateLabels, Map<Object, Boolean> refreshed) {
+		for (int depth= 0; element != null && depth < 100; depth++) {
+			Boolean labels= refreshed.get(element);
+			if (labels != null && (labels.booleanValue() || !updateLabels))
+				return true;
+			if (element.equals(fInput))
+				return false;
+			element= getParent(element);
+		}
+		return false;
+	}
+
+	private void refreshAll() {
+		Control control= fViewer.getControl();
+		control.setRedraw(false);
+		try {
+			fViewer.refresh();
+		} finally {
+			control.setRedraw(true);
+		}
+	}
 
 	private boolean inputDeleted(Collection<Runnable> runnables) {
 		if (fInput == null)
@@ -416,15 +598,13 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	 */
 	private void getHierarchicalPackageRootChildren(IPackageFragmentRoot parent, Collection<Object> result) throws JavaModelException {
 		boolean is9OrHigher= JavaModelUtil.is9OrHigher(parent.getJavaProject());
-		for (IJavaElement child : parent.getChildren()) {
-			IPackageFragment curr= (IPackageFragment) child;
-			String name= curr.getElementName();
-			if (!name.isEmpty() && name.indexOf('.') == -1) {
+		for (IPackageFragment curr : packageCache.getTopLevelPackages(parent)) {
+			if (!curr.isDefaultPackage()) {
 				if (fFoldPackages) {
 					curr= getFolded(curr);
 				}
 				result.add(curr);
-			} else if (curr.isDefaultPackage()) {
+			} else {
 				if (isRelevantPackage(curr, is9OrHigher))
 					result.add(curr);
 				IJavaElement emptyModuleInfo= emptyModuleInfo(curr, is9OrHigher);
@@ -949,35 +1129,81 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	}
 
 	protected void postRefresh(final List<Object> toRefresh, final boolean updateLabels, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Object element : toRefresh.toArray()) {
+		runnables.add(new RefreshUpdate(toRefresh, updateLabels));
+	}
+
+	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
+		runnables.add(new AddUpdate(parent, element));
+	}
+
+	protected void postRemove(final Object element, Collection<Runnable> runnables) {
+		runnables.add(new RemoveUpdate(element));
+	}
+
+	/**
+	 * Refreshes elements, known to {@link #coalesce(Collection)}.
+	 */
+	private final class RefreshUpdate implements Runnable {
+		private final List<Object> fElements;
+		private final boolean fUpdateLabels;
+
+		RefreshUpdate(List<Object> elements, boolean updateLabels) {
+			fElements= elements;
+			fUpdateLabels= updateLabels;
+		}
+
+		@Override
+		public void run() {
+			for (Object element : fElements.toArray()) {
 				if (element == null || fViewer.testFindItems(element).length > 0) {
-					fViewer.refresh(element, updateLabels);
+					fViewer.refresh(element, fUpdateLabels);
 				}
 			}
-		});
+		}
 	}
 
-	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Widget item : fViewer.testFindItems(element)) {
+	/**
+	 * Adds an element, known to {@link #coalesce(Collection)}.
+	 */
+	private final class AddUpdate implements Runnable {
+		private final Object fParent;
+		private final Object fElement;
+
+		AddUpdate(Object parent, Object element) {
+			fParent= parent;
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			for (Widget item : fViewer.testFindItems(fElement)) {
 				if (item instanceof TreeItem && !item.isDisposed()) {
 					TreeItem parentItem= ((TreeItem) item).getParentItem();
-					if (parentItem != null && !parentItem.isDisposed() && parent.equals(parentItem.getData())) {
+					if (parentItem != null && !parentItem.isDisposed() && fParent.equals(parentItem.getData())) {
 						return; // no add, element already added (most likely by a refresh)
 					}
 				}
 			}
-			fViewer.add(parent, element);
-		});
+			fViewer.add(fParent, fElement);
+		}
 	}
 
-	protected void postRemove(final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			if (fViewer.testFindItems(element).length > 0) {
-				fViewer.remove(element);
+	/**
+	 * Removes an element, known to {@link #coalesce(Collection)}.
+	 */
+	private final class RemoveUpdate implements Runnable {
+		private final Object fElement;
+
+		RemoveUpdate(Object element) {
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			if (fViewer.testFindItems(fElement).length > 0) {
+				fViewer.remove(fElement);
 			}
-		});
+		}
 	}
 
 	protected void postProjectStateChanged(final Object root, Collection<Runnable> runnables) {
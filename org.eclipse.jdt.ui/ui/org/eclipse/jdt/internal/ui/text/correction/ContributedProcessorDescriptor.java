@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -156,4 +156,10 @@ public final class ContributedProcessorDescriptor {
 		return fHandledMarkerTypes == null || fHandledMarkerTypes.contains(markerType);
 	}
 
+	@Override
+	public String toString() {
+		// identifies the processor in performance traces
+		return fConfigurationElement.getContributor().getName() + '/' + fConfigurationElement.getAttribute(ID);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,12 +22,15 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IMarker;
 
+import org.eclipse.jface.preference.IPreferenceStore;
+
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.contentassist.ContentAssistEvent;
 import org.eclipse.jface.text.contentassist.ICompletionListener;
@@ -72,6 +75,30 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	private static final String QUICKFIX_PROCESSOR_CONTRIBUTION_ID= "quickFixProcessors"; //$NON-NLS-1$
 	private static final String QUICKASSIST_PROCESSOR_CONTRIBUTION_ID= "quickAssistProcessors"; //$NON-NLS-1$
 
+	/** The name of the performance event used to trace quick fix and quick assist processors. */
+	private static final String PERF_PROCESSOR= "org.eclipse.jdt.ui/perf/correction/processors"; //$NON-NLS-1$
+
+	/**
+	 * If <code>true</code>, execution time of processors is measured and the data forwarded to
+	 * core's {@link PerformanceStats} service.
+	 */
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERF_PROCESSOR);
+
+	/**
+	 * A named preference that holds the time in milliseconds after which no further processors are
+	 * asked for proposals when quick fix or quick assist is invoked in the editor, or
+	 * <code>0</code> to always ask all processors. Processors that already started are never
+	 * interrupted.
+	 * <p>
+	 * Value is of type <code>Long</code>.
+	 * </p>
+	 */
+	public static final String PREF_PROCESSOR_TIME_BUDGET= "correction.processorTimeBudget"; //$NON-NLS-1$
+
+	public static void initDefaultPreferences(IPreferenceStore store) {
+		store.setDefault(PREF_PROCESSOR_TIME_BUDGET, 0L);
+	}
+
 	private static ContributedProcessorDescriptor[] fgContributedAssistProcessors= null;
 	private static ContributedProcessorDescriptor[] fgContributedCorrectionProcessors= null;
 
@@ -244,7 +271,7 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		ICompletionProposal[] res= null;
 		if (model != null && context != null && annotations != null) {
 			ArrayList<IJavaCompletionProposal> proposals= new ArrayList<>(10);
-			IStatus status= collectProposals(context, model, annotations, true, !fAssistant.isUpdatedOffset(), proposals);
+			IStatus status= collectProposals(context, model, annotations, true, !fAssistant.isUpdatedOffset(), proposals, getDeadline());
 			res= proposals.toArray(new ICompletionProposal[proposals.size()]);
 			if (!status.isOK()) {
 				fErrorMessage= status.getMessage();
@@ -262,6 +289,10 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 	public static IStatus collectProposals(IInvocationContext context, IAnnotationModel model, Annotation[] annotations, boolean addQuickFixes, boolean addQuickAssists, Collection<IJavaCompletionProposal> proposals) {
+		return collectProposals(context, model, annotations, addQuickFixes, addQuickAssists, proposals, Long.MAX_VALUE);
+	}
+
+	private static IStatus collectProposals(IInvocationContext context, IAnnotationModel model, Annotation[] annotations, boolean addQuickFixes, boolean addQuickAssists, Collection<IJavaCompletionProposal> proposals, long deadline) {
 		ArrayList<ProblemLocation> problems= new ArrayList<>();
 
 		// collect problem locations and corrections from marker annotations
@@ -281,14 +312,14 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 		IProblemLocation[] problemLocations= problems.toArray(new IProblemLocation[problems.size()]);
 		if (addQuickFixes) {
-			IStatus status= collectCorrections(context, problemLocations, proposals);
+			IStatus status= collectCorrections(context, problemLocations, proposals, deadline);
 			if (!status.isOK()) {
 				resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickfix_message, null);
 				resStatus.add(status);
 			}
 		}
 		if (addQuickAssists) {
-			IStatus status= collectAssists(context, problemLocations, proposals);
+			IStatus status= collectAssists(context, problemLocations, proposals, deadline);
 			if (!status.isOK()) {
 				if (resStatus == null) {
 					resStatus= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.ERROR, CorrectionMessages.JavaCorrectionProcessor_error_quickassist_message, null);
@@ -320,25 +351,55 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		}
 	}
 
+	private static long getDeadline() {
+		long budget= JavaPlugin.getDefault().getPreferenceStore().getLong(PREF_PROCESSOR_TIME_BUDGET);
+		if (budget > 0)
+			return System.currentTimeMillis() + budget;
+		return Long.MAX_VALUE;
+	}
+
 	private static abstract class SafeCorrectionProcessorAccess implements ISafeRunnable {
 		private MultiStatus fMulti= null;
 		private ContributedProcessorDescriptor fDescriptor;
+		private long fDeadline= Long.MAX_VALUE;
+
+		/**
+		 * Sets the time after which processors are no longer run.
+		 *
+		 * @param deadline the deadline in milliseconds as returned by
+		 *            {@link System#currentTimeMillis()}
+		 */
+		public void setDeadline(long deadline) {
+			fDeadline= deadline;
+		}
 
 		public void process(ContributedProcessorDescriptor[] desc) {
 			for (ContributedProcessorDescriptor d : desc) {
-				fDescriptor= d;
-				SafeRunner.run(this);
+				process(d);
 			}
 		}
 
 		public void process(ContributedProcessorDescriptor desc) {
+			if (fDeadline != Long.MAX_VALUE && System.currentTimeMillis() > fDeadline) {
+				return;
+			}
 			fDescriptor= desc;
 			SafeRunner.run(this);
 		}
 
 		@Override
 		public void run() throws Exception {
-			safeRun(fDescriptor);
+			if (MEASURE_PERFORMANCE) {
+				PerformanceStats stats= PerformanceStats.getStats(PERF_PROCESSOR, fDescriptor);
+				stats.startRun();
+				try {
+					safeRun(fDescriptor);
+				} finally {
+					stats.endRun();
+				}
+			} else {
+				safeRun(fDescriptor);
+			}
 		}
 
 		protected abstract void safeRun(ContributedProcessorDescriptor processor) throws Exception;
@@ -457,7 +518,22 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 
 	public static IStatus collectCorrections(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
+		return collectCorrections(context, locations, proposals, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Collects the corrections of the processors which start before the given deadline.
+	 *
+	 * @param context the invocation context
+	 * @param locations the problem locations
+	 * @param proposals receives the proposals
+	 * @param deadline the time in milliseconds as returned by {@link System#currentTimeMillis()}
+	 *            after which no further processors are run, or {@link Long#MAX_VALUE}
+	 * @return the status of the processors
+	 */
+	public static IStatus collectCorrections(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals, long deadline) {
 		SafeCorrectionCollector collector= new SafeCorrectionCollector(context, proposals);
+		collector.setDeadline(deadline);
 		for (ContributedProcessorDescriptor curr : getCorrectionProcessors()) {
 			IProblemLocation[] handled= getHandledProblems(locations, curr);
 			if (handled != null) {
@@ -501,8 +577,23 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 	public static IStatus collectAssists(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
+		return collectAssists(context, locations, proposals, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Collects the assists of the processors which start before the given deadline.
+	 *
+	 * @param context the invocation context
+	 * @param locations the problem locations
+	 * @param proposals receives the proposals
+	 * @param deadline the time in milliseconds as returned by {@link System#currentTimeMillis()}
+	 *            after which no further processors are run, or {@link Long#MAX_VALUE}
+	 * @return the status of the processors
+	 */
+	public static IStatus collectAssists(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals, long deadline) {
 		ContributedProcessorDescriptor[] processors= getAssistProcessors();
 		SafeAssistCollector collector= new SafeAssistCollector(context, locations, proposals);
+		collector.setDeadline(deadline);
 		collector.process(processors);
 
 		return collector.getStatus();
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2022 Darmstadt University of Technology and others
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,13 +10,12 @@
  */
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -58,8 +57,6 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	private CompletionProposalCollector collector;
 
-	private List<ChainElement> entrypoints;
-
 	private String error;
 
 	private String[] excludedTypes;
@@ -115,24 +112,34 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 				|| ChainElementAnalyzer.getExpectedType(ctx.getProject(), ctx.getCoreContext()) != null;
 	}
 
-	private boolean findEntrypoints() {
-		entrypoints= new LinkedList<>();
-		for (IJavaCompletionProposal prop : collector.getJavaCompletionProposals()) {
+	/**
+	 * Finds the entry points of the chains. Only uses the given arguments, since the search may
+	 * still be running when the next invocation starts.
+	 *
+	 * @param context the invocation context
+	 * @param proposalCollector the collector with the regular completion proposals
+	 * @param excluded the excluded types
+	 * @return the entry points of the chains
+	 */
+	private static List<ChainElement> findEntrypoints(final JavaContentAssistInvocationContext context,
+			final CompletionProposalCollector proposalCollector, final List<String> excluded) {
+		final List<ChainElement> entrypoints= new ArrayList<>();
+		for (IJavaCompletionProposal prop : proposalCollector.getJavaCompletionProposals()) {
 			if (prop instanceof AbstractJavaCompletionProposal) {
 				AbstractJavaCompletionProposal aprop= (AbstractJavaCompletionProposal) prop;
 				IJavaElement e= aprop.getJavaElement();
 				if (e != null) {
-					if (matchesExpectedPrefix(e) && !ChainFinder.isFromExcludedType(Arrays.asList(excludedTypes), e)) {
+					if (matchesExpectedPrefix(context, e) && !ChainFinder.isFromExcludedType(excluded, e)) {
 						ChainElement ce= new ChainElement(e, false);
 						if (ce.getElementType() != null) {
 							entrypoints.add(ce);
 						}
 					}
 				} else {
-					IJavaElement[] visibleElements= ctx.getCoreContext().getVisibleElements(null);
+					IJavaElement[] visibleElements= context.getCoreContext().getVisibleElements(null);
 					for (IJavaElement ve : visibleElements) {
-						if (ve.getElementName().equals(aprop.getReplacementString()) && matchesExpectedPrefix(ve)
-								&& !ChainFinder.isFromExcludedType(Arrays.asList(excludedTypes), ve)) {
+						if (ve.getElementName().equals(aprop.getReplacementString()) && matchesExpectedPrefix(context, ve)
+								&& !ChainFinder.isFromExcludedType(excluded, ve)) {
 							ChainElement ce= new ChainElement(ve, false);
 							if (ce.getElementType() != null) {
 								entrypoints.add(ce);
@@ -143,11 +150,11 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 			}
 		}
 
-		return !entrypoints.isEmpty();
+		return entrypoints;
 	}
 
-	private boolean matchesExpectedPrefix(final IJavaElement element) {
-		String prefix= String.valueOf(ctx.getCoreContext().getToken());
+	private static boolean matchesExpectedPrefix(final JavaContentAssistInvocationContext context, final IJavaElement element) {
+		String prefix= String.valueOf(context.getCoreContext().getToken());
 		return String.valueOf(element.getElementName()).startsWith(prefix);
 	}
 
@@ -172,27 +179,28 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		final IType invocationType= ctx.getCompilationUnit().findPrimaryType();
 
 		final List<ChainType> expectedTypes= ChainElementAnalyzer.resolveBindingsForExpectedTypes(ctx.getProject(), ctx.getCoreContext());
-		final ChainFinder finder= new ChainFinder(expectedTypes, Arrays.asList(excludedTypes), invocationType);
-		try (ExecutorService executor= Executors.newSingleThreadExecutor()) {
+		final List<String> excluded= Arrays.asList(excludedTypes);
+		final ChainFinder finder= new ChainFinder(expectedTypes, excluded, invocationType);
+		final JavaContentAssistInvocationContext context= ctx;
+		final CompletionProposalCollector proposalCollector= collector;
+		// the search runs in the common pool, a canceled search stops without being waited for
+		CompletableFuture<Void> future= CompletableFuture.runAsync(() -> {
+			List<ChainElement> entrypoints= findEntrypoints(context, proposalCollector, excluded);
+			if (!entrypoints.isEmpty()) {
+				finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
+			}
+		});
+		try {
+			long timeout;
 			try {
-				Future<?> future= executor.submit(() -> {
-					if (findEntrypoints()) {
-						finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
-					}
-				});
-
-				long timeout;
-				try {
-					timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
-				} catch (NumberFormatException e) {
-					timeout= 1;
-				}
-				future.get(timeout, TimeUnit.SECONDS);
-			} catch (final Exception e) {
-				finder.cancel();
-				executor.shutdownNow();
-				setError("Timeout during call chain computation."); //$NON-NLS-1$
+				timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
+			} catch (NumberFormatException e) {
+				timeout= 1;
 			}
+			future.get(timeout, TimeUnit.SECONDS);
+		} catch (final Exception e) {
+			finder.cancel();
+			setError("Timeout during call chain computation."); //$NON-NLS-1$
 		}
 		return buildCompletionProposals(finder.getChains());
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,8 @@ final class JavaDocMessages extends NLS {
 	public static String JavaDoc2HTMLTextReader_author_section;
 	public static String JavaDoc2HTMLTextReader_see_section;
 	public static String JavaDoc2HTMLTextReader_since_section;
+	public static String JavadocContentCache_prewarmJob_name;
+	public static String JavadocContentCache_pruneJob_name;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, JavaDocMessages.class);
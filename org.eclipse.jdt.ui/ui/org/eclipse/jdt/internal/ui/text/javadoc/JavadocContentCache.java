@@ -0,0 +1,605 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.CoreJavaDocLocations;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.CoreJavadocAccess;
+
+import org.eclipse.jdt.internal.corext.util.CompilationUnitDeltas;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Caches the rendered Javadoc of elements in archives, in memory and in the state location of the
+ * plug-in, so that hovers, the Javadoc view and the additional info of proposals do not read and
+ * render the source or the attached Javadoc of library members every time.
+ * <p>
+ * An entry is valid as long as the archive, its source attachment and its Javadoc location are
+ * unchanged. Elements in source folders and class folders are not cached, since they change without
+ * changing the time stamp of their root. The description of a root is computed once and kept until
+ * the root or the classpath changes, so source attachments changed in place without a change of the
+ * archive are only noticed in the next session.
+ * </p>
+ * <p>
+ * Only found Javadoc is stored. Elements without Javadoc are cached in memory only, and not at all
+ * if the Javadoc of their root is fetched from a remote location, since the fetch may have failed
+ * or timed out.
+ * </p>
+ * <p>
+ * The stored entries are limited in number and total size. The least recently used entries are
+ * deleted at startup and after every {@value #PRUNE_INTERVAL} stored entries.
+ * </p>
+ * <p>
+ * When an editor is opened, the Javadoc of the library types it imports is rendered in the
+ * background, if it is read from a source attachment or from local Javadoc. Each library is
+ * prewarmed once until it changes, libraries with remote Javadoc are not prewarmed. The number of
+ * elements rendered per editor is set with the preference {@link #PREF_PREWARM_ELEMENTS}, 0
+ * disables it.
+ * </p>
+ *
+ * @since 3.35
+ */
+public final class JavadocContentCache {
+
+	/**
+	 * A named preference that holds the maximum number of elements whose Javadoc is rendered in
+	 * the background when an editor is opened, <code>0</code> disables it.
+	 * <p>
+	 * Value is of type <code>Integer</code>.
+	 * </p>
+	 */
+	public static final String PREF_PREWARM_ELEMENTS= "javadocCache.prewarmElements"; //$NON-NLS-1$
+
+	private static final int MAX_SIZE= 500;
+
+	/**
+	 * Version of the format of the stored entries, to be increased on incompatible changes.
+	 */
+	private static final int VERSION= 2;
+
+	private static final String STORE_LOCATION= "javadoc"; //$NON-NLS-1$
+
+	/**
+	 * Contents larger than this number of characters are kept in memory only.
+	 */
+	private static final int MAX_STORED_LENGTH= 512 * 1024;
+
+	private static final int MAX_STORED_ENTRIES= 5000;
+
+	private static final long MAX_STORE_SIZE= 64 * 1024 * 1024;
+
+	/**
+	 * Describes roots whose elements are not cached.
+	 */
+	private static final String NO_STAMP= ""; //$NON-NLS-1$
+
+	/**
+	 * The number of entries stored between two prunings of the store.
+	 */
+	private static final int PRUNE_INTERVAL= 200;
+
+	private static final String TEMP_EXTENSION= ".tmp"; //$NON-NLS-1$
+
+	/**
+	 * Temporary files older than this are left over from an interrupted write.
+	 */
+	private static final long TEMP_FILE_AGE= 60 * 1000;
+
+	/**
+	 * @param stamp describes the root when the content was rendered
+	 * @param content the rendered Javadoc, or <code>null</code> if the element has no Javadoc
+	 */
+	private record Entry(String stamp, String content) {
+	}
+
+	private record StoredFile(File file, long lastModified, long length) {
+	}
+
+	private static JavadocContentCache fgInstance;
+
+	private final Map<String, Entry> fEntries= new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	/**
+	 * The stamps of the roots, {@link #NO_STAMP} for roots whose elements are not cached. Guards
+	 * {@link #fPrewarmedRoots} and {@link #fStampsGeneration} as well.
+	 */
+	private final Map<IPackageFragmentRoot, String> fStamps= new HashMap<>();
+
+	private final Set<IPackageFragmentRoot> fPrewarmedRoots= new HashSet<>();
+
+	private int fStampsGeneration;
+
+	private final IElementChangedListener fElementChangedListener= event -> {
+		// changes limited to compilation units do not change any root
+		if (!CompilationUnitDeltas.visit(event.getDelta(), delta -> true))
+			clearStamps();
+	};
+
+	private final File fStoreDirectory;
+
+	private final int fMaxStoredEntries;
+
+	private final long fMaxStoreSize;
+
+	private final ConcurrentLinkedQueue<ITypeRoot> fPrewarmQueue= new ConcurrentLinkedQueue<>();
+
+	private final Job fPrewarmJob= new Job(JavaDocMessages.JavadocContentCache_prewarmJob_name) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			ITypeRoot typeRoot;
+			while ((typeRoot= fPrewarmQueue.poll()) != null) {
+				if (monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				prewarm(typeRoot, monitor);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JavadocContentCache.this;
+		}
+	};
+
+	private final AtomicInteger fWritesSincePrune= new AtomicInteger();
+
+	private final Job fPruneJob= new Job(JavaDocMessages.JavadocContentCache_pruneJob_name) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			pruneStore();
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JavadocContentCache.this;
+		}
+	};
+
+	/**
+	 * Creates a cache storing its entries in the given directory. The store is pruned in the
+	 * background, the jobs of the cache belong to the family of the cache.
+	 *
+	 * @param storeDirectory the directory to store the entries in, or <code>null</code> to cache
+	 *            in memory only
+	 * @param maxStoredEntries the maximum number of stored entries
+	 * @param maxStoreSize the maximum total size of the stored entries in bytes
+	 */
+	public JavadocContentCache(File storeDirectory, int maxStoredEntries, long maxStoreSize) {
+		fStoreDirectory= storeDirectory;
+		fMaxStoredEntries= maxStoredEntries;
+		fMaxStoreSize= maxStoreSize;
+		fPrewarmJob.setSystem(true);
+		fPrewarmJob.setPriority(Job.DECORATE);
+		fPruneJob.setSystem(true);
+		fPruneJob.setPriority(Job.DECORATE);
+		fPruneJob.schedule();
+		JavaCore.addElementChangedListener(fElementChangedListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public static synchronized JavadocContentCache getDefault() {
+		if (fgInstance == null) {
+			JavaPlugin plugin= JavaPlugin.getDefault();
+			File storeDirectory= plugin != null ? plugin.getStateLocation().append(STORE_LOCATION).toFile() : null;
+			fgInstance= new JavadocContentCache(storeDirectory, MAX_STORED_ENTRIES, MAX_STORE_SIZE);
+		}
+		return fgInstance;
+	}
+
+	public static void initDefaultPreferences(IPreferenceStore store) {
+		store.setDefault(PREF_PREWARM_ELEMENTS, 200);
+	}
+
+	/**
+	 * Stops the background jobs and the tracking of changed roots. The entries already stored are
+	 * kept.
+	 */
+	public void dispose() {
+		JavaCore.removeElementChangedListener(fElementChangedListener);
+		fPrewarmQueue.clear();
+		fPrewarmJob.cancel();
+		fPruneJob.cancel();
+	}
+
+	/**
+	 * Returns the rendered Javadoc of the given element.
+	 *
+	 * @param element the element to get the Javadoc of
+	 * @param useAttachedJavadoc if <code>true</code> Javadoc will be extracted from attached
+	 *            Javadoc if there's no source
+	 * @return the Javadoc comment content in HTML or <code>null</code> if the element does not have
+	 *         a Javadoc comment or if no source is available
+	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
+	 * @see CoreJavadocAccess#getHTMLContent(IJavaElement, boolean)
+	 */
+	public String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		String stamp= root != null ? getStamp(root) : null;
+		if (stamp == null)
+			return new CoreJavadocAccess().getHTMLContent(element, useAttachedJavadoc);
+
+		String key= element.getHandleIdentifier() + (useAttachedJavadoc ? "#attached" : "#source"); //$NON-NLS-1$ //$NON-NLS-2$
+		Entry entry;
+		synchronized (fEntries) {
+			entry= fEntries.get(key);
+		}
+		if (entry == null || !entry.stamp().equals(stamp)) {
+			entry= read(key, stamp);
+			if (entry == null) {
+				String content= new CoreJavadocAccess().getHTMLContent(element, useAttachedJavadoc);
+				if (content == null && isRemoteJavadoc(root))
+					return null;
+				entry= new Entry(stamp, content);
+				if (content != null && write(key, entry) && fWritesSincePrune.incrementAndGet() >= PRUNE_INTERVAL) {
+					fWritesSincePrune.set(0);
+					fPruneJob.schedule();
+				}
+			}
+			synchronized (fEntries) {
+				fEntries.put(key, entry);
+			}
+		}
+		return entry.content();
+	}
+
+	/**
+	 * Returns the stamp of the given root, computed once until the root or the classpath changes.
+	 *
+	 * @param root the package fragment root
+	 * @return the stamp, or <code>null</code> if the Javadoc of the elements in the root is not
+	 *         cached
+	 */
+	private String getStamp(IPackageFragmentRoot root) {
+		int generation;
+		synchronized (fStamps) {
+			String stamp= fStamps.get(root);
+			if (stamp != null)
+				return stamp.isEmpty() ? null : stamp;
+			generation= fStampsGeneration;
+		}
+		String stamp= computeStamp(root);
+		synchronized (fStamps) {
+			// the root may have changed while the stamp was computed
+			if (generation == fStampsGeneration)
+				fStamps.put(root, stamp != null ? stamp : NO_STAMP);
+		}
+		return stamp;
+	}
+
+	private void clearStamps() {
+		synchronized (fStamps) {
+			fStamps.clear();
+			fPrewarmedRoots.clear();
+			fStampsGeneration++;
+		}
+	}
+
+	/**
+	 * Returns a description of the given root which changes whenever the rendered Javadoc of its
+	 * elements may change.
+	 *
+	 * @param root the package fragment root
+	 * @return the stamp, or <code>null</code> if the Javadoc of the elements in the root is not
+	 *         cached
+	 */
+	private static String computeStamp(IPackageFragmentRoot root) {
+		if (!root.isArchive())
+			return null;
+		try {
+			IResource resource= root.getResource();
+			IPath location= resource != null ? resource.getLocation() : root.getPath();
+			if (location == null)
+				return null;
+			File archive= location.toFile();
+			long lastModified= archive.lastModified();
+			if (lastModified == 0)
+				return null;
+			IPath sourceAttachment= root.getSourceAttachmentPath();
+			File sourceAttachmentFile= sourceAttachment != null ? getFile(sourceAttachment) : null;
+			URL javadocLocation= CoreJavaDocLocations.getJavadocBaseLocation(root);
+			return VERSION + "|" + JavaPlugin.getDefault().getBundle().getVersion() //$NON-NLS-1$
+					+ '|' + Locale.getDefault()
+					+ '|' + archive + '|' + lastModified + '|' + archive.length()
+					+ '|' + sourceAttachment
+					+ (sourceAttachmentFile != null ? "|" + sourceAttachmentFile.lastModified() + '|' + sourceAttachmentFile.length() : "") //$NON-NLS-1$ //$NON-NLS-2$
+					+ '|' + javadocLocation;
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @param path the path of a source attachment, in the workspace or in the file system
+	 * @return the file in the file system, or <code>null</code> if the resource is not local
+	 */
+	private static File getFile(IPath path) {
+		IResource resource= ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		IPath location= resource != null ? resource.getLocation() : path;
+		return location != null ? location.toFile() : null;
+	}
+
+	/**
+	 * @param root the package fragment root
+	 * @return <code>true</code> if the attached Javadoc of the root is fetched from a remote location
+	 */
+	private static boolean isRemoteJavadoc(IPackageFragmentRoot root) {
+		try {
+			return isRemote(CoreJavaDocLocations.getJavadocBaseLocation(root));
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private static boolean isRemote(URL location) {
+		if (location == null)
+			return false;
+		String protocol= location.getProtocol();
+		if ("jar".equals(protocol)) { //$NON-NLS-1$
+			// jar:<URL of the archive>!/<path in the archive>
+			String archive= location.getPath();
+			protocol= archive.substring(0, Math.max(archive.indexOf(':'), 0));
+		}
+		return "http".equals(protocol) || "https".equals(protocol); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private File getStoreFile(String key) {
+		if (fStoreDirectory == null)
+			return null;
+		return new File(fStoreDirectory, Integer.toHexString(key.hashCode()) + '_' + Integer.toHexString(key.length()));
+	}
+
+	/**
+	 * Deletes the least recently used stored entries exceeding the maximum number or total size, and
+	 * temporary files left over from interrupted writes.
+	 */
+	private void pruneStore() {
+		File[] files= fStoreDirectory != null ? fStoreDirectory.listFiles() : null;
+		if (files == null)
+			return;
+		long now= System.currentTimeMillis();
+		List<StoredFile> storedFiles= new ArrayList<>(files.length);
+		for (File file : files) {
+			// the time stamps are read once, since they change when entries are used concurrently
+			long lastModified= file.lastModified();
+			if (file.getName().endsWith(TEMP_EXTENSION)) {
+				if (now - lastModified > TEMP_FILE_AGE)
+					file.delete();
+			} else {
+				storedFiles.add(new StoredFile(file, lastModified, file.length()));
+			}
+		}
+		storedFiles.sort(Comparator.comparingLong(StoredFile::lastModified).reversed());
+		long size= 0;
+		for (int i= 0; i < storedFiles.size(); i++) {
+			StoredFile storedFile= storedFiles.get(i);
+			size+= storedFile.length();
+			if (i >= fMaxStoredEntries || size > fMaxStoreSize)
+				storedFile.file().delete();
+		}
+	}
+
+	/**
+	 * Reads a stored entry.
+	 *
+	 * @param key the key of the entry
+	 * @param stamp the current stamp of the root
+	 * @return the entry with the found Javadoc, or <code>null</code> if not stored, stored for a
+	 *         different key or outdated
+	 */
+	private Entry read(String key, String stamp) {
+		File file= getStoreFile(key);
+		if (file == null || !file.isFile())
+			return null;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (!key.equals(in.readUTF()))
+				return null;
+			if (!stamp.equals(in.readUTF())) {
+				in.close();
+				file.delete();
+				return null;
+			}
+			byte[] content= new byte[in.readInt()];
+			in.readFully(content);
+			// the time stamp tells which entries have been used least recently when pruning
+			file.setLastModified(System.currentTimeMillis());
+			return new Entry(stamp, new String(content, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			file.delete();
+			return null;
+		}
+	}
+
+	/**
+	 * Stores an entry. The file is replaced atomically where the file system allows it, so that
+	 * concurrent readers never see a partially written entry.
+	 *
+	 * @param key the key of the entry
+	 * @param entry the entry with the found Javadoc
+	 * @return <code>true</code> if the entry has been stored
+	 */
+	private boolean write(String key, Entry entry) {
+		String content= entry.content();
+		File file= getStoreFile(key);
+		if (file == null || content.length() > MAX_STORED_LENGTH)
+			return false;
+		File temp= null;
+		try {
+			File directory= file.getParentFile();
+			directory.mkdirs();
+			temp= File.createTempFile(file.getName(), TEMP_EXTENSION, directory);
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeUTF(key);
+				out.writeUTF(entry.stamp());
+				byte[] bytes= content.getBytes(StandardCharsets.UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (IOException e) {
+			// the entry is kept in memory only
+			if (temp != null)
+				temp.delete();
+			return false;
+		}
+	}
+
+	/**
+	 * Renders the Javadoc of the library types referenced by the given type root in the background.
+	 *
+	 * @param typeRoot the input of an editor, can be <code>null</code>
+	 */
+	public void prewarm(ITypeRoot typeRoot) {
+		if (typeRoot == null || getPrewarmElements() <= 0)
+			return;
+		fPrewarmQueue.add(typeRoot);
+		fPrewarmJob.schedule();
+	}
+
+	private static int getPrewarmElements() {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		return plugin != null ? plugin.getPreferenceStore().getInt(PREF_PREWARM_ELEMENTS) : 0;
+	}
+
+	private void prewarm(ITypeRoot typeRoot, IProgressMonitor monitor) {
+		int remaining= getPrewarmElements();
+		try {
+			IType[] types;
+			if (typeRoot instanceof ICompilationUnit cu) {
+				IImportDeclaration[] imports= cu.getImports();
+				types= new IType[imports.length];
+				for (int i= 0; i < imports.length; i++) {
+					IImportDeclaration importDeclaration= imports[i];
+					if (!importDeclaration.isOnDemand() && !Flags.isStatic(importDeclaration.getFlags()))
+						types[i]= cu.getJavaProject().findType(importDeclaration.getElementName());
+				}
+			} else if (typeRoot instanceof IOrdinaryClassFile classFile) {
+				types= new IType[] { classFile.getType() };
+			} else {
+				return;
+			}
+			// the roots prewarmed for this type root, other roots have been prewarmed before
+			Set<IPackageFragmentRoot> roots= new HashSet<>();
+			for (IType type : types) {
+				if (type == null || !type.isBinary())
+					continue;
+				IPackageFragmentRoot root= (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+				if (root == null)
+					continue;
+				if (!roots.contains(root)) {
+					if (!canPrewarm(root) || !markPrewarmed(root))
+						continue;
+					roots.add(root);
+				}
+				remaining= prewarm(type, remaining, monitor);
+				if (remaining <= 0 || monitor.isCanceled())
+					return;
+			}
+		} catch (CoreException e) {
+			// the editor input has been closed or deleted
+		}
+	}
+
+	/**
+	 * @param root the root of a binary type
+	 * @return <code>true</code> if the Javadoc of the root is read from a source attachment or from
+	 *         local Javadoc, <code>false</code> if it would have to be fetched from a remote location
+	 * @throws JavaModelException if the root cannot be accessed
+	 */
+	private static boolean canPrewarm(IPackageFragmentRoot root) throws JavaModelException {
+		if (isRemoteJavadoc(root))
+			return false;
+		return root.getSourceAttachmentPath() != null || CoreJavaDocLocations.getJavadocBaseLocation(root) != null;
+	}
+
+	/**
+	 * @param root the root to prewarm
+	 * @return <code>true</code> if the root has not been prewarmed since it last changed
+	 */
+	private boolean markPrewarmed(IPackageFragmentRoot root) {
+		synchronized (fStamps) {
+			return fPrewarmedRoots.add(root);
+		}
+	}
+
+	private int prewarm(IType type, int remaining, IProgressMonitor monitor) throws CoreException {
+		getHTMLContent(type, true);
+		remaining--;
+		for (IJavaElement child : type.getChildren()) {
+			if (remaining <= 0 || monitor.isCanceled())
+				break;
+			if (child instanceof IMember member && Flags.isPublic(member.getFlags())) {
+				getHTMLContent(member, true);
+				remaining--;
+			}
+		}
+		return remaining;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -28,6 +38,7 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
 
 
 /**
@@ -37,6 +48,41 @@ import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
  */
 public class JavaSpellingEngine extends SpellingEngine {
 
+	/**
+	 * The maximum number of threads which check the partitions of a document. The partitions are
+	 * checked in the calling thread if this is <code>1</code>.
+	 *
+	 * @since 3.35
+	 */
+	private static final int PARALLELISM= Math.min(4, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * The minimum number of partitions for which checking is distributed over several threads.
+	 * Fewer partitions, as after typing in a single comment, are checked in the calling thread.
+	 *
+	 * @since 3.35
+	 */
+	private static final int MIN_PARALLEL_PARTITIONS= 64;
+
+	/**
+	 * The threads checking the partitions of large documents, shared by all spelling engines. At
+	 * most {@link #PARALLELISM} threads are used, slices which cannot be queued are checked in the
+	 * calling thread. Idle threads are stopped.
+	 *
+	 * @since 3.35
+	 */
+	private static final ExecutorService fgExecutor= createExecutor();
+
+	private static ExecutorService createExecutor() {
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 10, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(4 * PARALLELISM), runnable -> {
+					Thread thread= new Thread(runnable, "Java Spelling Checker"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
 
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.spelling.SpellingEngine#check(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IRegion[], org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker, org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector, org.eclipse.core.runtime.IProgressMonitor)
@@ -46,21 +92,105 @@ public class JavaSpellingEngine extends SpellingEngine {
 		SpellEventListener listener= new SpellEventListener(collector, document);
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
 		try {
+			List<ITypedRegion> partitions= new ArrayList<>();
 			for (IRegion region : regions) {
 				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
-					if (monitor != null && monitor.isCanceled())
-						return;
-					if (listener.isProblemsThresholdReached())
-						return;
 					final String type= partition.getType();
 					if (isIgnoringJavaStrings && (IJavaPartitions.JAVA_STRING.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)))
 						continue;
 					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+						partitions.add(partition);
 				}
 			}
+
+			if (PARALLELISM > 1 && partitions.size() >= MIN_PARALLEL_PARTITIONS) {
+				checkInParallel(document, partitions, checker, listener, monitor);
+				return;
+			}
+
+			for (ITypedRegion partition : partitions) {
+				if (monitor != null && monitor.isCanceled())
+					return;
+				if (listener.isProblemsThresholdReached())
+					return;
+				checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+			}
 		} catch (BadLocationException | AssertionFailedException x) {
 			// ignore: the document has been changed in another thread and will be checked again
 		}
 	}
+
+	/**
+	 * Checks consecutive slices of the partitions in parallel and reports the spelling problems in
+	 * the order of the partitions, as if they were checked in the calling thread. The first slice is
+	 * checked in the calling thread. The slices still running are stopped once the threshold of
+	 * problems is reached or the monitor is canceled.
+	 *
+	 * @param document the document
+	 * @param partitions the partitions to check
+	 * @param checker the spell checker
+	 * @param listener the listener for the spelling problems
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @since 3.35
+	 */
+	private void checkInParallel(IDocument document, List<ITypedRegion> partitions, ISpellChecker checker, SpellEventListener listener, IProgressMonitor monitor) {
+		int threshold= listener.getProblemsThreshold();
+		int count= partitions.size();
+		AtomicBoolean stopped= new AtomicBoolean();
+		List<Future<List<ISpellEvent>>> slices= new ArrayList<>(PARALLELISM - 1);
+		try {
+			for (int i= 1; i < PARALLELISM; i++) {
+				List<ITypedRegion> slice= partitions.subList(i * count / PARALLELISM, (i + 1) * count / PARALLELISM);
+				slices.add(fgExecutor.submit(() -> check(document, slice, checker, threshold, stopped, monitor)));
+			}
+
+			List<ISpellEvent> first= check(document, partitions.subList(0, count / PARALLELISM), checker, threshold, stopped, monitor);
+			if (!handle(first, listener, monitor))
+				return;
+			for (Future<List<ISpellEvent>> slice : slices) {
+				if (!handle(slice.get(), listener, monitor))
+					return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			stopped.set(true);
+			for (Future<List<ISpellEvent>> slice : slices) {
+				slice.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Reports the spelling problems of a slice.
+	 *
+	 * @param events the spelling problems of the slice
+	 * @param listener the listener for the spelling problems
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return <code>false</code> if the threshold of problems is reached or the monitor is canceled
+	 */
+	private static boolean handle(List<ISpellEvent> events, SpellEventListener listener, IProgressMonitor monitor) {
+		for (ISpellEvent event : events) {
+			if (listener.isProblemsThresholdReached() || monitor != null && monitor.isCanceled())
+				return false;
+			listener.handle(event);
+		}
+		return !listener.isProblemsThresholdReached();
+	}
+
+	private static List<ISpellEvent> check(IDocument document, List<ITypedRegion> partitions, ISpellChecker checker, int threshold, AtomicBoolean stopped, IProgressMonitor monitor) {
+		List<ISpellEvent> events= new ArrayList<>();
+		for (ITypedRegion partition : partitions) {
+			if (stopped.get() || monitor != null && monitor.isCanceled())
+				break;
+			if (events.size() >= threshold)
+				break;
+			checker.execute(events::add, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+		}
+		return events;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,6 +81,10 @@ public abstract class SpellingEngine implements ISpellingEngine {
 		boolean isProblemsThresholdReached() {
 			return fProblemCount >= fProblemsThreshold;
 		}
+
+		int getProblemsThreshold() {
+			return fProblemsThreshold;
+		}
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,15 +22,21 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -86,6 +93,54 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		}
 	}
 
+	/**
+	 * Buffers for the UTF-8 encoding of a checked word and its lower case form, which are compared
+	 * with the encoded candidates of the dictionary without allocating.
+	 * @since 3.35
+	 */
+	private static final class WordBuffer {
+
+		private final CharsetEncoder fEncoder= StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		private ByteBuffer fWord= ByteBuffer.allocate(BUFFER_CAPACITY * 3);
+
+		private ByteBuffer fLowerCaseWord= ByteBuffer.allocate(BUFFER_CAPACITY * 3);
+
+		private boolean fIsLowerCase;
+
+		void set(String word) {
+			fWord= encode(word, fWord);
+			String lowerCaseWord= word.toLowerCase();
+			fIsLowerCase= lowerCaseWord.equals(word);
+			if (!fIsLowerCase)
+				fLowerCaseWord= encode(lowerCaseWord, fLowerCaseWord);
+		}
+
+		boolean matches(byte[] candidate) {
+			return equals(candidate, fWord) || !fIsLowerCase && equals(candidate, fLowerCaseWord);
+		}
+
+		private ByteBuffer encode(String word, ByteBuffer buffer) {
+			int maxLength= (int) (word.length() * fEncoder.maxBytesPerChar());
+			if (buffer.capacity() < maxLength)
+				buffer= ByteBuffer.allocate(maxLength);
+			buffer.clear();
+			fEncoder.reset();
+			fEncoder.encode(CharBuffer.wrap(word), buffer, true);
+			fEncoder.flush(buffer);
+			return buffer;
+		}
+
+		private static boolean equals(byte[] candidate, ByteBuffer word) {
+			return Arrays.equals(candidate, 0, candidate.length, word.array(), 0, word.position());
+		}
+	}
+
+	/**
+	 * The word buffers of the checking threads.
+	 * @since 3.35
+	 */
+	private static final ThreadLocal<WordBuffer> fgWordBuffers= ThreadLocal.withInitial(WordBuffer::new);
 
 	/**
 	 * Canonical name for UTF-8 encoding
@@ -114,11 +169,17 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The mapping from phonetic hashes to word lists */
 	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
 
+	/**
+	 * The compiled form of the word list, or <code>null</code> if not available.
+	 * @since 3.35
+	 */
+	private volatile CompiledSpellDictionary fCompiledDictionary;
+
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
 
 	/** Is the dictionary already loaded? */
-	private boolean fLoaded= false;
+	private volatile boolean fLoaded= false;
 	/**
 	 * Must the dictionary be loaded?
 	 * @since 3.2
@@ -141,6 +202,23 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return 32;
 	}
 
+	/**
+	 * Returns the file in which the compiled form of the word list is kept.
+	 * <p>
+	 * The word list is compiled when it is loaded for the first time. Subsequent loads map the
+	 * compiled file into memory instead of reading the word list, which is much faster and does not
+	 * keep the words on the heap. Only read-only dictionaries should be compiled: words added with
+	 * {@link #hashWord(String)} after the word list has been compiled are not compiled.
+	 * </p>
+	 *
+	 * @return the file for the compiled word list, or <code>null</code> if the word list is not
+	 *         compiled
+	 * @since 3.35
+	 */
+	protected File getCompiledDictionaryFile() {
+		return null;
+	}
+
 	/**
 	 * Returns all candidates with the same phonetic hash.
 	 *
@@ -156,7 +234,27 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			JavaPlugin.log(e);
 			return null;
 		}
-		return fHashBuckets.get(hashBytes);
+		Object bucket= fHashBuckets.get(hashBytes);
+		CompiledSpellDictionary compiled= fCompiledDictionary;
+		if (compiled == null)
+			return bucket;
+		Object compiledBucket= compiled.getCandidates(hashBytes.byteArray);
+		if (bucket == null)
+			return compiledBucket;
+		if (compiledBucket == null)
+			return bucket;
+		ArrayList<byte[]> merged= new ArrayList<>(BUCKET_CAPACITY);
+		addBucket(merged, compiledBucket);
+		addBucket(merged, bucket);
+		return merged;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addBucket(ArrayList<byte[]> list, Object bucket) {
+		if (bucket instanceof byte[])
+			list.add((byte[]) bucket);
+		else
+			list.addAll((ArrayList<byte[]>) bucket);
 	}
 
 	/**
@@ -314,7 +412,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		CompiledSpellDictionary compiled= fCompiledDictionary;
+		return fHashBuckets.isEmpty() && (compiled == null || compiled.isEmpty());
 	}
 
 	/**
@@ -509,31 +608,14 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		final Object candidates= getCandidates(fHashProvider.getHash(word));
 		if (candidates == null)
 			return false;
-		else if (candidates instanceof byte[]) {
-			String candidate;
-			try {
-				candidate= new String((byte[])candidates, UTF_8);
-			} catch (UnsupportedEncodingException e) {
-				JavaPlugin.log(e);
-				return false;
-			}
-			if (candidate.equals(word) || candidate.equals(word.toLowerCase()))
-				return true;
-			return false;
-		}
+		final WordBuffer buffer= fgWordBuffers.get();
+		buffer.set(word);
+		if (candidates instanceof byte[])
+			return buffer.matches((byte[]) candidates);
 		@SuppressWarnings("unchecked")
 		final ArrayList<byte[]> candidateList= (ArrayList<byte[]>)candidates;
-		byte[] wordBytes;
-		byte[] lowercaseWordBytes;
-		try {
-			wordBytes= word.getBytes(UTF_8);
-			lowercaseWordBytes= word.toLowerCase().getBytes(UTF_8);
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return false;
-		}
 		for (byte[] candidate : candidateList) {
-			if (Arrays.equals(candidate, wordBytes) || Arrays.equals(candidate, lowercaseWordBytes)) {
+			if (buffer.matches(candidate)) {
 				return true;
 			}
 		}
@@ -574,7 +656,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		return fLoaded || fHashBuckets.size() > 0 || fCompiledDictionary != null;
 	}
 
 	/**
@@ -590,6 +672,17 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			 return fLoaded;
 
 		if (url != null) {
+			File compiledFile= getCompiledDictionaryFile();
+			String stamp= compiledFile != null ? getCompiledDictionaryStamp(url) : null;
+			if (stamp != null) {
+				CompiledSpellDictionary compiled= CompiledSpellDictionary.open(compiledFile, stamp);
+				if (compiled != null) {
+					fCompiledDictionary= compiled;
+					fMustLoad= false;
+					return true;
+				}
+			}
+
 			InputStream stream= null;
 			int line= 0;
 			try {
@@ -627,6 +720,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 								hashWord(word);
 						}
 					}
+					if (stamp != null)
+						compile(compiledFile, stamp);
 					return true;
 				}
 			} catch (FileNotFoundException ex) {
@@ -659,6 +754,54 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return false;
 	}
 
+	/**
+	 * Returns a stamp which changes whenever the word list, the way it is read or the way it is
+	 * hashed change.
+	 *
+	 * @param url the URL of the word list
+	 * @return the stamp, or <code>null</code> if the word list does not exist
+	 * @since 3.35
+	 */
+	private String getCompiledDictionaryStamp(URL url) {
+		try {
+			URLConnection connection= url.openConnection();
+			try (InputStream stream= connection.getInputStream()) {
+				return url.toString() + '|' + connection.getContentLengthLong() + '|' + connection.getLastModified() + '|' + getEncoding() + '|' + fHashProvider.getClass().getName();
+			}
+		} catch (IOException e) {
+			// the word list is reported when it is read
+			return null;
+		}
+	}
+
+	/**
+	 * Compiles the loaded word list and switches to the compiled form, so that the words are no
+	 * longer kept on the heap.
+	 *
+	 * @param file the file for the compiled word list
+	 * @param stamp the stamp of the word list
+	 * @since 3.35
+	 */
+	private void compile(File file, String stamp) {
+		List<byte[]> hashes= new ArrayList<>(fHashBuckets.size());
+		List<Object> buckets= new ArrayList<>(fHashBuckets.size());
+		for (Map.Entry<ByteArrayWrapper, Object> entry : fHashBuckets.entrySet()) {
+			hashes.add(entry.getKey().byteArray);
+			buckets.add(entry.getValue());
+		}
+		try {
+			CompiledSpellDictionary.write(file, stamp, hashes, buckets);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			return;
+		}
+		CompiledSpellDictionary compiled= CompiledSpellDictionary.open(file, stamp);
+		if (compiled != null) {
+			fCompiledDictionary= compiled;
+			fHashBuckets.clear();
+		}
+	}
+
 	/**
 	 * Compacts the dictionary.
 	 *
@@ -698,6 +841,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		fLoaded= false;
 		fMustLoad= true;
 		fHashBuckets.clear();
+		fCompiledDictionary= null;
 	}
 
 	@Override
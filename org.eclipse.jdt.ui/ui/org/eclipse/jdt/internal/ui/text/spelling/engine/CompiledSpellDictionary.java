@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+
+/**
+ * Read-only, memory-mapped form of a word list dictionary.
+ * <p>
+ * The file contains an open addressing hash table from phonetic hashes to the offsets of the
+ * buckets, followed by the buckets with the words of each phonetic hash. Buckets are only decoded
+ * when they are looked up, so opening a compiled dictionary neither reads the words nor allocates
+ * memory for them.
+ * </p>
+ * <p>
+ * The file starts with a stamp describing the word list it was compiled from. A file with a
+ * different stamp is not opened, so that changed word lists are compiled again.
+ * </p>
+ *
+ * @since 3.35
+ */
+final class CompiledSpellDictionary {
+
+	private static final int MAGIC= 0x4A535044; // "JSPD"
+
+	/**
+	 * Version of the format, to be increased on incompatible changes.
+	 */
+	private static final int VERSION= 1;
+
+	/** The mapped file */
+	private final ByteBuffer fBuffer;
+
+	/** The offset of the hash table */
+	private final int fTableOffset;
+
+	/** The number of slots of the hash table, a power of two */
+	private final int fTableSize;
+
+	/** The number of buckets */
+	private final int fBucketCount;
+
+	private CompiledSpellDictionary(ByteBuffer buffer, int tableOffset, int tableSize, int bucketCount) {
+		fBuffer= buffer;
+		fTableOffset= tableOffset;
+		fTableSize= tableSize;
+		fBucketCount= bucketCount;
+	}
+
+	/**
+	 * Opens a compiled dictionary.
+	 *
+	 * @param file the compiled dictionary
+	 * @param stamp the stamp of the word list
+	 * @return the compiled dictionary, or <code>null</code> if the file does not exist, is invalid
+	 *         or has been compiled from a different word list
+	 */
+	static CompiledSpellDictionary open(File file, String stamp) {
+		if (!file.isFile())
+			return null;
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size= channel.size();
+			if (size > Integer.MAX_VALUE)
+				return null;
+			// the mapping stays valid after the channel is closed
+			ByteBuffer buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+				return null;
+			int stampLength= buffer.getInt(8);
+			byte[] stampBytes= new byte[stampLength];
+			buffer.get(12, stampBytes);
+			if (!Arrays.equals(stampBytes, stamp.getBytes(StandardCharsets.UTF_8)))
+				return null;
+			int offset= 12 + stampLength;
+			int tableSize= buffer.getInt(offset);
+			int bucketCount= buffer.getInt(offset + 4);
+			int tableOffset= offset + 8;
+			if (Integer.bitCount(tableSize) != 1 || tableOffset + 4L * tableSize > size)
+				return null;
+			return new CompiledSpellDictionary(buffer, tableOffset, tableSize, bucketCount);
+		} catch (IOException | RuntimeException e) {
+			JavaPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a compiled dictionary. The file is replaced atomically where the file system allows it,
+	 * so a concurrently opened compiled dictionary is never read while it is written.
+	 *
+	 * @param file the compiled dictionary
+	 * @param stamp the stamp of the word list
+	 * @param hashes the phonetic hashes encoded in UTF-8
+	 * @param buckets the buckets of the hashes at the same index, either a <code>byte[]</code> with
+	 *            a single UTF-8 encoded word or a list of <code>byte[]</code>
+	 * @throws IOException if writing fails
+	 */
+	static void write(File file, String stamp, List<byte[]> hashes, List<Object> buckets) throws IOException {
+		int bucketCount= hashes.size();
+		int tableSize= Integer.highestOneBit(Math.max(bucketCount, 1) * 2 - 1) << 1;
+		byte[] stampBytes= stamp.getBytes(StandardCharsets.UTF_8);
+		int tableOffset= 12 + stampBytes.length + 8;
+
+		int[] table= new int[tableSize];
+		long offset= tableOffset + 4L * tableSize;
+		for (int i= 0; i < bucketCount; i++) {
+			int slot= getSlot(hashes.get(i), tableSize);
+			while (table[slot] != 0) {
+				slot= (slot + 1) & (tableSize - 1);
+			}
+			table[slot]= (int) offset;
+			offset+= getBucketSize(hashes.get(i), buckets.get(i));
+			if (offset > Integer.MAX_VALUE)
+				throw new IOException("Dictionary too large: " + file); //$NON-NLS-1$
+		}
+
+		File directory= file.getParentFile();
+		if (directory != null)
+			directory.mkdirs();
+		File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 64 * 1024))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(stampBytes.length);
+			out.write(stampBytes);
+			out.writeInt(tableSize);
+			out.writeInt(bucketCount);
+			for (int slot : table) {
+				out.writeInt(slot);
+			}
+			for (int i= 0; i < bucketCount; i++) {
+				byte[] hash= hashes.get(i);
+				out.writeInt(hash.length);
+				out.write(hash);
+				Object bucket= buckets.get(i);
+				if (bucket instanceof byte[] word) {
+					out.writeInt(1);
+					out.writeInt(word.length);
+					out.write(word);
+				} else {
+					List<?> words= (List<?>) bucket;
+					out.writeInt(words.size());
+					for (Object element : words) {
+						byte[] word= (byte[]) element;
+						out.writeInt(word.length);
+						out.write(word);
+					}
+				}
+			}
+		}
+		try {
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			temp.delete();
+			throw e;
+		}
+	}
+
+	private static int getBucketSize(byte[] hash, Object bucket) {
+		int size= 4 + hash.length + 4;
+		if (bucket instanceof byte[] word)
+			return size + 4 + word.length;
+		for (Object word : (List<?>) bucket) {
+			size+= 4 + ((byte[]) word).length;
+		}
+		return size;
+	}
+
+	private static int getSlot(byte[] hash, int tableSize) {
+		int h= Arrays.hashCode(hash);
+		return (h ^ (h >>> 16)) & (tableSize - 1);
+	}
+
+	/**
+	 * Returns the words with the given phonetic hash.
+	 *
+	 * @param hash the phonetic hash encoded in UTF-8
+	 * @return <code>null</code> if there are no words with this hash, a <code>byte[]</code> with the
+	 *         UTF-8 encoded word if there is one word, or an {@link ArrayList} of <code>byte[]</code>
+	 */
+	Object getCandidates(byte[] hash) {
+		try {
+			int slot= getSlot(hash, fTableSize);
+			while (true) {
+				int offset= fBuffer.getInt(fTableOffset + 4 * slot);
+				if (offset == 0)
+					return null;
+				if (matches(offset, hash))
+					return readBucket(offset + 4 + hash.length);
+				slot= (slot + 1) & (fTableSize - 1);
+			}
+		} catch (IndexOutOfBoundsException e) {
+			// damaged file
+			JavaPlugin.log(e);
+			return null;
+		}
+	}
+
+	private boolean matches(int offset, byte[] hash) {
+		if (fBuffer.getInt(offset) != hash.length)
+			return false;
+		for (int i= 0; i < hash.length; i++) {
+			if (fBuffer.get(offset + 4 + i) != hash[i])
+				return false;
+		}
+		return true;
+	}
+
+	private Object readBucket(int offset) {
+		int count= fBuffer.getInt(offset);
+		offset+= 4;
+		if (count == 1)
+			return readWord(offset);
+		ArrayList<byte[]> words= new ArrayList<>(count);
+		for (int i= 0; i < count; i++) {
+			byte[] word= readWord(offset);
+			words.add(word);
+			offset+= 4 + word.length;
+		}
+		return words;
+	}
+
+	private byte[] readWord(int offset) {
+		byte[] word= new byte[fBuffer.getInt(offset)];
+		fBuffer.get(offset + 4, word);
+		return word;
+	}
+
+	/**
+	 * @return <code>true</code> if the dictionary contains no words
+	 */
+	boolean isEmpty() {
+		return fBucketCount == 0;
+	}
+}
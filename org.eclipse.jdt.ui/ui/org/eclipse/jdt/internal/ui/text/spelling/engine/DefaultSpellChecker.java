@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -44,9 +44,9 @@ public class DefaultSpellChecker implements ISpellChecker {
 	 */
 	protected static boolean isDigits(final String word) {
 
-		for (char c : word.toCharArray()) {
+		for (int index= word.length() - 1; index >= 0; index--) {
 
-			if (Character.isDigit(c))
+			if (Character.isDigit(word.charAt(index)))
 				return true;
 		}
 		return false;
@@ -124,15 +124,15 @@ public class DefaultSpellChecker implements ISpellChecker {
 	}
 
 	/**
-	 * The dictionaries to use for spell checking. Synchronized to avoid
-	 * concurrent modifications.
+	 * The dictionaries to use for spell checking. Dictionaries are rarely added or removed, so
+	 * reading threads iterate over a snapshot instead of copying or locking the set.
 	 */
-	private final Set<ISpellDictionary> fDictionaries= Collections.synchronizedSet(new HashSet<ISpellDictionary>());
+	private final Set<ISpellDictionary> fDictionaries= new CopyOnWriteArraySet<>();
 
 	/**
-	 * The words to be ignored. Synchronized to avoid concurrent modifications.
+	 * The words to be ignored.
 	 */
-	private final Set<String> fIgnored= Collections.synchronizedSet(new HashSet<String>());
+	private final Set<String> fIgnored= ConcurrentHashMap.newKeySet();
 
 	/**
 	 * The preference store. Assumes the <code>IPreferenceStore</code>
@@ -162,21 +162,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void addDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
 		fDictionaries.add(dictionary);
 	}
 
 	@Override
 	public boolean acceptsWords() {
-		// synchronizing might not be needed here since acceptWords is
-		// a read-only access and only called in the same thread as
-		// the modifying methods add/checkWord (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 
 			if (dictionary.acceptsWords())
 				return true;
@@ -186,14 +177,8 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public void addWord(final String word) {
-		// synchronizing is necessary as this is a write access
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final String addable= word.toLowerCase();
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
@@ -202,7 +187,6 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void checkWord(final String word) {
-		// synchronizing is necessary as this is a write access
 		fIgnored.remove(word.toLowerCase());
 	}
 
@@ -220,9 +204,8 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 		iterator.setIgnoreSingleLetters(ignoreSingleLetters);
 
-		Iterator<ISpellDictionary> iter= fDictionaries.iterator();
-		while (iter.hasNext())
-			iter.next().setStripNonLetters(ignoreNonLetters);
+		for (ISpellDictionary dictionary : fDictionaries)
+			dictionary.setStripNonLetters(ignoreNonLetters);
 
 		String word= null;
 		boolean starts= false;
@@ -233,7 +216,6 @@ public class DefaultSpellChecker implements ISpellChecker {
 			word= iterator.next();
 			if (word != null) {
 
-				// synchronizing is necessary as this is called inside the reconciler
 				if (!fIgnored.contains(word)) {
 
 					starts= iterator.startsSentence();
@@ -264,17 +246,9 @@ public class DefaultSpellChecker implements ISpellChecker {
 	@Override
 	public Set<RankedWordProposal> getProposals(final String word, final boolean sentence) {
 
-		// synchronizing might not be needed here since getProposals is
-		// a read-only access and only called in the same thread as
-		// the modifing methods add/removeDictionary (?)
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		final HashSet<RankedWordProposal> proposals= new HashSet<>();
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			proposals.addAll(dictionary.getProposals(word, sentence));
 		}
 		return proposals;
@@ -282,22 +256,15 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void ignoreWord(final String word) {
-		// synchronizing is necessary as this is a write access
 		fIgnored.add(word.toLowerCase());
 	}
 
 	@Override
 	public final boolean isCorrect(final String word) {
-		// synchronizing is necessary as this is called from execute
-		Set<ISpellDictionary> copy;
-		synchronized (fDictionaries) {
-			copy= new HashSet<>(fDictionaries);
-		}
-
 		if (fIgnored.contains(word.toLowerCase()))
 			return true;
 
-		for (ISpellDictionary dictionary : copy) {
+		for (ISpellDictionary dictionary : fDictionaries) {
 			if (dictionary.isCorrect(word))
 				return true;
 		}
@@ -306,7 +273,6 @@ public class DefaultSpellChecker implements ISpellChecker {
 
 	@Override
 	public final void removeDictionary(final ISpellDictionary dictionary) {
-		// synchronizing is necessary as this is a write access
 		fDictionaries.remove(dictionary);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,8 +63,10 @@ import org.eclipse.jdt.internal.ui.callhierarchy.ExpandWithConstructorsConfigura
 import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
 import org.eclipse.jdt.internal.ui.preferences.NewJavaProjectPreferencePage;
 import org.eclipse.jdt.internal.ui.preferences.formatter.FormatterProfileManager;
+import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
 import org.eclipse.jdt.internal.ui.text.java.CompletionProposalComputerRegistry;
 import org.eclipse.jdt.internal.ui.text.java.ProposalSorterRegistry;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLinks;
 
@@ -4457,6 +4459,10 @@ public class PreferenceConstants {
 
 		// Javadoc hover & view
 		JavaElementLinks.initDefaultPreferences(store);
+		JavadocContentCache.initDefaultPreferences(store);
+
+		// Quick fix & assist
+		JavaCorrectionProcessor.initDefaultPreferences(store);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,6 +86,7 @@ public class JarPackageData {
 	private IPath		fJarLocation; // external location
 	private boolean	fOverwrite;
 	private boolean	fCompress;
+	private boolean	fIncrementalExport;
 
 	private boolean	fSaveDescription;
 	private IPath		fDescriptionLocation; // internal location
@@ -197,6 +198,30 @@ public class JarPackageData {
 		fCompress= state;
 	}
 
+	/**
+	 * Tells whether exporting the JAR again reuses the entries of unchanged files from the
+	 * previously exported JAR instead of reading the files again. Only uncompressed JARs are
+	 * exported incrementally, the entries of compressed JARs are always written in full.
+	 *
+	 * @return	<code>true</code> if the JAR is exported incrementally
+	 * @since 3.35
+	 */
+	public boolean isIncrementalExport() {
+		return fIncrementalExport;
+	}
+
+	/**
+	 * Sets whether exporting the JAR again reuses the entries of unchanged files from the
+	 * previously exported JAR. The previous JAR is only read, it is replaced once the new JAR has
+	 * been written completely.
+	 *
+	 * @param state a boolean indicating the new state
+	 * @since 3.35
+	 */
+	public void setIncrementalExport(boolean state) {
+		fIncrementalExport= state;
+	}
+
 	/**
 	 * Tells whether files can be overwritten without warning.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -63,6 +62,7 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackager.JarExportIndex;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerMessages;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
 
@@ -84,6 +84,12 @@ public class JarWriter3 {
 
 	private JarPackageData fJarPackage;
 
+	/**
+	 * The index of the entries of an uncompressed JAR exported incrementally, <code>null</code> if
+	 * not used.
+	 */
+	private JarExportIndex fExportIndex;
+
 	/**
 	* Gets the fJarOutputStream of this JarWriter3
 	*
@@ -124,13 +130,16 @@ public class JarWriter3 {
 		Assert.isTrue(fJarPackage.isValid(), "The JAR package specification is invalid"); //$NON-NLS-1$
 		if (!canCreateJar(parent))
 			throw new OperationCanceledException("Cannot create JAR with path: " + fJarPackage.getAbsoluteJarLocation()); //$NON-NLS-1$
+		if (fJarPackage.isIncrementalExport() && !fJarPackage.isCompressed())
+			fExportIndex= JarExportIndex.open(fJarPackage.getAbsoluteJarLocation().toFile());
+		File outputFile= fExportIndex != null ? fExportIndex.getOutputFile() : fJarPackage.getAbsoluteJarLocation().toFile();
 		JarOutputStream jos= null;
 		try {
 			if (fJarPackage.usesManifest() && fJarPackage.areGeneratedFilesExported()) {
 				Manifest manifest= fJarPackage.getManifestProvider().create(fJarPackage);
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())), manifest);
+				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile)), manifest);
 			} else {
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
+				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(outputFile)));
 			}
 			String comment= jarPackage.getComment();
 			if (comment != null)
@@ -150,7 +159,13 @@ public class JarWriter3 {
 					exception.addSuppressed(e);
 				}
 			}
+			if (fExportIndex != null)
+				fExportIndex.abort();
 			throw JarPackagerUtil.createCoreException(exception.getLocalizedMessage(), exception);
+		} catch (CoreException | RuntimeException exception) {
+			if (fExportIndex != null)
+				fExportIndex.abort();
+			throw exception;
 		}
 	}
 
@@ -256,18 +271,10 @@ public class JarWriter3 {
 	 * @throws	CoreException 		if the resource can-t be accessed
 	 */
 	protected void addFile(IFile resource, IPath path) throws IOException, CoreException {
-		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes;
-		try (InputStream contents= resource.getContents(false)) {
-			allBytes= contents.readAllBytes();
-		}
-		if (fJarPackage.isCompressed()) {
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		} else {
-			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
-		}
+		String name= path.toString().replace(File.separatorChar, '/');
+		JarEntry newEntry= new JarEntry(name);
+		long modificationStamp= resource.getModificationStamp();
+		long localTimeStamp= resource.getLocalTimeStamp();
 
 		long lastModified= System.currentTimeMillis();
 		URI locationURI= resource.getLocationURI();
@@ -280,8 +287,43 @@ public class JarWriter3 {
 		// Set modification time
 		newEntry.setTime(lastModified);
 
-		fJarOutputStream.putNextEntry(newEntry);
-		fJarOutputStream.write(allBytes);
+		if (fExportIndex != null) {
+			// copy the entry of an unchanged file from the previous JAR
+			ZipEntry previousEntry= fExportIndex.findUnchanged(name, resource, modificationStamp, localTimeStamp);
+			if (previousEntry != null) {
+				newEntry.setMethod(ZipEntry.STORED);
+				newEntry.setSize(previousEntry.getSize());
+				newEntry.setCrc(previousEntry.getCrc());
+				fJarOutputStream.putNextEntry(newEntry);
+				try (InputStream contents= fExportIndex.getInputStream(previousEntry)) {
+					contents.transferTo(fJarOutputStream);
+				}
+				fExportIndex.add(name, resource, modificationStamp, localTimeStamp, newEntry.getSize(), newEntry.getCrc());
+				return;
+			}
+		}
+
+		byte[] allBytes= null;
+		if (fJarPackage.isCompressed()) {
+			newEntry.setMethod(ZipEntry.DEFLATED);
+			// Entry is filled automatically.
+		} else {
+			// size and CRC are needed before the content is written
+			try (InputStream contents= resource.getContents(false)) {
+				allBytes= contents.readAllBytes();
+			}
+			newEntry.setMethod(ZipEntry.STORED);
+			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+		}
+
+		if (allBytes == null) {
+			JarPackagerUtilCore.addEntry(newEntry, resource.getContents(false), fJarOutputStream);
+		} else {
+			fJarOutputStream.putNextEntry(newEntry);
+			fJarOutputStream.write(allBytes);
+			if (fExportIndex != null)
+				fExportIndex.add(name, resource, modificationStamp, localTimeStamp, newEntry.getSize(), newEntry.getCrc());
+		}
 	}
 
 	/**
@@ -382,8 +424,12 @@ public class JarWriter3 {
 		if (fJarOutputStream != null)
 			try {
 				fJarOutputStream.close();
+				if (fExportIndex != null)
+					fExportIndex.commit();
 				registerInWorkspaceIfNeeded();
 			} catch (IOException ex) {
+				if (fExportIndex != null)
+					fExportIndex.abort();
 				throw JarPackagerUtil.createCoreException(ex.getLocalizedMessage(), ex);
 			}
 	}
@@ -456,15 +502,7 @@ public class JarWriter3 {
 		Assert.isNotNull(file);
 		Assert.isNotNull(path);
 		final JarEntry entry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes= Files.readAllBytes(file.toPath());
-		if (data.isCompressed())
-			entry.setMethod(ZipEntry.DEFLATED);
-		else {
-			entry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(entry, allBytes);
-		}
 		entry.setTime(System.currentTimeMillis());
-		fJarOutputStream.putNextEntry(entry);
-		fJarOutputStream.write(allBytes);
+		JarPackagerUtilCore.addFileEntry(entry, file, data.isCompressed(), fJarOutputStream);
 	}
 }
@@ -141,6 +141,7 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		private Deque<Integer> fOpenCustomRegionStartPositions = new ArrayDeque<>();
 		private Set<IRegion> fCurrentCustomRegions = new HashSet<>();
 		private int fLastScannedIndex;
+		private CompilationUnit fAST;
 
 		private FoldingStructureComputationContext(IDocument document, ProjectionAnnotationModel model, boolean allowCollapsing, IScanner scanner) {
 			Assert.isNotNull(document);
@@ -217,6 +218,20 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 			return fDefaultScanner;
 		}
 
+		/**
+		 * Sets the AST produced by the reconciler for the current contents of the input, if
+		 * available. Folding computation uses it instead of parsing the input again.
+		 *
+		 * @param ast the reconciled AST or <code>null</code>
+		 */
+		private void setAST(CompilationUnit ast) {
+			fAST= ast;
+		}
+
+		private CompilationUnit getAST() {
+			return fAST;
+		}
+
 		private void setSource(char[] source) {
 			if (fDefaultScanner != null)
 				fDefaultScanner.setSource(source);
@@ -766,7 +781,10 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 				fUpdatingCount++;
 				try {
-					update(createContext(false));
+					FoldingStructureComputationContext ctx= createContext(false);
+					if (ctx != null)
+						ctx.setAST(e.getDelta().getCompilationUnitAST());
+					update(ctx);
 				} finally {
 					fUpdatingCount--;
 				}
@@ -1378,22 +1396,9 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 
 	        char[] sourceArray= source.toCharArray();
 			ctx.getScanner().setSource(sourceArray);
-	        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-	        parser.setBindingsRecovery(true);
-	        parser.setStatementsRecovery(true);
-	        parser.setKind(ASTParser.K_COMPILATION_UNIT);
-	        parser.setResolveBindings(true);
-	        parser.setUnitName(unit.getElementName());
-	        parser.setProject(unit.getJavaProject());
-	        parser.setSource(unit);
-	        Map<String, String> options = unit.getJavaProject().getOptions(true);
-		    options.put(JavaCore.COMPILER_SOURCE, JavaCore.latestSupportedJavaVersion());
-		    options.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.latestSupportedJavaVersion());
-		    options.put(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, JavaCore.latestSupportedJavaVersion());
-		    options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-	        parser.setCompilerOptions(options);
-
-	        CompilationUnit ast = (CompilationUnit) parser.createAST(null);
+			CompilationUnit ast= ctx.getAST();
+			if (ast == null || !unit.equals(ast.getTypeRoot()))
+				ast= createAST(unit);
 	        FoldingVisitor visitor= new FoldingVisitor(ctx);
 			ast.accept(visitor);
 
@@ -1439,6 +1444,32 @@ public class DefaultJavaFoldingStructureProvider implements IJavaFoldingStructur
 		}
 	}
 
+	/**
+	 * Parses the given compilation unit for folding purposes. Only used when the reconciler did
+	 * not provide an AST for the current contents. The folding visitor only looks at the
+	 * structure of the tree, hence bindings are not resolved.
+	 *
+	 * @param unit the compilation unit to parse
+	 * @return the AST of the compilation unit
+	 * @throws JavaModelException if the options of the Java project cannot be accessed
+	 */
+	private CompilationUnit createAST(ICompilationUnit unit) throws JavaModelException {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setStatementsRecovery(true);
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setResolveBindings(false);
+		parser.setUnitName(unit.getElementName());
+		parser.setProject(unit.getJavaProject());
+		parser.setSource(unit);
+		Map<String, String> options= unit.getJavaProject().getOptions(true);
+		options.put(JavaCore.COMPILER_SOURCE, JavaCore.latestSupportedJavaVersion());
+		options.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.latestSupportedJavaVersion());
+		options.put(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, JavaCore.latestSupportedJavaVersion());
+		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		parser.setCompilerOptions(options);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
 	/**
 	 * Pops regions before limit and checks for custom folding comments.
 	 *